@@ -6,8 +6,14 @@ import android.os.Bundle;
 import android.view.View;
 import android.view.Window;
 import android.view.WindowManager;
+import android.widget.Button;
+import android.widget.FrameLayout;
 
+import butterknife.BindView;
+import butterknife.ButterKnife;
+import shafou.xospiel.R;
 import shafou.xospiel.GameLogic.XOGame;
+import shafou.xospiel.View.InfinitePlayingField;
 
 /**
  *
@@ -18,10 +24,25 @@ import shafou.xospiel.GameLogic.XOGame;
  *
  * Change log:
  * 1) 07.09.2017 ELF Class created.
+ * 2) 17.10.2026 ELF Optional computer opponent.
+ * 3) 17.10.2026 ELF Columns and rows of the playing field.
+ * 4) 17.10.2026 ELF Playing field without borders.
+ * 5) 17.10.2026 ELF Buttons to undo and redo moves.
+ * 6) 17.10.2026 ELF Every activity has its own game.
  */
 
 public class GameActivity extends Activity {
 
+    /** Holds the view of the playing field */
+    @BindView(R.id.playing_field_container) FrameLayout playingFieldContainer;
+
+    /** Buttons to take back and to play again a move */
+    @BindView(R.id.undo_btn) Button undoBtn;
+    @BindView(R.id.redo_btn) Button redoBtn;
+
+    /** Game of this activity or <code>null</code> on a playing field without borders */
+    private XOGame xOGame;
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -29,11 +50,57 @@ public class GameActivity extends Activity {
         setFullscreen();
 
         Intent gameMenuIntent = getIntent();
-        int fieldSize = gameMenuIntent.getIntExtra("field_size", 3);
+        int columns = gameMenuIntent.getIntExtra("columns", 3);
+        int rows = gameMenuIntent.getIntExtra("rows", 3);
         int tokens_to_win = gameMenuIntent.getIntExtra("tokens_to_win", 3);
+        boolean computerOpponent = gameMenuIntent.getBooleanExtra("computer_opponent", false);
+        boolean infiniteBoard = gameMenuIntent.getBooleanExtra("infinite_board", false);
+
+        /** The computer opponent only plays on playing fields with borders */
+        if(infiniteBoard) {
+
+            setContentView(new InfinitePlayingField(this, tokens_to_win));
+            return;
+        }
+
+        setContentView(R.layout.game);
+        ButterKnife.bind(this);
+
+        xOGame = new XOGame(this, columns, rows, tokens_to_win);
+        playingFieldContainer.addView(xOGame.spielfeld());
+        xOGame.setComputerGegner(computerOpponent);
+
+        initUndoRedoBtns();
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+
+        if(xOGame != null) {
+
+            xOGame.beenden();
+        }
+    }
+
+    /**
+     * Init undo and redo btns
+     */
+    private void initUndoRedoBtns() {
+
+        undoBtn.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                xOGame.rueckgaengig();
+            }
+        });
 
-        View gameView = XOGame.getInstance(this, fieldSize, tokens_to_win).spielfeld();
-        setContentView(gameView);
+        redoBtn.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                xOGame.wiederholen();
+            }
+        });
     }
 
     /**
@@ -2,9 +2,7 @@ package shafou.xospiel.Activities;
 
 import android.app.Activity;
 import android.content.Intent;
-import android.graphics.drawable.Drawable;
 import android.os.Bundle;
-import android.support.annotation.Nullable;
 import android.support.v7.app.AppCompatActivity;
 import android.view.View;
 import android.view.Window;
@@ -12,30 +10,32 @@ import android.view.WindowManager;
 import android.view.animation.Animation;
 import android.view.animation.AnimationUtils;
 import android.widget.Button;
-import android.widget.ImageButton;
+import android.widget.CheckBox;
+import android.widget.NumberPicker;
+import android.widget.TextView;
 import android.widget.ViewAnimator;
 
 import com.hanks.htextview.evaporate.EvaporateTextView;
 
 import java.util.List;
 
-import butterknife.BindDrawable;
 import butterknife.BindView;
 import butterknife.ButterKnife;
 import shafou.xospiel.R;
+import shafou.xospiel.GameLogic.Cell;
+import shafou.xospiel.GameLogic.GameArchive;
+import shafou.xospiel.GameLogic.WinningLines;
 import shafou.xospiel.GameLogic.XOGame;
-import shafou.xospiel.View.StatefulButton;
-import shafou.xospiel.View.StatefulButtons;
 import shafou.xospiel.View.XOPlayingField;
 
-import static shafou.xospiel.View.StatefulButton.State.SELECTED;
-
 /**
  *
  * This class contains the game menu activity.
  * <p>
  * In this activity the player can choose one game mode and how many tokens
- * are required to win a particular game.
+ * are required to win a particular game. A game mode presets the columns and
+ * rows of the playing field, both can be changed with their pickers. Up to as
+ * many tokens as the longer side of the playing field can be required to win.
  * </p>
  * <p>
  * This activity also contains a small preview of the game.
@@ -48,6 +48,12 @@ import static shafou.xospiel.View.StatefulButton.State.SELECTED;
  * Change log:
  * 1) 11.06.2017 ELF class created.
  * 2) 16.12.2017 ELF fixed bug when switching between game mode previews
+ * 3) 17.10.2026 ELF Computer opponent can be chosen.
+ * 4) 17.10.2026 ELF Columns and rows are taken from the game mode.
+ * 5) 17.10.2026 ELF Playing field without borders can be chosen.
+ * 6) 17.10.2026 ELF Statistics of the played games of the game mode.
+ * 7) 17.10.2026 ELF Columns, rows and tokens to win are chosen with pickers.
+ * 8) 17.10.2026 ELF Statistics are read in the background.
  */
 
 public class GameMenuActivity extends Activity {
@@ -59,17 +65,23 @@ public class GameMenuActivity extends Activity {
     /** TextView that shows the chosen game mode */
     @BindView(R.id.game_mode_text_view) EvaporateTextView gameModeTV;
 
-    /** Buttons that indicate how many tokens are required to win */
-    @BindView(R.id.three_tokens_btn) ImageButton threeTokensBtn;
-    @BindView(R.id.four_tokens_btn) ImageButton fourTokensBtn;
-    @BindView(R.id.five_tokens_btn) ImageButton fiveTokensBtn;
+    /** Pickers of the columns and rows of the playing field */
+    @BindView(R.id.columns_picker) NumberPicker columnsPicker;
+    @BindView(R.id.rows_picker) NumberPicker rowsPicker;
+
+    /** Picker of how many tokens are required to win */
+    @BindView(R.id.tokens_to_win_picker) NumberPicker tokensToWinPicker;
 
     @BindView(R.id.start_btn) Button startBtn;
 
-    /** Drawables of the tokens required to win buttons */
-    @BindDrawable(R.drawable.three) Drawable drawableThree;
-    @BindDrawable(R.drawable.four) Drawable drawableFour;
-    @BindDrawable(R.drawable.five) Drawable drawableFive;
+    /** Selects if the game is played against the computer */
+    @BindView(R.id.computer_opponent_cb) CheckBox computerOpponentCb;
+
+    /** Selects if the game is played on a playing field without borders */
+    @BindView(R.id.infinite_board_cb) CheckBox infiniteBoardCb;
+
+    /** Shows the statistics of the played games of the chosen game mode */
+    @BindView(R.id.game_stats_tv) TextView gameStatsTV;
 
     /** This view animator holds X/O playing field previews */
     @BindView(R.id.playing_fields_view_animator) ViewAnimator gameModePreviewViewAnimator;
@@ -77,11 +89,6 @@ public class GameMenuActivity extends Activity {
     /** Current index of the game mode */
     private int gameModeIndex = 0;
 
-    /** Stateful buttons that indicate how many tokens are required to win */
-    private StatefulButton sThreeTokensBtn;
-    private StatefulButton sFourTokensBtn;
-    private StatefulButton sFiveTokensBtn;
-
     /** All game modes */
     private final XOGame.Mode[] gameModes = XOGame.Mode.values();
 
@@ -108,7 +115,17 @@ public class GameMenuActivity extends Activity {
         /** Set the game mode to the first one */
         gameModeTV.setText(gameModeNames.get(0));
 
-        setUpGameTokensBtns();
+        setUpPickers();
+
+        applyGameMode();
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+
+        /** A game may have been finished since the menu was shown */
+        showGameStats();
     }
 
     /**
@@ -142,15 +159,20 @@ public class GameMenuActivity extends Activity {
 
     /**
      * Adds all X/O playing field previews to the view animator.
-     * For every game mode a preview of the playing field is added.
+     * For every game mode a preview of the playing field is added. The last
+     * preview shows a playing field whose size was changed with the pickers.
      */
     private void addPreviewsToViewAnimator() {
 
         for(XOGame.Mode gameMode: gameModes) {
 
-            XOPlayingField xOPF = new XOPlayingField(this, gameMode.getColumnsAndRows(), false);
+            XOPlayingField xOPF = new XOPlayingField(this, gameMode.getColumns(),
+                    gameMode.getRows(), false);
             gameModePreviewViewAnimator.addView(xOPF);
         }
+
+        gameModePreviewViewAnimator.addView(new XOPlayingField(this,
+                gameModes[0].getColumns(), gameModes[0].getRows(), false));
     }
 
     /**
@@ -171,7 +193,7 @@ public class GameMenuActivity extends Activity {
                 gameModeIndex--;
                 setGameModeIndex(gameModeNames.size());
                 gameModeTV.animateText(gameModeNames.get(gameModeIndex));
-                StatefulButtons.setNotSelectableButtons(gameModes[gameModeIndex]);
+                applyGameMode();
             }
         });
     }
@@ -181,16 +203,11 @@ public class GameMenuActivity extends Activity {
      */
     private void setLeftToRightPreviewAnimation() {
 
-        if(gameModeIndex != 0){
-
-            Animation leftIn = AnimationUtils.loadAnimation(this, R.anim.left_in);
-            Animation rightOut = AnimationUtils.loadAnimation(this, R.anim.right_out);
+        Animation leftIn = AnimationUtils.loadAnimation(this, R.anim.left_in);
+        Animation rightOut = AnimationUtils.loadAnimation(this, R.anim.right_out);
 
-            gameModePreviewViewAnimator.setInAnimation(leftIn);
-            gameModePreviewViewAnimator.setOutAnimation(rightOut);
-
-            gameModePreviewViewAnimator.showPrevious();
-        }
+        gameModePreviewViewAnimator.setInAnimation(leftIn);
+        gameModePreviewViewAnimator.setOutAnimation(rightOut);
     }
 
     /**
@@ -198,16 +215,38 @@ public class GameMenuActivity extends Activity {
      */
     private void setRightToLeftPreviewAnimation() {
 
-        if(gameModeIndex != gameModeNames.size() - 1) {
+        Animation leftOut = AnimationUtils.loadAnimation(this, R.anim.left_out);
+        Animation rightIn = AnimationUtils.loadAnimation(this, R.anim.right_in);
+
+        gameModePreviewViewAnimator.setOutAnimation(leftOut);
+        gameModePreviewViewAnimator.setInAnimation(rightIn);
+    }
+
+    /**
+     * Shows the preview of the chosen columns and rows. If they differ from
+     * the game mode, the last preview is replaced by a playing field of this
+     * size.
+     */
+    private void showPreview() {
 
-            Animation leftOut = AnimationUtils.loadAnimation(this, R.anim.left_out);
-            Animation rightIn = AnimationUtils.loadAnimation(this, R.anim.right_in);
+        XOGame.Mode gameMode = gameModes[gameModeIndex];
+        int columns = columnsPicker.getValue();
+        int rows = rowsPicker.getValue();
 
-            gameModePreviewViewAnimator.setOutAnimation(leftOut);
-            gameModePreviewViewAnimator.setInAnimation(rightIn);
+        if(columns == gameMode.getColumns() && rows == gameMode.getRows()) {
 
-            gameModePreviewViewAnimator.showNext();
+            gameModePreviewViewAnimator.setDisplayedChild(gameModeIndex);
+            return;
         }
+
+        int ownSize = gameModes.length;
+
+        gameModePreviewViewAnimator.setInAnimation(null);
+        gameModePreviewViewAnimator.setOutAnimation(null);
+        gameModePreviewViewAnimator.removeViewAt(ownSize);
+        gameModePreviewViewAnimator.addView(new XOPlayingField(this, columns, rows, false),
+                ownSize);
+        gameModePreviewViewAnimator.setDisplayedChild(ownSize);
     }
 
     /**
@@ -228,115 +267,151 @@ public class GameMenuActivity extends Activity {
                 gameModeIndex++;
                 setGameModeIndex(gameModeNames.size());
                 gameModeTV.animateText(gameModeNames.get(gameModeIndex));
-                StatefulButtons.setSelectableButtons(gameModes[gameModeIndex]);
+                applyGameMode();
             }
         });
     }
 
     /**
-     * Initialize the Token Buttons.
-     * If a button is clicked it is selected if possible.
+     * Initialize the pickers of the columns, rows and tokens to win.
+     * A playing field has room for at least the smallest amount of tokens to
+     * win and is at most as large as the largest game mode.
      */
-    private void setUpGameTokensBtns() {
-
-        /** 3 tokens stateful btn is default selected */
-        sThreeTokensBtn = new StatefulButton(SELECTED, threeTokensBtn,
-                drawableThree);
-
-        sFourTokensBtn = new StatefulButton(fourTokensBtn, drawableFour);
+    private void setUpPickers() {
 
-        sFiveTokensBtn = new StatefulButton(fiveTokensBtn, drawableFive);
+        int minimum = XOGame.Mode.getMinimumTokensToWin();
+        int maximum = XOGame.Mode.getMaximumSide();
 
-        /** Add all stateful buttons for management to stateful buttons */
-        StatefulButtons.add(sThreeTokensBtn);
-        StatefulButtons.add(sFourTokensBtn);
-        StatefulButtons.add(sFiveTokensBtn);
+        columnsPicker.setMinValue(minimum);
+        columnsPicker.setMaxValue(maximum);
+        rowsPicker.setMinValue(minimum);
+        rowsPicker.setMaxValue(maximum);
+        tokensToWinPicker.setMinValue(minimum);
+        tokensToWinPicker.setWrapSelectorWheel(false);
 
-        sThreeTokensBtn.getButton().setOnClickListener(new View.OnClickListener() {
+        NumberPicker.OnValueChangeListener sizeChanged = new NumberPicker.OnValueChangeListener() {
             @Override
-            public void onClick(View v) {
-                StatefulButtons.setSelected(sThreeTokensBtn);
-            }
-        });
+            public void onValueChange(NumberPicker picker, int oldVal, int newVal) {
 
-        sFourTokensBtn.getButton().setOnClickListener(new View.OnClickListener() {
-            @Override
-            public void onClick(View v) {
-                StatefulButtons.setSelected(sFourTokensBtn);
+                updateTokensToWinPicker();
+                gameModeTV.animateText(getString(R.string.field_size,
+                        columnsPicker.getValue(), rowsPicker.getValue()));
+                showPreview();
+                showGameStats();
             }
-        });
+        };
+
+        columnsPicker.setOnValueChangedListener(sizeChanged);
+        rowsPicker.setOnValueChangedListener(sizeChanged);
 
-        sFiveTokensBtn.getButton().setOnClickListener(new View.OnClickListener() {
+        tokensToWinPicker.setOnValueChangedListener(new NumberPicker.OnValueChangeListener() {
             @Override
-            public void onClick(View v) {
-                StatefulButtons.setSelected(sFiveTokensBtn);
+            public void onValueChange(NumberPicker picker, int oldVal, int newVal) {
+                showGameStats();
             }
         });
     }
 
     /**
-     * Init start btn
+     * Sets the pickers to the columns and rows of the chosen game mode and
+     * shows its preview and statistics.
      */
-    private void initStartBtn() {
+    private void applyGameMode() {
 
-        startBtn.setOnClickListener(new View.OnClickListener() {
-            @Override
-            public void onClick(View v) {
-                startGame();
-            }
-        });
+        XOGame.Mode gameMode = gameModes[gameModeIndex];
+
+        columnsPicker.setValue(gameMode.getColumns());
+        rowsPicker.setValue(gameMode.getRows());
+        updateTokensToWinPicker();
+        showPreview();
+        showGameStats();
     }
 
     /**
-     * Starts game activity
+     * Limits the tokens to win to the longer side of the playing field. A
+     * larger value is lowered by the picker.
      */
-    private void startGame() {
-
-        Intent gameActivity = new Intent(this, GameActivity.class);
-        gameActivity.putExtra("field_size", getFieldSize(gameModeIndex));
-        gameActivity.putExtra("tokens_to_win", getTokenNumberOfSelectedButton());
+    private void updateTokensToWinPicker() {
 
+        tokensToWinPicker.setMaxValue(Math.max(columnsPicker.getValue(), rowsPicker.getValue()));
+    }
 
-        startActivity(gameActivity);
+    /**
+     * Requests the statistics of the chosen columns, rows and tokens to win.
+     * The statistics are read from the index of the game archive in the
+     * background and shown when they arrive. The answers arrive in the order
+     * of the requests, so the last choice is shown last.
+     */
+    private void showGameStats() {
+
+        XOGame.gibStatistik(this, columnsPicker.getValue(), rowsPicker.getValue(),
+                tokensToWinPicker.getValue(), new XOGame.StatistikCallback() {
+                    @Override
+                    public void onStatistik(GameArchive.Stats statistik) {
+                        showGameStats(statistik);
+                    }
+                });
     }
 
     /**
-     * Returns number of required tokens to win button.
+     * Shows the statistics of a board size.
+     *
+     * @param stats Statistics or <code>null</code> if no game was played
      */
-    @Nullable
-    private Integer getTokenNumberOfSelectedButton() {
+    private void showGameStats(GameArchive.Stats stats) {
 
-        StatefulButton button = StatefulButtons.getSelected();
+        if(stats == null) {
 
-        if(button != null) {
+            gameStatsTV.setText(R.string.game_stats_empty);
+            return;
+        }
 
-            if(button.equals(sThreeTokensBtn)) {
+        String text = getString(R.string.game_stats, stats.getGames(),
+                Math.round(stats.getFirstPlayerWinRate() * 100), stats.getAverageLength());
 
-                return 3;
-            } else if(button.equals(sFourTokensBtn)) {
+        int line = stats.getTopLine(0);
 
-                return 4;
-            } else if(button.equals(sFiveTokensBtn)) {
+        if(line >= 0) {
 
-                return 5;
-            }
-        } else {
+            WinningLines lines = stats.getLines();
+            int columns = stats.getColumns();
+            int first = lines.getFirstCell(line);
+            int last = first + (stats.getTokensToWin() - 1) * lines.getStep(line);
 
-            throw new NullPointerException("No required tokens to win button " +
-                    "selected");
+            text += "\n" + getString(R.string.game_stats_line,
+                    Cell.column(first, columns) + 1, Cell.row(first, columns) + 1,
+                    Cell.column(last, columns) + 1, Cell.row(last, columns) + 1);
         }
 
-        return null;
+        gameStatsTV.setText(text);
+    }
+
+    /**
+     * Init start btn
+     */
+    private void initStartBtn() {
+
+        startBtn.setOnClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View v) {
+                startGame();
+            }
+        });
     }
 
-    private int getFieldSize(int gameModeIndex) {
+    /**
+     * Starts game activity
+     */
+    private void startGame() {
 
-        switch (gameModeIndex){
-            case 0: return 3;
-            case 1: return 4;
-            case 2: return 5;
-        }
+        Intent gameActivity = new Intent(this, GameActivity.class);
+        gameActivity.putExtra("columns", columnsPicker.getValue());
+        gameActivity.putExtra("rows", rowsPicker.getValue());
+        gameActivity.putExtra("tokens_to_win", tokensToWinPicker.getValue());
+        gameActivity.putExtra("computer_opponent", computerOpponentCb.isChecked());
+        gameActivity.putExtra("infinite_board", infiniteBoardCb.isChecked());
 
-        return 3;
+
+        startActivity(gameActivity);
     }
 }
@@ -0,0 +1,75 @@
+package shafou.xospiel.GameLogic;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.util.Log;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+
+/**
+ *
+ * This class loads the solved tables and opening books from the assets of
+ * the app.
+ *
+ * <p>The tables are generated during the build, the books are generated by
+ * hand. Both are stored uncompressed, so they are memory mapped directly
+ * from the APK.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Opening books.
+ */
+
+public final class SolvedTableAssets {
+
+    private static final String TAG = "SolvedTableAssets";
+
+    private SolvedTableAssets() {
+    }
+
+    /**
+     * Maps the solved table of a board size.
+     *
+     * @param context Context of the app
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @param tokensToWin Tokens to win the game
+     * @return The table or <code>null</code> if the app has no table of this size
+     */
+    public static SolvedTable load(Context context, int columns, int rows, int tokensToWin) {
+
+        return load(context, SolvedTable.fileName(columns, rows, tokensToWin));
+    }
+
+    /**
+     * Maps the opening book of a board size.
+     *
+     * @param context Context of the app
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @param tokensToWin Tokens to win the game
+     * @return The book or <code>null</code> if the app has no book of this size
+     */
+    public static SolvedTable loadBook(Context context, int columns, int rows, int tokensToWin) {
+
+        return load(context, SolvedTable.bookFileName(columns, rows, tokensToWin));
+    }
+
+    private static SolvedTable load(Context context, String name) {
+
+        try(AssetFileDescriptor descriptor = context.getAssets().openFd(name);
+            FileInputStream input = new FileInputStream(descriptor.getFileDescriptor())) {
+
+            return SolvedTable.map(input.getChannel(), descriptor.getStartOffset(),
+                    descriptor.getLength());
+        } catch(IOException | IllegalArgumentException e) {
+
+            Log.i(TAG, "No asset " + name);
+            return null;
+        }
+    }
+}
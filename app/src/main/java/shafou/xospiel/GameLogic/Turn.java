@@ -1,6 +1,7 @@
 package shafou.xospiel.GameLogic;
 
 import android.graphics.Canvas;
+import android.graphics.drawable.Drawable;
 
 import shafou.xospiel.PlayingField.Field;
 import shafou.xospiel.PlayingField.Token;
@@ -16,6 +17,9 @@ import shafou.xospiel.PlayingField.Token;
  *
  * Change log:
  * 1) 24.05.2017 ELF Class created.
+ * 2) 17.10.2026 ELF Player and cell of a turn added.
+ * 3) 17.10.2026 ELF A turn holds the player instead of a token.
+ * 4) 17.10.2026 ELF Turns are compared by their cell.
  */
 
 public class Turn {
@@ -23,12 +27,25 @@ public class Turn {
     /** Holds the number of the turn. */
     private int turnNumber;
 
-    /** The token that is played this turn */
-    private final Token token;
+    /** The player whose token is played this turn */
+    private final Player player;
 
     /** The field the token is played on */
     private final Field field;
 
+    /**
+     * A turn consists of a player and a field on which the token of the
+     * player is played on.
+     *
+     * @param player The player of the played token
+     * @param field The field the token is played on
+     */
+    public Turn(Player player, Field field) {
+
+        this.player = player;
+        this.field = field;
+    }
+
     /**
      * A turn consists of a token and a field on which the token is played on.
      *
@@ -37,16 +54,16 @@ public class Turn {
      */
     public Turn(Token token, Field field) {
 
-        this.token = token;
-        this.field = field;
+        this(token.getPlayer(), field);
     }
 
     /**
      * Draws the token on its field
      *
      * @param canvas playing field
+     * @param drawable Drawable of the token of the player
      */
-    public void draw(Canvas canvas) {
+    public void draw(Canvas canvas, Drawable drawable) {
 
         Position x1 = this.field.getX1();
         Position x3 = this.field.getX3();
@@ -56,25 +73,30 @@ public class Turn {
         int bottomRightX = (int) x3.getXPosition();
         int bottomRightY = (int) x3.getYPosition();
 
-        this.token.getDrawable().setBounds(
+        drawable.setBounds(
                 topLeftX,
                 topLeftY,
                 bottomRightX,
                 bottomRightY
         );
 
-        this.token.getDrawable().draw(canvas);
-    }
-
-    /** Gibt den Token zurück */
-    public Token getToken() {
-        return token;
+        drawable.draw(canvas);
     }
 
     public Field getField() {
         return field;
     }
 
+    /** Gibt den Spieler des Zuges zurück */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /** Gibt den Index des Feldes auf dem Spielbrett zurück */
+    public int getCell() {
+        return field.getCell();
+    }
+
     /** Gibt die Nummer des gespielten Turn zurück */
     public int getTurnNumber() {
         return turnNumber;
@@ -90,7 +112,7 @@ public class Turn {
         return "Turn{" +
                 "field=" + field +
                 ", turnNumber=" + turnNumber +
-                ", token=" + token +
+                ", player=" + player +
                 '}';
     }
 
@@ -101,12 +123,12 @@ public class Turn {
 
         Turn turn = (Turn) o;
 
-        return field != null ? field.equals(turn.field) : turn.field == null;
+        return getCell() == turn.getCell();
 
     }
 
     @Override
     public int hashCode() {
-        return field != null ? field.hashCode() : 0;
+        return getCell();
     }
 }
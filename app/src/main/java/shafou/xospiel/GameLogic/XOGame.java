@@ -1,82 +1,163 @@
 package shafou.xospiel.GameLogic;
 
-import android.annotation.SuppressLint;
 import android.content.Context;
 import android.content.DialogInterface;
+import android.os.Handler;
+import android.os.Looper;
 import android.support.v7.app.AlertDialog;
+import android.util.Log;
 import android.view.View;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
-import shafou.xospiel.PlayingField.OToken;
-import shafou.xospiel.PlayingField.Token;
-import shafou.xospiel.PlayingField.XToken;
+import shafou.xospiel.PlayingField.Field;
 import shafou.xospiel.View.XOPlayingField;
 
 /**
  *
  * Diese Klasse enthält die X/O Spiel Steuerung.
  *
+ * Jedes Spiel ist ein eigenes Objekt mit einer {@link GameSession}, die
+ * Spielstände liegen in einer gemeinsamen {@link GameSessionRegistry}. Die
+ * Aktivität des Spiels erstellt das Spiel und beendet es wieder.
+ *
  * @author Sharif Elfouly
  * @version 1.0
  *
  * Change log:
  * 1) 11.06.2017 ELF Klasse erstellt.
+ * 2) 17.10.2026 ELF Auswertung auf dem Spielbrett statt auf Listen von Zügen.
+ * 3) 17.10.2026 ELF Spielsteine werden als Spieler statt als Token bestimmt.
+ * 4) 17.10.2026 ELF Spielregeln im GameState des core Moduls.
+ * 5) 17.10.2026 ELF Optionaler Computer Gegner, der im Hintergrund sucht.
+ * 6) 17.10.2026 ELF Gelöste Tabellen für 3 x 3 und 4 x 4.
+ * 7) 17.10.2026 ELF Eröffnungsbücher für 5 x 5.
+ * 8) 17.10.2026 ELF Rechteckige Spielfelder bis 19 x 19.
+ * 9) 17.10.2026 ELF Züge rückgängig machen und wiederholen.
+ * 10) 17.10.2026 ELF Spiele als Objekte mit einer GameSession statt Singleton.
+ * 11) 17.10.2026 ELF Beendete Spiele werden in einer Datei aufgezeichnet.
+ * 12) 17.10.2026 ELF Statistik der aufgezeichneten Spiele.
+ * 13) 17.10.2026 ELF Nur das Feld eines Zuges wird neu gezeichnet.
+ * 14) 17.10.2026 ELF Statistik beliebiger Spielfeldgrößen.
+ * 15) 17.10.2026 ELF Das Archiv wird im Hintergrund gelesen und geschrieben.
+ * 16) 17.10.2026 ELF Gibt zurück ob ein Zug akzeptiert wurde.
+ * 17) 18.10.2026 ELF Jedes Spiel bricht nur seine eigene Suche ab.
+ * 18) 18.10.2026 ELF Die Tabellen werden auf dem Such Thread geladen.
  */
 
 public final class XOGame {
 
-    /** Die X/O Spiel Referenz */
-    @SuppressLint("StaticFieldLeak")
-    private static XOGame xOGame;
+    private static final String TAG = "XOGame";
+
+    /** Gibt die Minimale Anzahl von Steinen zum Gewinn an */
+    private static final int MINIMALE_ANZAHL_ZUM_GEWINN = 3;
+
+    /** Bestimmt den Spieler der ein Spiel anfängt */
+    private static final Random ZUFALL = new Random();
+
+    /** Bedenkzeit des Computers in Millisekunden */
+    private static final long COMPUTER_BEDENKZEIT = 1000L;
+
+    /** Spielstände aller Spiele der App */
+    private static final GameSessionRegistry SITZUNGEN = new GameSessionRegistry();
+
+    /**
+     * Sucht die Züge des Computers im Hintergrund. Die Suche und die
+     * geladenen Tabellen werden von allen Spielen geteilt, jedes Spiel bricht
+     * nur seine eigene Suche ab.
+     */
+    private static MoveSearchService computerSuche;
+
+    /** Dateien der aufgezeichneten Spiele und ihrer Statistik im internen Speicher der App */
+    private static final String SPIELE_DATEI = "spiele.xogr";
+    private static final String STATISTIK_DATEI = "spiele.xogi";
+
+    /** Archiv der beendeten Spiele aller Spiele, nur auf dem Archiv Thread benutzt */
+    private static GameArchive archiv;
+
+    /**
+     * Öffnet das Archiv, hängt die Spiele an und liest die Statistik
+     * nacheinander, damit der Haupt Thread nicht auf die Dateien wartet
+     */
+    private static final ExecutorService ARCHIV_THREAD = Executors.newSingleThreadExecutor(
+            new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+
+                    Thread thread = new Thread(runnable, "XOGame-Archiv");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+    /** Spielstand mit den Regeln des Spiels */
+    private final GameSession sitzung;
 
     /** Enthält die bereits gespielten Züge */
-    private static List<Turn> gespielteZuege;
+    private final List<Turn> gespielteZuege = new ArrayList<>();
 
     /** Das Spielfeld View */
-    private static XOPlayingField xOSpielView;
+    private final XOPlayingField xOSpielView;
 
     /** Kontext der aufrufenden Aktivität */
-    @SuppressLint("StaticFieldLeak")
-    private static Context context;
+    private final Context context;
 
-    /** Anzahl der Spalten und Reihen dieses Spiels */
-    private static int spalten;
+    /** Spieler des Computers oder <code>null</code> wenn zwei Menschen spielen */
+    private Player computerSpieler;
 
-    /** Gibt die Minimale Anzahl von Steinen zum Gewinn an */
-    private static final int MINIMALE_ANZAHL_ZUM_GEWINN = 3;
+    /** Laufende Suche des Computers in diesem Spiel oder <code>null</code> */
+    private MoveSearchService.Search computerZug;
 
-    /** how many tokens are required to win a game */
-    private static int tokens_to_win;
+    /** <code>true</code> wenn das Spiel seit dem Start bereits aufgezeichnet wurde */
+    private boolean aufgezeichnet;
 
-    public XOGame(int tokens_to_win) {
+    /**
+     * Empfängt die Statistik einer Spielfeldgröße auf dem Haupt Thread.
+     */
+    public interface StatistikCallback {
 
-        XOGame.tokens_to_win = tokens_to_win;
+        /**
+         * @param statistik Statistik oder <code>null</code> wenn noch kein
+         *                  Spiel aufgezeichnet wurde
+         */
+        void onStatistik(GameArchive.Stats statistik);
     }
 
     /**
      * Gibt die verfügbaren Spielarten an.
      *
      * Eine Spielart besteht aus einem String der die Spielart beschreibt,
-     * die Anzahl von Reihen und Spalten des Spielfelds und die verschiedenen
+     * die Anzahl von Spalten und Reihen des Spielfelds und die verschiedenen
      * möglichen Anzahlen von Spiel Steinen zum Gewinn.
      */
     public enum Mode {
 
-        DREI("3 x 3", 3),
-        VIER("4 x 4", 4),
-        FUENF("5 x 5", 5);
+        DREI("3 x 3", 3, 3),
+        VIER("4 x 4", 4, 4),
+        FUENF("5 x 5", 5, 5),
+        SIEBEN_SECHS("7 x 6", 7, 6),
+        NEUN("9 x 9", 9, 9),
+        FUENFZEHN("15 x 15", 15, 15),
+        NEUNZEHN("19 x 19", 19, 19);
 
         private final String name;
-        private final int columnsAndRows;
+        private final int columns;
+        private final int rows;
         private final int[] tokens;
 
-        Mode(String name, int columnsAndRows) {
+        Mode(String name, int columns, int rows) {
 
             this.name = name;
-            this.columnsAndRows = columnsAndRows;
+            this.columns = columns;
+            this.rows = rows;
             this.tokens = berechneAnzahlSteineZumGewinn();
         }
 
@@ -88,20 +169,37 @@ public final class XOGame {
 
             Mode[] gameModes = Mode.values();
 
-            return gameModes[0].getColumnsAndRows();
+            return gameModes[0].getTokens()[0];
+        }
+
+        /**
+         * @return Die längste Seite der Spielfelder aller Spielarten.
+         */
+        public static int getMaximumSide() {
+
+            int laengsteSeite = 0;
+
+            for(Mode gameMode : values()) {
+
+                laengsteSeite = Math.max(laengsteSeite, Math.max(gameMode.columns, gameMode.rows));
+            }
+
+            return laengsteSeite;
         }
 
         /**
          * Berechnet zu einer Spielart, die Möglichen Anzahl von Spielsteinen
-         * zum Gewinn.
+         * zum Gewinn. Eine Reihe kann höchstens so lang wie die längere Seite
+         * des Spielfelds sein.
          *
          * @return Möglichkeiten zum Gewinn
          */
         public int[] berechneAnzahlSteineZumGewinn() {
 
-            int[] gewinnMoeglichkeiten = new int[columnsAndRows - 2];
+            int laengereSeite = Math.max(columns, rows);
+            int[] gewinnMoeglichkeiten = new int[laengereSeite - 2];
 
-            for(int i = 0; i < columnsAndRows - 2; i++) {
+            for(int i = 0; i < laengereSeite - 2; i++) {
 
                 gewinnMoeglichkeiten[i] = MINIMALE_ANZAHL_ZUM_GEWINN + i;
             }
@@ -130,8 +228,12 @@ public final class XOGame {
             return tokens;
         }
 
-        public int getColumnsAndRows() {
-            return columnsAndRows;
+        public int getColumns() {
+            return columns;
+        }
+
+        public int getRows() {
+            return rows;
         }
 
         public String getName() {
@@ -141,143 +243,416 @@ public final class XOGame {
     }
 
     /**
-     * Das X/O Spiel wurde als Singelton implementiert.
-     * Zur Laufzeit existiert nur 1 Spiel.
+     * Erstellt ein neues Spiel mit einem eigenen Spielfeld.
      *
      * @param context Kontext der aufrufenden Aktivität
-     * @param columnsAndRows
-     * @return X/O Spiel Objekt
+     * @param columns Anzahl der Spalten des Spielfelds
+     * @param rows Anzahl der Reihen des Spielfelds
+     * @param tokens_to_win Anzahl der Steine in einer Reihe zum Gewinn
      */
-    public static XOGame getInstance(Context context, int columnsAndRows, int tokens_to_win) {
+    public XOGame(Context context, int columns, int rows, int tokens_to_win) {
 
-        if(xOGame == null) {
+        if(tokens_to_win < MINIMALE_ANZAHL_ZUM_GEWINN
+                || tokens_to_win > Math.max(columns, rows)) {
 
-            xOGame = new XOGame(tokens_to_win);
-            XOGame.context = context;
-            xOSpielView = new XOPlayingField(context, columnsAndRows, true);
-            gespielteZuege = new ArrayList<>();
-            XOGame.spalten = columnsAndRows;
+            throw new IllegalArgumentException("Es werden " + MINIMALE_ANZAHL_ZUM_GEWINN
+                    + " bis " + Math.max(columns, rows) + " Steine zum Gewinn benötigt.");
         }
 
-        return xOGame;
+        this.context = context;
+        this.sitzung = SITZUNGEN.create(columns, rows, tokens_to_win, gibZufaelligenSpielstein());
+        this.xOSpielView = new XOPlayingField(context, columns, rows, true);
+        this.xOSpielView.setSpiel(this);
     }
 
     /**
      * Wird aufgerufen wenn ein neuer Turn im Spiel gesetzt wurde.
-     * Nur Züge auf neuen Spielfeldern werden akzeptiert.
+     * Nur Züge auf neuen Spielfeldern werden akzeptiert. Während der
+     * Computer am Zug ist, werden Eingaben ignoriert.
      *
      * @param turn Gesetzter Turn.
+     * @return <code>true</code> wenn der Zug akzeptiert wurde
      */
-    public static void zugGespielt(Turn turn) {
-
-        if(!gespielteZuege.contains(turn)) {
-
-            gespielteZuege.add(turn);
-            if(feldAuswerten()) {
-
-                new AlertDialog.Builder(context)
-                        .setTitle("Das Spiel ist vorbei")
-                        .setMessage("Spiel neu starten?")
-                        .setCancelable(false)
-                        .setNeutralButton("Ok", new DialogInterface.OnClickListener() {
-                            @Override
-                            public void onClick(DialogInterface dialog, int which) {
-                                XOGame.neuStarten(context, 3);
-                            }
-                        }).show();
-            }
+    public boolean zugGespielt(Turn turn) {
+
+        if(istComputerAmZug()) {
+
+            return false;
         }
+
+        return zugAusfuehren(turn);
     }
 
     /**
-     * Gibt alle Züge der X Spielsteine zurück.
+     * Setzt einen Turn und startet danach gegebenenfalls die Suche des
+     * Computers.
      *
-     * @return Liste von Zügen
+     * @param turn Gesetzter Turn.
+     * @return <code>true</code> wenn der Zug akzeptiert wurde
      */
-    private static List<Turn> getXZuege() {
+    private boolean zugAusfuehren(Turn turn) {
 
-        List<Turn> xZuege = new ArrayList<>();
+        if(!sitzung.play(turn.getCell())) {
 
-        for(Turn turn : gespielteZuege) {
+            return false;
+        }
 
-            if(turn.getToken() instanceof XToken) {
+        gespielteZuege.add(turn);
+        naechstenZugStarten();
+        return true;
+    }
 
-                xZuege.add(turn);
-            }
+    /**
+     * Zeigt nach dem Ende des Spiels den Dialog zum Neustarten, sonst sucht
+     * gegebenenfalls der Computer seinen Zug.
+     */
+    private void naechstenZugStarten() {
+
+        if(sitzung.isOver()) {
+
+            spielAufzeichnen();
+
+            new AlertDialog.Builder(context)
+                    .setTitle("Das Spiel ist vorbei")
+                    .setMessage("Spiel neu starten?")
+                    .setCancelable(false)
+                    .setNeutralButton("Ok", new DialogInterface.OnClickListener() {
+                        @Override
+                        public void onClick(DialogInterface dialog, int which) {
+                            neuStarten();
+                        }
+                    }).show();
+        } else {
+
+            computerZugStarten();
         }
+    }
+
+    /**
+     * Hängt das beendete Spiel im Hintergrund an das Archiv an. Ein Spiel
+     * wird nur beim ersten Ende aufgezeichnet, auch wenn danach Züge
+     * zurückgenommen werden. Aufgezeichnet wird eine Kopie, das Spiel kann
+     * währenddessen neu gestartet werden.
+     */
+    private void spielAufzeichnen() {
+
+        if(aufgezeichnet) {
+
+            return;
+        }
+
+        aufgezeichnet = true;
+        final Context app = context.getApplicationContext();
+        final GameState spiel = sitzung.snapshot();
+
+        ARCHIV_THREAD.execute(new Runnable() {
+            @Override
+            public void run() {
+
+                GameArchive spiele = gibArchiv(app);
+
+                if(spiele == null) {
+
+                    return;
+                }
 
-        return xZuege;
+                try {
+
+                    spiele.append(spiel);
+                } catch(IOException e) {
+
+                    Log.w(TAG, "Das Spiel konnte nicht aufgezeichnet werden", e);
+                }
+            }
+        });
     }
 
     /**
-     * Gibt alle Züge der O Spielsteine zurück.
+     * Öffnet beim ersten Zugriff das Archiv der Spiele. Beim Öffnen werden
+     * eventuell Spiele nachgespielt, deshalb nur auf dem Archiv Thread
+     * aufrufen.
      *
-     * @return Liste von Zügen
+     * @param context Kontext der App
+     * @return Das geteilte Archiv oder <code>null</code> wenn es nicht geöffnet werden kann
      */
-    private static List<Turn> getOZuege() {
+    private static GameArchive gibArchiv(Context context) {
 
-        List<Turn> oZuege = new ArrayList<>();
+        if(archiv == null) {
 
-        for(Turn turn : gespielteZuege) {
+            try {
 
-            if(turn.getToken() instanceof OToken) {
+                archiv = GameArchive.open(new File(context.getFilesDir(), SPIELE_DATEI),
+                        new File(context.getFilesDir(), STATISTIK_DATEI));
+            } catch(IOException | IllegalArgumentException e) {
 
-                oZuege.add(turn);
+                Log.w(TAG, "Das Archiv der Spiele konnte nicht geöffnet werden", e);
             }
         }
 
-        return oZuege;
+        return archiv;
     }
 
     /**
-     * Auswertung des aktuellen Spiels.
+     * Liest die Statistik der aufgezeichneten Spiele einer Spielfeldgröße im
+     * Hintergrund, nach den vorher aufgezeichneten Spielen. Die Statistik
+     * wird auf dem Haupt Thread übergeben.
      *
-     * @return <code>true</code> falls das Spiel gewonnen wurde.
+     * @param context Kontext der App
+     * @param columns Anzahl der Spalten des Spielfelds
+     * @param rows Anzahl der Reihen des Spielfelds
+     * @param steine Anzahl der Steine zum Gewinn
+     * @param callback Empfängt die Statistik
      */
-    private static boolean feldAuswerten() {
+    public static void gibStatistik(Context context, final int columns, final int rows,
+                                    final int steine, final StatistikCallback callback) {
+
+        final Context app = context.getApplicationContext();
+        final Handler hauptThread = new Handler(Looper.getMainLooper());
+
+        ARCHIV_THREAD.execute(new Runnable() {
+            @Override
+            public void run() {
+
+                GameArchive spiele = gibArchiv(app);
+                final GameArchive.Stats statistik = spiele == null ? null
+                        : spiele.getStats(columns, rows, steine);
+
+                hauptThread.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        callback.onStatistik(statistik);
+                    }
+                });
+            }
+        });
+    }
 
-        List<Turn> gespielteZuege;
+    /**
+     * Nimmt den letzten Zug zurück. Gegen den Computer wird auch sein Zug
+     * zurückgenommen, damit wieder der Mensch am Zug ist. Eine laufende Suche
+     * des Computers wird abgebrochen.
+     *
+     * @return <code>true</code> wenn ein Zug zurückgenommen wurde
+     */
+    public boolean rueckgaengig() {
 
-        if(gibLetztenZug().getToken() instanceof XToken) {
+        if(!sitzung.getState().canUndo()) {
 
-            gespielteZuege = getXZuege();
-        } else {
+            return false;
+        }
+
+        computerSucheAbbrechen();
+
+        do {
+
+            sitzung.undo();
+            gespielteZuege.remove(gespielteZuege.size() - 1);
+        } while(istComputerAmZug() && sitzung.getState().canUndo());
+
+        xOSpielView.steineNeuZeichnen();
+        computerZugStarten();
+        return true;
+    }
+
+    /**
+     * Wiederholt den zuletzt zurückgenommenen Zug. Gegen den Computer wird
+     * auch sein zurückgenommener Zug wiederholt.
+     *
+     * @return <code>true</code> wenn ein Zug wiederholt wurde
+     */
+    public boolean wiederholen() {
 
-            gespielteZuege = getOZuege();
+        if(!sitzung.getState().canRedo()) {
+
+            return false;
         }
 
-        List<Position> gespieltePositionen = new ArrayList<>();
-        for(Turn turn : gespielteZuege) {
+        computerSucheAbbrechen();
+
+        do {
+
+            Player spieler = sitzung.getCurrentPlayer();
+            Field feld = xOSpielView.gibFeld(sitzung.redo());
+            gespielteZuege.add(new Turn(spieler, feld));
+            xOSpielView.feldNeuZeichnen(feld);
+        } while(istComputerAmZug() && sitzung.getState().canRedo());
+
+        naechstenZugStarten();
+        return true;
+    }
+
+    /**
+     * Aktiviert oder deaktiviert den Computer Gegner. Der Computer spielt O.
+     *
+     * @param aktiv <code>true</code> wenn gegen den Computer gespielt wird
+     */
+    public void setComputerGegner(boolean aktiv) {
+
+        computerSucheAbbrechen();
+        computerSpieler = aktiv ? Player.O : null;
 
-            gespieltePositionen.add(turn.getField().getPositionOnPlayingField());
+        if(aktiv) {
+
+            computerSucheErstellen(context);
         }
 
-        // TODO: spalten is hard coded
-        return Standings.hasWon(gespieltePositionen, tokens_to_win);
+        computerZugStarten();
     }
 
+    /**
+     * Erstellt beim ersten Spiel gegen den Computer die geteilte Suche. Die
+     * Tabellen werden auf dem Thread der Suche vor der ersten Suche geladen,
+     * damit der Haupt Thread nicht auf die Dateien wartet.
+     *
+     * @param context Kontext zum Laden der Tabellen
+     */
+    private static synchronized void computerSucheErstellen(Context context) {
+
+        if(computerSuche != null) {
 
+            return;
+        }
+
+        final Handler hauptThread = new Handler(Looper.getMainLooper());
+        final Context app = context.getApplicationContext();
+        final NegamaxPlayer computer = new NegamaxPlayer(COMPUTER_BEDENKZEIT);
+
+        computerSuche = new MoveSearchService(computer,
+                new Executor() {
+                    @Override
+                    public void execute(Runnable command) {
+                        hauptThread.post(command);
+                    }
+                });
+        computerSuche.prepare(new Runnable() {
+            @Override
+            public void run() {
+                geloesteTabellenLaden(app, computer);
+            }
+        });
+    }
 
     /**
-     * Gibt den Token an, der momentan gesetzt werden kann.
+     * Fügt dem Computer die gelösten Tabellen und Eröffnungsbücher aller
+     * Spielarten hinzu. Die Positionen dieser Tabellen werden ohne Suche
+     * beantwortet.
      *
-     * @return Aktueller Token
+     * @param context Kontext zum Laden der Tabellen
+     * @param computer Computer Spieler
      */
-    public static Token gibAktuellenSpielstein() {
+    private static void geloesteTabellenLaden(Context context, NegamaxPlayer computer) {
 
-        if(gespielteZuege.size() > 0) {
+        for(Mode spielart : Mode.values()) {
 
-            if(gibLetztenZug().getToken() instanceof XToken) {
+            /** Tabellen gibt es nur für Spielfelder mit bis zu 32 Feldern */
+            if(!Symmetry.get(spielart.getColumns(), spielart.getRows()).canPack()) {
 
-                return new OToken(context);
-            } else {
+                continue;
+            }
+
+            for(int steine : spielart.getTokens()) {
+
+                SolvedTable tabelle = SolvedTableAssets.load(context,
+                        spielart.getColumns(), spielart.getRows(), steine);
+
+                if(tabelle != null) {
+
+                    computer.addSolvedTable(tabelle);
+                }
 
-                return new XToken(context);
+                /** Das Eröffnungsbuch gibt es nur für größere Spielfelder */
+                SolvedTable buch = SolvedTableAssets.loadBook(context,
+                        spielart.getColumns(), spielart.getRows(), steine);
+
+                if(buch != null) {
+
+                    computer.addSolvedTable(buch);
+                }
             }
-        } else {
+        }
+    }
+
+    /**
+     * @return <code>true</code> wenn der Computer den nächsten Zug sucht
+     */
+    public boolean istComputerAmZug() {
+
+        return computerSpieler != null && !sitzung.isOver()
+                && sitzung.getCurrentPlayer() == computerSpieler;
+    }
+
+    /**
+     * Startet die Suche des Computers, wenn er am Zug ist. Das Ergebnis wird
+     * auf dem Haupt Thread gesetzt.
+     */
+    private void computerZugStarten() {
+
+        if(!istComputerAmZug()) {
 
-            return gibZufaelligenSpielstein();
+            return;
         }
+
+        computerSucheAbbrechen();
+        computerZug = computerSuche.search(sitzung.getState(), new MoveSearchService.Callback() {
+            @Override
+            public void onBestMove(int move, int depth, int value) {
+            }
+
+            @Override
+            public void onFinished(int move) {
+                computerZug = null;
+                computerZugSetzen(move);
+            }
+        });
+    }
+
+    /**
+     * Bricht die laufende Suche des Computers in diesem Spiel ab, die Suchen
+     * der anderen Spiele laufen weiter.
+     */
+    private void computerSucheAbbrechen() {
+
+        if(computerZug != null) {
+
+            computerZug.cancel();
+            computerZug = null;
+        }
+    }
+
+    /**
+     * Setzt den Zug des Computers, sobald das Spielfeld berechnet wurde.
+     *
+     * @param zelle Zelle des Zuges
+     */
+    private void computerZugSetzen(final int zelle) {
+
+        Field feld = xOSpielView.gibFeld(zelle);
+
+        if(feld == null) {
+
+            xOSpielView.post(new Runnable() {
+                @Override
+                public void run() {
+                    computerZugSetzen(zelle);
+                }
+            });
+            return;
+        }
+
+        if(zugAusfuehren(new Turn(computerSpieler, feld))) {
+
+            xOSpielView.feldNeuZeichnen(feld);
+        }
+    }
+
+    /**
+     * Gibt den Spieler an, dessen Token momentan gesetzt werden kann.
+     *
+     * @return Aktueller Spieler
+     */
+    public Player gibAktuellenSpielstein() {
+
+        return sitzung.getCurrentPlayer();
     }
 
     /**
@@ -285,25 +660,20 @@ public final class XOGame {
      *
      * @return Letzter Turn
      */
-    public static Turn gibLetztenZug() {
+    public Turn gibLetztenZug() {
 
         return gespielteZuege.get(gespielteZuege.size() - 1);
     }
 
     /**
      * Wird am Anfang jedes Spiels benutzt, um zu ermitteln welcher
-     * Token anfängt.
+     * Spieler anfängt.
      *
-     * @return Gibt einen zufäligen Token zurück
+     * @return Gibt einen zufäligen Spieler zurück
      */
-    private static Token gibZufaelligenSpielstein() {
+    private static Player gibZufaelligenSpielstein() {
 
-        List<Token> token = new ArrayList<>();
-        token.add(new XToken(context));
-        token.add(new OToken(context));
-
-        Random random = new Random();
-        return token.get(random.nextInt(2));
+        return ZUFALL.nextBoolean() ? Player.X : Player.O;
     }
 
     /** Gibt das Spielfeld zurück */
@@ -313,21 +683,33 @@ public final class XOGame {
     }
 
     /**
-     * Startet das Spiel neu.
-     *
-     * @param context Kontext der aufrufenden Aktivität
-     * @param columnsAndRows
-     * @return Eine neue Spiel Referenz.
+     * Startet das Spiel mit dem selben Spielfeld neu.
      */
-    public static XOGame neuStarten(Context context, int columnsAndRows) {
+    public void neuStarten() {
+
+        computerSucheAbbrechen();
+        gespielteZuege.clear();
+        aufgezeichnet = false;
+        sitzung.reset(gibZufaelligenSpielstein());
+        xOSpielView.restart(sitzung.getColumns(), sitzung.getRows());
+        computerZugStarten();
+    }
+
+    /**
+     * Beendet das Spiel, wenn die Aktivität geschlossen wird. Der Spielstand
+     * wird aus den Sitzungen entfernt.
+     */
+    public void beenden() {
+
+        computerSucheAbbrechen();
+        SITZUNGEN.close(sitzung.getId());
+    }
 
-        XOGame.spalten = spalten;
-        gespielteZuege = new ArrayList<>();
-        xOSpielView.restart(columnsAndRows);
-        return getInstance(context, columnsAndRows, tokens_to_win);
+    public GameSession getSitzung() {
+        return sitzung;
     }
 
-    public static List<Turn> getGespielteZuege() {
+    public List<Turn> getGespielteZuege() {
         return gespielteZuege;
     }
 }
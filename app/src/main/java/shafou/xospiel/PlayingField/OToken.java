@@ -1,6 +1,8 @@
 package shafou.xospiel.PlayingField;
 
 import android.content.Context;
+
+import shafou.xospiel.GameLogic.Player;
 /**
  *
  * This class represents an O Token.
@@ -10,6 +12,7 @@ import android.content.Context;
  *
  * Change log:
  * 1) 24.05.2017 ELF Klasse erstellt.
+ * 2) 17.10.2026 ELF Player of the token added.
  */
 
 public class OToken extends Token {
@@ -17,4 +20,9 @@ public class OToken extends Token {
     public OToken(Context context) {
         super(context);
     }
+
+    @Override
+    public Player getPlayer() {
+        return Player.O;
+    }
 }
@@ -3,7 +3,7 @@ package shafou.xospiel.PlayingField;
 import android.content.Context;
 import android.graphics.drawable.Drawable;
 
-import shafou.xospiel.R;
+import shafou.xospiel.GameLogic.Player;
 
 /**
  *
@@ -16,6 +16,7 @@ import shafou.xospiel.R;
  *
  * Change log:
  * 1) 23.05.2017 ELF Class created.
+ * 2) 17.10.2026 ELF Drawables are shared with {@link TokenDrawables}.
  */
 
 public abstract class Token {
@@ -28,15 +29,14 @@ public abstract class Token {
 
     Token(Context context) {
 
-        if(this instanceof XToken) {
-
-            this.drawable = context.getDrawable(R.drawable.x_24dp);
-        } else {
-
-            this.drawable = context.getDrawable(R.drawable.o_24dp);
-        }
+        this.drawable = TokenDrawables.get(context, getPlayer());
     }
 
+    /**
+     * @return The player this token belongs to
+     */
+    public abstract Player getPlayer();
+
     public Field getField() {
         return field;
     }
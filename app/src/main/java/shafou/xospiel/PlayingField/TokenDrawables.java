@@ -0,0 +1,59 @@
+package shafou.xospiel.PlayingField;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.drawable.Drawable;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import shafou.xospiel.GameLogic.Player;
+import shafou.xospiel.R;
+
+/**
+ *
+ * This class holds the drawables of the tokens.
+ *
+ * <p>The drawables of a theme are only inflated once and are shared by all
+ * tokens and turns. The bounds of a shared drawable must be set before every
+ * draw.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+public final class TokenDrawables {
+
+    /** Drawables of the X and O token per theme */
+    private static final Map<Resources.Theme, Drawable[]> DRAWABLES = new WeakHashMap<>();
+
+    private TokenDrawables() {
+    }
+
+    /**
+     * Returns the drawable of the token of a player.
+     *
+     * @param context Context with the theme of the drawable
+     * @param player Player of the token
+     * @return Shared drawable of the token
+     */
+    public static synchronized Drawable get(Context context, Player player) {
+
+        Resources.Theme theme = context.getTheme();
+        Drawable[] drawables = DRAWABLES.get(theme);
+
+        if(drawables == null) {
+
+            drawables = new Drawable[] {
+                    context.getDrawable(R.drawable.x_24dp),
+                    context.getDrawable(R.drawable.o_24dp)
+            };
+            DRAWABLES.put(theme, drawables);
+        }
+
+        return drawables[player.ordinal()];
+    }
+}
@@ -2,6 +2,8 @@ package shafou.xospiel.PlayingField;
 
 import android.content.Context;
 
+import shafou.xospiel.GameLogic.Player;
+
 /**
  *
  * This class represents an X Token.
@@ -11,6 +13,7 @@ import android.content.Context;
  *
  * Change log:
  * 1) 24.05.2017 ELF Class created.
+ * 2) 17.10.2026 ELF Player of the token added.
  */
 
 public class XToken extends Token {
@@ -18,4 +21,9 @@ public class XToken extends Token {
     public XToken(Context context) {
         super(context);
     }
+
+    @Override
+    public Player getPlayer() {
+        return Player.X;
+    }
 }
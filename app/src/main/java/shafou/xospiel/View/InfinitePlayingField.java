@@ -0,0 +1,248 @@
+package shafou.xospiel.View;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.content.DialogInterface;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.drawable.Drawable;
+import android.support.v7.app.AlertDialog;
+import android.view.GestureDetector;
+import android.view.MotionEvent;
+import android.view.ScaleGestureDetector;
+import android.view.View;
+
+import shafou.xospiel.GameLogic.Player;
+import shafou.xospiel.GameLogic.PlayingFieldInputProcessor;
+import shafou.xospiel.GameLogic.SparseBoard;
+import shafou.xospiel.GameLogic.SparseGameState;
+import shafou.xospiel.PlayingField.FieldsCalculator;
+import shafou.xospiel.PlayingField.TokenDrawables;
+import shafou.xospiel.PlayingField.Viewport;
+
+/**
+ *
+ * Diese Klasse zeigt ein Spielfeld ohne Ränder.
+ *
+ * Das Spielfeld wird mit einem Finger verschoben und mit zwei Fingern
+ * gezoomt, ein Tippen setzt einen Spielstein. Es werden nur die sichtbaren
+ * Felder gezeichnet, ihre Lage wird direkt aus dem Ausschnitt berechnet. Bei
+ * einer Geste wird nichts erzeugt, die Linien werden in ein wiederverwendetes
+ * Array geschrieben.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Änderungshistorie:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ * 2) 17.10.2026 ELF Keine Objekte mehr pro Geste.
+ */
+
+@SuppressLint("ViewConstructor")
+public class InfinitePlayingField extends View {
+
+    /** Größe eines Feldes beim Start und die Grenzen beim Zoomen in Pixeln */
+    private static final float FELD_GROESSE = 150F;
+    private static final float MIN_FELD_GROESSE = 40F;
+    private static final float MAX_FELD_GROESSE = 400F;
+
+    /** Breite der Spielfeld Linien */
+    private static final float LINIEN_BREITE = 4F;
+
+    /** Abstand der Spielsteine vom Rand des Feldes als Anteil der Feld Größe */
+    private static final float STEIN_RAND = 0.1F;
+
+    private final SparseGameState spielstand;
+
+    private final Viewport ausschnitt;
+
+    private final Paint linienPaint;
+
+    private final GestureDetector gestenErkenner;
+
+    private final ScaleGestureDetector zoomErkenner;
+
+    /**
+     * Start- und Endpunkte der sichtbaren Linien, wird nur vergrößert wenn
+     * mehr Linien sichtbar sind
+     */
+    private float[] sichtbareLinien = new float[0];
+
+    /** Anzahl der gültigen Werte in den sichtbaren Linien */
+    private int linienWerte;
+
+    /**
+     * @param context Context der View
+     * @param tokensToWin Anzahl der Spielsteine in einer Reihe zum Gewinnen
+     */
+    public InfinitePlayingField(Context context, int tokensToWin) {
+        super(context);
+
+        spielstand = new SparseGameState(tokensToWin, Player.X);
+        ausschnitt = new Viewport(FELD_GROESSE, MIN_FELD_GROESSE, MAX_FELD_GROESSE);
+
+        linienPaint = new Paint();
+        linienPaint.setColor(Color.BLACK);
+        linienPaint.setStrokeWidth(LINIEN_BREITE);
+        linienPaint.setStyle(Paint.Style.FILL_AND_STROKE);
+
+        gestenErkenner = new GestureDetector(context, new GestureDetector.SimpleOnGestureListener() {
+            @Override
+            public boolean onDown(MotionEvent e) {
+                return true;
+            }
+
+            @Override
+            public boolean onScroll(MotionEvent e1, MotionEvent e2, float distanceX, float distanceY) {
+
+                ausschnitt.pan(-distanceX, -distanceY);
+                ausschnittGeaendert();
+                return true;
+            }
+
+            @Override
+            public boolean onSingleTapUp(MotionEvent e) {
+
+                zugSpielen(e.getX(), e.getY());
+                return true;
+            }
+        });
+
+        zoomErkenner = new ScaleGestureDetector(context, new ScaleGestureDetector.SimpleOnScaleGestureListener() {
+            @Override
+            public boolean onScale(ScaleGestureDetector detector) {
+
+                ausschnitt.zoom(detector.getScaleFactor(), detector.getFocusX(), detector.getFocusY());
+                ausschnittGeaendert();
+                return true;
+            }
+        });
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+
+        ausschnitt.setSize(w, h);
+        ausschnittGeaendert();
+    }
+
+    /**
+     * Berechnet die sichtbaren Linien neu und zeichnet das Spielfeld.
+     */
+    private void ausschnittGeaendert() {
+
+        int werte = FieldsCalculator.getVisibleLinePointCount(ausschnitt);
+
+        if(sichtbareLinien.length < werte) {
+
+            /** Beim Herauszoomen werden noch mehr Linien sichtbar */
+            sichtbareLinien = new float[werte * 2];
+        }
+
+        linienWerte = FieldsCalculator.getVisibleLinePoints(ausschnitt, sichtbareLinien);
+        invalidate();
+    }
+
+    @Override
+    public void onDraw(Canvas canvas) {
+
+        canvas.drawLines(sichtbareLinien, 0, linienWerte, linienPaint);
+
+        if(spielstand.getMoveCount() == 0) {
+
+            return;
+        }
+
+        SparseBoard board = spielstand.getBoard();
+        Drawable xDrawable = TokenDrawables.get(getContext(), Player.X);
+        Drawable oDrawable = TokenDrawables.get(getContext(), Player.O);
+        float groesse = ausschnitt.getCellSize();
+        int rand = (int) (groesse * STEIN_RAND);
+
+        for(int r = ausschnitt.getFirstVisibleRow(); r <= ausschnitt.getLastVisibleRow(); r++) {
+            for(int s = ausschnitt.getFirstVisibleColumn(); s <= ausschnitt.getLastVisibleColumn(); s++) {
+
+                Player spieler = board.getOccupant(s, r);
+
+                if(spieler != null) {
+
+                    float links = ausschnitt.getCellLeft(s);
+                    float oben = ausschnitt.getCellTop(r);
+
+                    Drawable drawable = spieler == Player.X ? xDrawable : oDrawable;
+                    drawable.setBounds(
+                            (int) links + rand,
+                            (int) oben + rand,
+                            (int) (links + groesse) - rand,
+                            (int) (oben + groesse) - rand);
+                    drawable.draw(canvas);
+                }
+            }
+        }
+    }
+
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+
+        zoomErkenner.onTouchEvent(event);
+
+        if(!zoomErkenner.isInProgress()) {
+
+            gestenErkenner.onTouchEvent(event);
+        }
+
+        return true;
+    }
+
+    /**
+     * Setzt einen Spielstein des aktuellen Spielers auf das Feld unter den
+     * Koordinaten, wenn das Feld frei ist.
+     *
+     * @param x X Koordinate in der View
+     * @param y Y Koordinate in der View
+     */
+    private void zugSpielen(float x, float y) {
+
+        long koordinaten = PlayingFieldInputProcessor.getCoordinates(ausschnitt, x, y);
+        int spalte = SparseBoard.column(koordinaten);
+        int reihe = SparseBoard.row(koordinaten);
+
+        if(spielstand.isOver() || spielstand.getBoard().isOccupied(spalte, reihe)) {
+
+            return;
+        }
+
+        boolean gewonnen = spielstand.play(spalte, reihe);
+        invalidate();
+
+        if(gewonnen) {
+
+            new AlertDialog.Builder(getContext())
+                    .setTitle("Das Spiel ist vorbei")
+                    .setMessage("Spiel neu starten?")
+                    .setCancelable(false)
+                    .setNeutralButton("Ok", new DialogInterface.OnClickListener() {
+                        @Override
+                        public void onClick(DialogInterface dialog, int which) {
+                            neuStarten();
+                        }
+                    }).show();
+        }
+    }
+
+    /**
+     * Startet ein neues Spiel in der Mitte des Spielfeldes.
+     */
+    public void neuStarten() {
+
+        spielstand.reset(Player.X);
+        ausschnitt.centerOn(0.5, 0.5);
+        ausschnittGeaendert();
+    }
+
+    public SparseGameState getSpielstand() {
+        return spielstand;
+    }
+}
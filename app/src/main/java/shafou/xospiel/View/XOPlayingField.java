@@ -2,6 +2,7 @@ package shafou.xospiel.View;
 
 import android.annotation.SuppressLint;
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
@@ -12,13 +13,10 @@ import android.view.View;
 
 import java.util.List;
 
-import butterknife.BindDrawable;
-import butterknife.ButterKnife;
 import shafou.xospiel.PlayingField.Field;
-import shafou.xospiel.PlayingField.Line;
-import shafou.xospiel.R;
+import shafou.xospiel.PlayingField.TokenDrawables;
+import shafou.xospiel.GameLogic.Player;
 import shafou.xospiel.GameLogic.PlayingFieldInputProcessor;
-import shafou.xospiel.GameLogic.Position;
 import shafou.xospiel.GameLogic.Turn;
 import shafou.xospiel.GameLogic.XOGame;
 import shafou.xospiel.PlayingField.XOPlayingFieldGenerator;
@@ -27,19 +25,31 @@ import shafou.xospiel.PlayingField.XOPlayingFieldGenerator;
  *
  * Diese Klasse generiert das Spielfeld View.
  *
+ * Im Spiel werden die Linien und die gesetzten Steine in einer Ebene
+ * zwischengespeichert. Ein neuer Zug zeichnet nur seinen Stein in die Ebene
+ * und nur das Feld des Zuges wird auf dem Bildschirm neu gezeichnet. Die
+ * Ebene wird bei einer neuen Größe, einem Neustart und zurückgenommenen
+ * Zügen neu gezeichnet.
+ *
  * @author Sharif Elfouly
  * @version 1.0
  *
  * Änderungshistorie:
  * 1) 10.06.2017 ELF Klasse erstellt.
+ * 2) 17.10.2026 ELF Touch Eingaben ohne Position Objekte.
+ * 3) 17.10.2026 ELF Spielfeld wird nur bei Größenänderungen berechnet.
+ * 4) 17.10.2026 ELF Geteilte Drawables der Spielsteine.
+ * 5) 17.10.2026 ELF Felder der Computer Züge.
+ * 6) 17.10.2026 ELF Rechteckige Spielfelder mit quadratischen Feldern.
+ * 7) 17.10.2026 ELF Spielfeld gehört zu einem Spiel Objekt.
+ * 8) 17.10.2026 ELF Gesetzte Steine in einer Ebene, nur das Feld eines
+ *    Zuges wird neu gezeichnet.
+ * 9) 17.10.2026 ELF Nur akzeptierte Züge werden neu gezeichnet.
  */
 
 @SuppressLint("ViewConstructor")
 public class XOPlayingField extends View {
 
-    @BindDrawable(R.drawable.x_24dp) Drawable xDrawable;
-    @BindDrawable(R.drawable.o_24dp) Drawable oDrawable;
-
     /** Schwarze Farbe */
     Paint blackPaint;
 
@@ -52,46 +62,106 @@ public class XOPlayingField extends View {
 
     Boolean playable;
 
+    /** Spiel dieses Spielfeldes oder <code>null</code> bei einer Vorschau */
+    private XOGame spiel;
+
+    /** Start- und Endpunkte der Spielfeld Linien, jeweils 4 Werte pro Linie */
+    float[] spielfeldLinien;
+
+    /** Prozent mit dem die Spielfeld Linien gekürzt werden */
+    private static final int LINIEN_KUERZUNG_PROZENT = 5;
+
+    /** Breite der Spielfeld Linien bei großen Feldern */
+    private static final float LINIEN_BREITE = 10F;
+
+    /** Anteil der Linien Breite an der Größe eines Feldes */
+    private static final float LINIEN_BREITE_PRO_FELD = 0.1F;
+
+    /** Abstand des zentrierten Spielfeldes vom Rand der View */
+    private float versatzX;
+    private float versatzY;
+
+    /** Ebene mit den Linien und den gesetzten Steinen des Spiels */
+    private Bitmap ebene;
+
+    private Canvas ebenenCanvas;
+
+    /**
+     * Anzahl der Züge, deren Steine in der Ebene gezeichnet sind, -1 wenn die
+     * Ebene neu gezeichnet werden muss
+     */
+    private int gezeichneteZuege = -1;
+
     public XOPlayingField(Context context, AttributeSet attrs) {
         super(context, attrs);
 
         this.context = context;
+        this.playable = true;
 
         blackPaint = new Paint();
         blackPaint.setColor(Color.BLACK);
-        blackPaint.setStrokeWidth(10);
+        blackPaint.setStrokeWidth(LINIEN_BREITE);
         blackPaint.setStyle(Paint.Style.FILL_AND_STROKE);
 
         xOG = new XOPlayingFieldGenerator(3);
         inputVerarbeiter = new PlayingFieldInputProcessor<>(xOG);
-        ButterKnife.bind(this);
     }
 
-    public XOPlayingField(Context context, int columnsAndRows, boolean playable) {
+    public XOPlayingField(Context context, int columns, int rows, boolean playable) {
         super(context);
 
         this.playable = playable;
 
         blackPaint = new Paint();
         blackPaint.setColor(Color.BLACK);
-        blackPaint.setStrokeWidth(10);
+        blackPaint.setStrokeWidth(LINIEN_BREITE);
         blackPaint.setStyle(Paint.Style.FILL_AND_STROKE);
 
-        xOG = new XOPlayingFieldGenerator(columnsAndRows);
+        xOG = new XOPlayingFieldGenerator(columns, rows);
 
         if(playable) {
 
             inputVerarbeiter = new PlayingFieldInputProcessor<>(xOG);
         }
-
-        ButterKnife.bind(this);
     }
 
     @Override
-    public void onDraw(Canvas canvas) {
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+
+        layoutBerechnen(w, h);
+    }
 
-        xOG.setWidth(getWidth());
-        xOG.setHeight(getHeight());
+    /**
+     * Berechnet die Felder und Linien des Spielfeldes für eine Größe.
+     *
+     * Wird nur aufgerufen wenn sich die Größe oder die Anzahl der Spalten und
+     * Reihen des Spielfeldes ändert. Die Felder sind quadratisch, das
+     * Spielfeld wird in der View zentriert.
+     *
+     * @param width Breite der View
+     * @param height Höhe der View
+     */
+    private void layoutBerechnen(int width, int height) {
+
+        if(width <= 0 || height <= 0) {
+
+            return;
+        }
+
+        float feldGroesse = Math.min((float) width / xOG.getColumns(),
+                (float) height / xOG.getRows());
+        float breite = feldGroesse * xOG.getColumns();
+        float hoehe = feldGroesse * xOG.getRows();
+
+        versatzX = (width - breite) / 2;
+        versatzY = (height - hoehe) / 2;
+
+        /** Auf großen Spielfeldern werden die Linien schmaler */
+        blackPaint.setStrokeWidth(Math.min(LINIEN_BREITE, feldGroesse * LINIEN_BREITE_PRO_FELD));
+
+        xOG.setWidth(breite);
+        xOG.setHeight(hoehe);
         xOG.berechneSpielfelder();
 
         if(playable) {
@@ -99,68 +169,169 @@ public class XOPlayingField extends View {
             inputVerarbeiter = new PlayingFieldInputProcessor<>(xOG);
         }
 
-        List<Line> spielfeldLinien = xOG.calculatesLines(5);
+        spielfeldLinien = xOG.calculatesLinePoints(LINIEN_KUERZUNG_PROZENT);
+        gezeichneteZuege = -1;
+    }
+
+    @Override
+    public void onDraw(Canvas canvas) {
+
+        canvas.save();
+        canvas.translate(versatzX, versatzY);
+
+        if(spielfeldLinien != null) {
 
-        for(Line spielfeldLine : spielfeldLinien) {
+            /** Die Vorschau im Menü hat keine Steine und braucht keine Ebene */
+            if(spiel == null) {
 
-            float startX = spielfeldLine.getStart().getXPosition();
-            float startY = spielfeldLine.getStart().getYPosition();
-            float endX = spielfeldLine.getEnd().getXPosition();
-            float endY = spielfeldLine.getEnd().getYPosition();
+                canvas.drawLines(spielfeldLinien, blackPaint);
+            } else {
 
-            canvas.drawLine(startX, startY, endX, endY, blackPaint);
+                ebeneAktualisieren();
+                canvas.drawBitmap(ebene, 0, 0, null);
+            }
         }
 
-        drawSteine(canvas);
+        canvas.restore();
     }
 
     /**
-     * Zeichnet die einzelnen Spielsteine auf dem Canvas.
-     *
-     * @param canvas Canvas auf dem gezeichnet wird.
+     * Zeichnet die Steine der neuen Züge in die Ebene. Die Ebene wird nur
+     * nach einer Größenänderung, einem Neustart oder zurückgenommenen Zügen
+     * komplett neu gezeichnet.
      */
-    private void drawSteine(Canvas canvas) {
+    private void ebeneAktualisieren() {
 
-        if(XOGame.getGespielteZuege() != null) {
+        int breite = (int) Math.ceil(xOG.getWidth());
+        int hoehe = (int) Math.ceil(xOG.getHeight());
 
-            for(Turn turn : XOGame.getGespielteZuege()) {
+        if(ebene == null || ebene.getWidth() != breite || ebene.getHeight() != hoehe) {
 
-                turn.draw(canvas);
-            }
+            ebeneFreigeben();
+            ebene = Bitmap.createBitmap(breite, hoehe, Bitmap.Config.ARGB_8888);
+            ebenenCanvas = new Canvas(ebene);
+            gezeichneteZuege = -1;
+        }
+
+        List<Turn> zuege = spiel.getGespielteZuege();
+
+        if(gezeichneteZuege < 0 || gezeichneteZuege > zuege.size()) {
+
+            ebene.eraseColor(Color.TRANSPARENT);
+            ebenenCanvas.drawLines(spielfeldLinien, blackPaint);
+            gezeichneteZuege = 0;
         }
+
+        Drawable xDrawable = TokenDrawables.get(getContext(), Player.X);
+        Drawable oDrawable = TokenDrawables.get(getContext(), Player.O);
+
+        for(int i = gezeichneteZuege; i < zuege.size(); i++) {
+
+            Turn turn = zuege.get(i);
+            turn.draw(ebenenCanvas, turn.getPlayer() == Player.X ? xDrawable : oDrawable);
+        }
+
+        gezeichneteZuege = zuege.size();
+    }
+
+    /** Gibt den Speicher der Ebene frei */
+    private void ebeneFreigeben() {
+
+        if(ebene != null) {
+
+            ebene.recycle();
+            ebene = null;
+            ebenenCanvas = null;
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+
+        ebeneFreigeben();
+    }
+
+    /**
+     * Zeichnet nur das Feld eines neuen Zuges neu.
+     *
+     * @param feld Feld des Zuges
+     */
+    public void feldNeuZeichnen(Field feld) {
+
+        invalidate((int) Math.floor(versatzX + feld.getX1().getXPosition()),
+                (int) Math.floor(versatzY + feld.getX1().getYPosition()),
+                (int) Math.ceil(versatzX + feld.getX3().getXPosition()),
+                (int) Math.ceil(versatzY + feld.getX3().getYPosition()));
+    }
+
+    /**
+     * Zeichnet die Ebene mit allen Steinen neu, z.B. nachdem Züge
+     * zurückgenommen wurden.
+     */
+    public void steineNeuZeichnen() {
+
+        gezeichneteZuege = -1;
+        invalidate();
     }
 
     @Override
     public boolean onTouchEvent(MotionEvent event) {
-        float x = event.getX();
-        float y = event.getY();
+        float x = event.getX() - versatzX;
+        float y = event.getY() - versatzY;
 
         Field spielfeld = null;
 
-        if(inputVerarbeiter != null) {
+        if(inputVerarbeiter != null && spiel != null) {
 
-            spielfeld = inputVerarbeiter.getField(new Position(x, y));
+            spielfeld = inputVerarbeiter.getField(x, y);
         }
 
-        if(spielfeld != null) {
+        if(spielfeld != null
+                && spiel.zugGespielt(new Turn(spiel.gibAktuellenSpielstein(), spielfeld))) {
 
-            XOGame.zugGespielt(new Turn(XOGame.gibAktuellenSpielstein(), spielfeld));
-            invalidate();
+            feldNeuZeichnen(spielfeld);
         }
 
         return false;
     }
 
+    /**
+     * Setzt das Spiel, dessen Züge auf diesem Spielfeld gespielt werden.
+     *
+     * @param spiel Spiel des Spielfeldes
+     */
+    public void setSpiel(XOGame spiel) {
+
+        this.spiel = spiel;
+    }
+
+    /**
+     * Gibt das Feld einer Zelle zurück.
+     *
+     * @param zelle Index der Zelle
+     * @return Feld der Zelle oder <code>null</code> wenn das Spielfeld noch
+     *         nicht berechnet wurde
+     */
+    public Field gibFeld(int zelle) {
+
+        List<Field> felder = xOG.getPlayingFields();
+
+        return felder != null ? felder.get(zelle) : null;
+    }
+
     /**
      * Erstellt das Spielfeld neu
      *
-     * @param columnsAndRows
+     * @param columns Anzahl der Spalten
+     * @param rows Anzahl der Reihen
      */
-    public XOPlayingField restart(int columnsAndRows) {
+    public XOPlayingField restart(int columns, int rows) {
 
-        invalidate();
-        xOG = new XOPlayingFieldGenerator(columnsAndRows);
+        xOG = new XOPlayingFieldGenerator(columns, rows);
         inputVerarbeiter = new PlayingFieldInputProcessor<>(xOG);
+        layoutBerechnen(getWidth(), getHeight());
+        steineNeuZeichnen();
         return this;
     }
 
@@ -7,6 +7,7 @@ import org.junit.runner.RunWith;
 import org.robolectric.Robolectric;
 import org.robolectric.RobolectricTestRunner;
 import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
 
 
 import shafou.xospiel.Activities.GameMenuActivity;
@@ -14,7 +15,7 @@ import shafou.xospiel.BuildConfig;
 import shafou.xospiel.PlayingField.Field;
 import shafou.xospiel.PlayingField.Token;
 import shafou.xospiel.PlayingField.XToken;
-import shafou.xospiel.GameLogic.Position;
+import shafou.xospiel.GameLogic.Player;
 import shafou.xospiel.GameLogic.Turn;
 import shafou.xospiel.GameLogic.XOGame;
 import shafou.xospiel.PlayingField.OToken;
@@ -32,6 +33,9 @@ import static org.mockito.Mockito.when;
  *
  * Change log:
  * 1) 11.06.2017 ELF Klasse erstellt.
+ * 2) 17.10.2026 ELF Spiele werden als Objekte erstellt.
+ * 3) 18.10.2026 ELF Felder werden über ihre Zelle bestimmt.
+ * 4) 18.10.2026 ELF Suchen des Computers mehrerer Spiele getestet.
  */
 
 @RunWith(RobolectricTestRunner.class)
@@ -46,22 +50,21 @@ public class XOGameTest {
 
         activity = Robolectric.setupActivity(GameMenuActivity.class);
 
-        xOGame = XOGame.getInstance(activity, 3);
-        xOGame = XOGame.neuStarten(activity, 3);
+        xOGame = new XOGame(activity, 3, 3, 3);
 
         Token tokenX = new XToken(activity);
         Token tokenO = new OToken(activity);
 
         Field mockedField = mock(Field.class);
-        when(mockedField.getPositionOnPlayingField()).thenReturn(new Position(1, 0));
+        when(mockedField.getCell()).thenReturn(1);
 
         Turn turn1 = new Turn(tokenX, mockedField);
         Turn turn2 = new Turn(tokenO, mockedField);
 
-        XOGame.zugGespielt(turn1);
-        XOGame.zugGespielt(turn2);
+        xOGame.zugGespielt(turn1);
+        xOGame.zugGespielt(turn2);
 
-        Turn lastTurn = XOGame.gibLetztenZug();
+        Turn lastTurn = xOGame.gibLetztenZug();
         assertThat(turn2).isEqualTo(lastTurn);
     }
 
@@ -69,49 +72,98 @@ public class XOGameTest {
 
         activity = Robolectric.setupActivity(GameMenuActivity.class);
 
-        xOGame = XOGame.getInstance(activity, 3);
-        xOGame = XOGame.neuStarten(activity, 3);
+        xOGame = new XOGame(activity, 3, 3, 3);
 
         Token tokenX1 = new XToken(activity);
         Token tokenO1 = new OToken(activity);
         Token tokenX2 = new XToken(activity);
 
         Field mockedField = mock(Field.class);
-        when(mockedField.getPositionOnPlayingField()).thenReturn(new Position(1, 0));
+        when(mockedField.getCell()).thenReturn(1);
 
         Turn turn1 = new Turn(tokenX1, mockedField);
         Turn turn2 = new Turn(tokenO1, mockedField);
         Turn turn3 = new Turn(tokenX2, mockedField);
 
-        XOGame.zugGespielt(turn1);
-        XOGame.zugGespielt(turn2);
-        XOGame.zugGespielt(turn3);
+        xOGame.zugGespielt(turn1);
+        xOGame.zugGespielt(turn2);
+        xOGame.zugGespielt(turn3);
 
-        Turn lastTurn = XOGame.gibLetztenZug();
+        Turn lastTurn = xOGame.gibLetztenZug();
         assertThat(turn3).isEqualTo(lastTurn);
     }
 
+    @Test public void ZugGespielt_BesetztesFeld_NichtAkzeptiert() {
+
+        activity = Robolectric.setupActivity(GameMenuActivity.class);
+
+        xOGame = new XOGame(activity, 3, 3, 3);
+
+        Field mockedField = mock(Field.class);
+        when(mockedField.getCell()).thenReturn(4);
+
+        assertThat(xOGame.zugGespielt(new Turn(xOGame.gibAktuellenSpielstein(), mockedField)))
+                .isTrue();
+        assertThat(xOGame.zugGespielt(new Turn(xOGame.gibAktuellenSpielstein(), mockedField)))
+                .isFalse();
+    }
+
+    @Test public void Beenden_AnderesSpiel_ComputerZugGespielt() throws InterruptedException {
+
+        activity = Robolectric.setupActivity(GameMenuActivity.class);
+
+        XOGame spielA = new XOGame(activity, 3, 3, 3);
+        XOGame spielB = new XOGame(activity, 3, 3, 3);
+
+        /** Ohne Größe hat das Spielfeld keine Felder für den Zug des Computers */
+        spielB.spielfeld().layout(0, 0, 300, 300);
+
+        if(spielB.gibAktuellenSpielstein() == Player.X) {
+
+            Field mockedField = mock(Field.class);
+            when(mockedField.getCell()).thenReturn(4);
+            spielB.zugGespielt(new Turn(Player.X, mockedField));
+        }
+
+        spielA.setComputerGegner(true);
+        spielB.setComputerGegner(true);
+        assertThat(spielB.istComputerAmZug()).isTrue();
+
+        /** Wie beim Drehen des Geräts wird das alte Spiel nach dem neuen beendet */
+        spielA.beenden();
+
+        long ende = System.currentTimeMillis() + 5000L;
+
+        while(spielB.istComputerAmZug() && System.currentTimeMillis() < ende) {
+
+            Thread.sleep(10L);
+            ShadowLooper.runUiThreadTasks();
+        }
+
+        assertThat(spielB.istComputerAmZug()).isFalse();
+        spielB.beenden();
+    }
+
     @Test public void GibAktuellenSpielstein_OSpielstein_Bestimmt() {
 
         activity = Robolectric.setupActivity(GameMenuActivity.class);
 
-        xOGame = XOGame.getInstance(activity, 3);
-        xOGame = XOGame.neuStarten(activity, 3);
+        xOGame = new XOGame(activity, 3, 3, 3);
 
         Token tokenX1 = new XToken(activity);
         Token tokenO1 = new OToken(activity);
         Token tokenX2 = new XToken(activity);
 
         Field mockedField = mock(Field.class);
-        when(mockedField.getPositionOnPlayingField()).thenReturn(new Position(1, 0));
+        when(mockedField.getCell()).thenReturn(1);
 
         Turn turn1 = new Turn(tokenX1, mockedField);
         Turn turn2 = new Turn(tokenO1, mockedField);
         Turn turn3 = new Turn(tokenX2, mockedField);
 
-        XOGame.zugGespielt(turn1);
-        XOGame.zugGespielt(turn2);
-        XOGame.zugGespielt(turn3);
+        xOGame.zugGespielt(turn1);
+        xOGame.zugGespielt(turn2);
+        xOGame.zugGespielt(turn3);
 
         Token aktuellerToken = new OToken(activity);
         assertThat(new OToken(activity)).isEqualTo(aktuellerToken);
@@ -121,8 +173,7 @@ public class XOGameTest {
 
         activity = Robolectric.setupActivity(GameMenuActivity.class);
 
-        xOGame = XOGame.getInstance(activity, 3);
-        xOGame = XOGame.neuStarten(activity, 3);
+        xOGame = new XOGame(activity, 3, 3, 3);
 
         Token tokenX1 = new XToken(activity);
         Token tokenO1 = new OToken(activity);
@@ -130,17 +181,17 @@ public class XOGameTest {
         Token tokenO2 = new OToken(activity);
 
         Field mockedField = mock(Field.class);
-        when(mockedField.getPositionOnPlayingField()).thenReturn(new Position(1, 0));
+        when(mockedField.getCell()).thenReturn(1);
 
         Turn turn1 = new Turn(tokenX1, mockedField);
         Turn turn2 = new Turn(tokenO1, mockedField);
         Turn turn3 = new Turn(tokenX2, mockedField);
         Turn turn4 = new Turn(tokenO2, mockedField);
 
-        XOGame.zugGespielt(turn1);
-        XOGame.zugGespielt(turn2);
-        XOGame.zugGespielt(turn3);
-        XOGame.zugGespielt(turn4);
+        xOGame.zugGespielt(turn1);
+        xOGame.zugGespielt(turn2);
+        xOGame.zugGespielt(turn3);
+        xOGame.zugGespielt(turn4);
 
         Token aktuellerToken = new XToken(activity);
         assertThat(new XToken(activity)).isEqualTo(aktuellerToken);
@@ -191,7 +242,7 @@ public class XOGameTest {
     @Test public void GetMinimumTokensToWin_3_Returned() {
 
         XOGame.Mode[] gameModes = XOGame.Mode.values();
-        int expectedTokens = gameModes[0].getColumnsAndRows();
+        int expectedTokens = gameModes[0].getTokens()[0];
 
         assertThat(XOGame.Mode.getMinimumTokensToWin()).isSameAs(expectedTokens);
     }
@@ -0,0 +1,193 @@
+package shafou.xospiel.GameLogic;
+
+/**
+ *
+ * This class represents a board with more than 64 cells.
+ *
+ * <p>The stones of every player are stored in an array of <code>long</code>
+ * words, every word holds 64 cells.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Zobrist hash is updated.
+ */
+
+public final class BigBoard extends Board {
+
+    /** Stones of the X player */
+    private final long[] xStones;
+
+    /** Stones of the O player */
+    private final long[] oStones;
+
+    /** Amount of stones on the board */
+    private int stoneCount;
+
+    /** Change of the column and row to the next cell in every direction */
+    private static final int[] DIRECTION_COLUMNS = {1, 0, 1, -1};
+    private static final int[] DIRECTION_ROWS = {0, 1, 1, 1};
+
+    BigBoard(int columns, int rows) {
+
+        super(columns, rows);
+
+        int words = (columns * rows + 63) >>> 6;
+        this.xStones = new long[words];
+        this.oStones = new long[words];
+    }
+
+    @Override
+    public void place(int cell, Player player) {
+
+        checkCell(cell);
+
+        if(isSet(xStones, cell) || isSet(oStones, cell)) {
+
+            throw new IllegalStateException("Cell " + cell + " is already occupied");
+        }
+
+        long[] stones = player == Player.X ? xStones : oStones;
+        stones[cell >>> 6] |= 1L << cell;
+        stoneCount++;
+        toggleHash(cell, player);
+    }
+
+    @Override
+    public void undo(int cell) {
+
+        checkCell(cell);
+
+        Player player = getOccupant(cell);
+
+        if(player != null) {
+
+            long bit = ~(1L << cell);
+            xStones[cell >>> 6] &= bit;
+            oStones[cell >>> 6] &= bit;
+            stoneCount--;
+            toggleHash(cell, player);
+        }
+    }
+
+    @Override
+    public boolean isOccupied(int cell) {
+
+        checkCell(cell);
+
+        return isSet(xStones, cell) || isSet(oStones, cell);
+    }
+
+    @Override
+    public Player getOccupant(int cell) {
+
+        checkCell(cell);
+
+        if(isSet(xStones, cell)) {
+
+            return Player.X;
+        }
+
+        if(isSet(oStones, cell)) {
+
+            return Player.O;
+        }
+
+        return null;
+    }
+
+    @Override
+    public int getStoneCount() {
+        return stoneCount;
+    }
+
+    @Override
+    public boolean hasWon(Player player, int tokensToWin) {
+
+        long[] stones = player == Player.X ? xStones : oStones;
+        int columns = getColumns();
+        int rows = getRows();
+
+        for(int word = 0; word < stones.length; word++) {
+
+            long remaining = stones[word];
+
+            /** Iterates over the set bits of the word */
+            while(remaining != 0) {
+
+                int cell = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+
+                int column = cell % columns;
+                int row = cell / columns;
+
+                for(int direction = 0; direction < DIRECTION_COLUMNS.length; direction++) {
+
+                    int dc = DIRECTION_COLUMNS[direction];
+                    int dr = DIRECTION_ROWS[direction];
+
+                    /** Only the first stone of a sequence has to be counted */
+                    int previousColumn = column - dc;
+                    int previousRow = row - dr;
+
+                    if(previousColumn >= 0 && previousColumn < columns
+                            && previousRow >= 0
+                            && isSet(stones, previousRow * columns + previousColumn)) {
+
+                        continue;
+                    }
+
+                    int count = 1;
+                    int c = column + dc;
+                    int r = row + dr;
+
+                    while(count < tokensToWin && c >= 0 && c < columns && r < rows
+                            && isSet(stones, r * columns + c)) {
+
+                        count++;
+                        c += dc;
+                        r += dr;
+                    }
+
+                    if(count >= tokensToWin) {
+
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void clear() {
+
+        for(int i = 0; i < xStones.length; i++) {
+
+            xStones[i] = 0;
+            oStones[i] = 0;
+        }
+
+        stoneCount = 0;
+        setHash(0L);
+    }
+
+    @Override
+    public BigBoard copy() {
+
+        BigBoard copy = new BigBoard(getColumns(), getRows());
+        System.arraycopy(xStones, 0, copy.xStones, 0, xStones.length);
+        System.arraycopy(oStones, 0, copy.oStones, 0, oStones.length);
+        copy.stoneCount = stoneCount;
+        copy.setHash(getHash());
+        return copy;
+    }
+
+    private static boolean isSet(long[] stones, int cell) {
+
+        return (stones[cell >>> 6] & (1L << cell)) != 0;
+    }
+}
@@ -0,0 +1,228 @@
+package shafou.xospiel.GameLogic;
+
+/**
+ *
+ * This class represents a board with up to 64 cells.
+ *
+ * <p>The stones of every player are stored in one <code>long</code>, the bit
+ * at the index of a cell is set if the player has a stone on this cell.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Zobrist hash is updated.
+ */
+
+public final class BitBoard extends Board {
+
+    /** Maximum amount of cells a bit board can hold */
+    public static final int MAX_CELLS = 64;
+
+    /** Stones of the X player */
+    private long xStones;
+
+    /** Stones of the O player */
+    private long oStones;
+
+    /** Mask with a bit for every cell of the board */
+    private final long allCells;
+
+    /**
+     * Shift to the next cell in a row, column, right diagonal and left
+     * diagonal.
+     */
+    private final int[] shifts;
+
+    /**
+     * For every direction the cells that have a next cell in this direction.
+     * Prevents that a row continues on the next row of the board.
+     */
+    private final long[] directionMasks;
+
+    BitBoard(int columns, int rows) {
+
+        super(columns, rows);
+
+        if(columns * rows > MAX_CELLS) {
+
+            throw new IllegalArgumentException("A bit board can hold at most "
+                    + MAX_CELLS + " cells");
+        }
+
+        int cells = columns * rows;
+        this.allCells = cells == MAX_CELLS ? -1L : (1L << cells) - 1;
+        this.shifts = new int[] {1, columns, columns + 1, columns - 1};
+        this.directionMasks = new long[4];
+
+        for(int cell = 0; cell < cells; cell++) {
+
+            int column = cell % columns;
+            int row = cell / columns;
+            long bit = 1L << cell;
+
+            /** Row */
+            if(column < columns - 1) {
+                directionMasks[0] |= bit;
+            }
+
+            /** Column */
+            if(row < rows - 1) {
+                directionMasks[1] |= bit;
+            }
+
+            /** Right diagonal */
+            if(column < columns - 1 && row < rows - 1) {
+                directionMasks[2] |= bit;
+            }
+
+            /** Left diagonal */
+            if(column > 0 && row < rows - 1) {
+                directionMasks[3] |= bit;
+            }
+        }
+    }
+
+    @Override
+    public void place(int cell, Player player) {
+
+        checkCell(cell);
+
+        long bit = 1L << cell;
+
+        if(((xStones | oStones) & bit) != 0) {
+
+            throw new IllegalStateException("Cell " + cell + " is already occupied");
+        }
+
+        if(player == Player.X) {
+
+            xStones |= bit;
+        } else {
+
+            oStones |= bit;
+        }
+
+        toggleHash(cell, player);
+    }
+
+    @Override
+    public void undo(int cell) {
+
+        checkCell(cell);
+
+        long bit = 1L << cell;
+
+        if((xStones & bit) != 0) {
+
+            xStones &= ~bit;
+            toggleHash(cell, Player.X);
+        } else if((oStones & bit) != 0) {
+
+            oStones &= ~bit;
+            toggleHash(cell, Player.O);
+        }
+    }
+
+    @Override
+    public boolean isOccupied(int cell) {
+
+        checkCell(cell);
+
+        return ((xStones | oStones) & (1L << cell)) != 0;
+    }
+
+    @Override
+    public Player getOccupant(int cell) {
+
+        checkCell(cell);
+
+        long bit = 1L << cell;
+
+        if((xStones & bit) != 0) {
+
+            return Player.X;
+        }
+
+        if((oStones & bit) != 0) {
+
+            return Player.O;
+        }
+
+        return null;
+    }
+
+    @Override
+    public int getStoneCount() {
+
+        return Long.bitCount(xStones | oStones);
+    }
+
+    @Override
+    public boolean hasWon(Player player, int tokensToWin) {
+
+        long stones = getStones(player);
+
+        if(Long.bitCount(stones) < tokensToWin) {
+
+            return false;
+        }
+
+        for(int direction = 0; direction < shifts.length; direction++) {
+
+            /**
+             * After the i-th step a bit is only left if the cell and the next
+             * i cells in this direction are set.
+             */
+            long run = stones;
+
+            for(int i = 1; i < tokensToWin && run != 0; i++) {
+
+                run &= (run >>> shifts[direction]) & directionMasks[direction];
+            }
+
+            if(run != 0) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public void clear() {
+
+        xStones = 0;
+        oStones = 0;
+        setHash(0L);
+    }
+
+    @Override
+    public BitBoard copy() {
+
+        BitBoard copy = new BitBoard(getColumns(), getRows());
+        copy.xStones = xStones;
+        copy.oStones = oStones;
+        copy.setHash(getHash());
+        return copy;
+    }
+
+    /**
+     * @param player A player
+     * @return Bit mask of the stones of the player
+     */
+    public long getStones(Player player) {
+
+        return player == Player.X ? xStones : oStones;
+    }
+
+    /**
+     * @return Bit mask of all empty cells
+     */
+    public long getEmptyCells() {
+
+        return ~(xStones | oStones) & allCells;
+    }
+}
@@ -0,0 +1,195 @@
+package shafou.xospiel.GameLogic;
+
+/**
+ *
+ * This class represents the state of a playing field.
+ *
+ * <p>The cells of a board are indexed row by row, starting with 0 in the top
+ * left corner:
+ *
+ * --------------------
+ * |  0  |  1  |  2  |
+ * --------------------
+ * |  3  |  4  |  5  |
+ * --------------------
+ *
+ * <p>A board only stores which player occupies which cell. Placing, removing
+ * and querying stones does not allocate any objects.
+ *
+ * <p>Every board keeps the {@link Zobrist} hash of its stones up to date, so
+ * a search can identify a position without scanning the board.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Zobrist hash added.
+ */
+
+public abstract class Board {
+
+    /** Amount of columns of the board */
+    private final int columns;
+
+    /** Amount of rows of the board */
+    private final int rows;
+
+    /** Zobrist hash of the stones on the board */
+    private long hash;
+
+    Board(int columns, int rows) {
+
+        if(columns <= 0 || rows <= 0) {
+
+            throw new IllegalArgumentException("Rows and columns must be positiv");
+        }
+
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    /**
+     * Creates a new empty board. Boards with up to 64 cells are stored in a
+     * {@link BitBoard}, all larger boards in a {@link BigBoard}.
+     *
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @return An empty board
+     */
+    public static Board create(int columns, int rows) {
+
+        if(columns * rows <= BitBoard.MAX_CELLS) {
+
+            return new BitBoard(columns, rows);
+        }
+
+        return new BigBoard(columns, rows);
+    }
+
+    /**
+     * Places a stone of a player on a cell.
+     *
+     * @param cell Index of the cell
+     * @param player Player the stone belongs to
+     */
+    public abstract void place(int cell, Player player);
+
+    /**
+     * Removes the stone from a cell.
+     *
+     * @param cell Index of the cell
+     */
+    public abstract void undo(int cell);
+
+    /**
+     * @param cell Index of the cell
+     * @return <code>true</code> if any player has a stone on the cell
+     */
+    public abstract boolean isOccupied(int cell);
+
+    /**
+     * @param cell Index of the cell
+     * @return The player that has a stone on the cell or <code>null</code>
+     */
+    public abstract Player getOccupant(int cell);
+
+    /**
+     * @return Amount of stones on the board
+     */
+    public abstract int getStoneCount();
+
+    /**
+     * Calculates if a player has the given amount of stones in a row, column
+     * or diagonal.
+     *
+     * @param player Player to check
+     * @param tokensToWin Tokens to win this game
+     * @return <code>true</code> if the player has won
+     */
+    public abstract boolean hasWon(Player player, int tokensToWin);
+
+    /** Removes all stones from the board */
+    public abstract void clear();
+
+    /**
+     * @return An independent copy of this board
+     */
+    public abstract Board copy();
+
+    /**
+     * Returns the winner of the board.
+     *
+     * @param tokensToWin Tokens to win this game
+     * @return The winning player or <code>null</code> if nobody has won
+     */
+    public Player getWinner(int tokensToWin) {
+
+        if(hasWon(Player.X, tokensToWin)) {
+
+            return Player.X;
+        }
+
+        if(hasWon(Player.O, tokensToWin)) {
+
+            return Player.O;
+        }
+
+        return null;
+    }
+
+    /**
+     * @return <code>true</code> if there is no empty cell left
+     */
+    public boolean isFull() {
+
+        return getStoneCount() == getCells();
+    }
+
+    /**
+     * Checks if a cell index lies on this board.
+     *
+     * @param cell Index of the cell
+     */
+    void checkCell(int cell) {
+
+        if(cell < 0 || cell >= getCells()) {
+
+            throw new IllegalArgumentException("Cell " + cell + " is not on the board");
+        }
+    }
+
+    /**
+     * Adds or removes the key of a stone to the hash.
+     *
+     * @param cell Index of the cell
+     * @param player Player the stone belongs to
+     */
+    void toggleHash(int cell, Player player) {
+
+        hash ^= Zobrist.key(player, cell);
+    }
+
+    void setHash(long hash) {
+        this.hash = hash;
+    }
+
+    /**
+     * @return Zobrist hash of the stones on the board
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCells() {
+        return columns * rows;
+    }
+}
@@ -0,0 +1,72 @@
+package shafou.xospiel.GameLogic;
+
+/**
+ *
+ * This class has methods to work with cell indices.
+ *
+ * <p>A cell of a playing field is identified by one <code>int</code>, the
+ * cells are indexed row by row starting with 0 in the top left corner:
+ * cell = row * columns + column. Columns and rows start with 0.
+ *
+ * <p>Pixel coordinates on the screen are represented by {@link Position}.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+public final class Cell {
+
+    /** Index of no cell */
+    public static final int NONE = -1;
+
+    private Cell() {
+    }
+
+    /**
+     * @param column Column of the cell
+     * @param row Row of the cell
+     * @param columns Columns of the playing field
+     * @return Index of the cell
+     */
+    public static int index(int column, int row, int columns) {
+
+        return row * columns + column;
+    }
+
+    /**
+     * @param cell Index of the cell
+     * @param columns Columns of the playing field
+     * @return Column of the cell
+     */
+    public static int column(int cell, int columns) {
+
+        return cell % columns;
+    }
+
+    /**
+     * @param cell Index of the cell
+     * @param columns Columns of the playing field
+     * @return Row of the cell
+     */
+    public static int row(int cell, int columns) {
+
+        return cell / columns;
+    }
+
+    /**
+     * Checks if a column and row lie on a playing field.
+     *
+     * @param column Column of the cell
+     * @param row Row of the cell
+     * @param columns Columns of the playing field
+     * @param rows Rows of the playing field
+     * @return <code>true</code> if the cell is on the playing field
+     */
+    public static boolean isOnField(int column, int row, int columns, int rows) {
+
+        return column >= 0 && column < columns && row >= 0 && row < rows;
+    }
+}
@@ -0,0 +1,23 @@
+package shafou.xospiel.GameLogic;
+
+/**
+ *
+ * A computer player chooses the moves of one side of a game.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Interface created.
+ */
+
+public interface ComputerPlayer {
+
+    /**
+     * Chooses the next move of the current player of a game.
+     *
+     * @param state State of the game, is not changed
+     * @return Index of the cell of the chosen move
+     */
+    int chooseMove(GameState state);
+}
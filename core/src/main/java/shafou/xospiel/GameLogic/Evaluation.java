@@ -0,0 +1,119 @@
+package shafou.xospiel.GameLogic;
+
+/**
+ *
+ * This class estimates the value of a position that was not searched until
+ * the end of the game.
+ *
+ * <p>Every winning line that only contains stones of one player counts for
+ * this player. The more stones the line contains, the more it counts. Lines
+ * with stones of both players can not be won anymore and do not count.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Value of a single line for incremental evaluations.
+ */
+
+public final class Evaluation {
+
+    /** Value of a won game, reduced by the amount of moves until the win */
+    public static final int WIN = 1 << 24;
+
+    /** Every value above this bound is a won game */
+    public static final int WIN_BOUND = WIN - (1 << 16);
+
+    /** Value of a line by the amount of stones on it */
+    private static final int[] LINE_VALUES = {0, 1, 8, 64, 512, 4096, 32768, 262144};
+
+    private Evaluation() {
+    }
+
+    /**
+     * Evaluates a position from the view of a player.
+     *
+     * @param board Board of the position
+     * @param lines Winning lines of the board
+     * @param player Player whose view is evaluated
+     * @return Positive values are good for the player, negative values are
+     *         good for the opponent
+     */
+    public static int evaluate(Board board, WinningLines lines, Player player) {
+
+        if(lines.hasMasks() && board instanceof BitBoard) {
+
+            BitBoard bitBoard = (BitBoard) board;
+            return evaluate(lines, bitBoard.getStones(player),
+                    bitBoard.getStones(player.opponent()));
+        }
+
+        int value = 0;
+
+        for(int line = 0; line < lines.getLineCount(); line++) {
+
+            int own = 0;
+            int other = 0;
+            int cell = lines.getFirstCell(line);
+
+            for(int i = 0; i < lines.getTokensToWin(); i++) {
+
+                Player occupant = board.getOccupant(cell);
+
+                if(occupant == player) {
+                    own++;
+                } else if(occupant != null) {
+                    other++;
+                }
+
+                cell += lines.getStep(line);
+            }
+
+            value += lineValue(own, other);
+        }
+
+        return value;
+    }
+
+    /**
+     * Evaluates a position of a bit board.
+     *
+     * @param lines Winning lines of the board
+     * @param own Stones of the player
+     * @param other Stones of the opponent
+     * @return Value from the view of the player
+     */
+    public static int evaluate(WinningLines lines, long own, long other) {
+
+        int value = 0;
+
+        for(int line = 0; line < lines.getLineCount(); line++) {
+
+            long mask = lines.getMask(line);
+            value += lineValue(Long.bitCount(own & mask), Long.bitCount(other & mask));
+        }
+
+        return value;
+    }
+
+    /**
+     * @param own Stones of the player on a line
+     * @param other Stones of the opponent on the line
+     * @return Value of the line from the view of the player
+     */
+    static int lineValue(int own, int other) {
+
+        if(other == 0) {
+
+            return LINE_VALUES[Math.min(own, LINE_VALUES.length - 1)];
+        }
+
+        if(own == 0) {
+
+            return -LINE_VALUES[Math.min(other, LINE_VALUES.length - 1)];
+        }
+
+        return 0;
+    }
+}
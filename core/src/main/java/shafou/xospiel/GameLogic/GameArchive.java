@@ -0,0 +1,502 @@
+package shafou.xospiel.GameLogic;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+/**
+ *
+ * This class archives played games and keeps statistics of every board size
+ * and amount of tokens to win.
+ *
+ * <p>The games are appended to a file of records, see
+ * {@link GameRecordReader}. The statistics are updated with every appended
+ * game and stored in an index file, so they are answered without reading the
+ * records. The index remembers the length of the records it contains. Records
+ * behind this length, e.g. if the app was killed before the index was
+ * written, are added when the archive is opened. A damaged or missing index
+ * is rebuilt from all records. A record whose moves can not be replayed is
+ * not counted.
+ *
+ * <p>Format of the index, all numbers big endian:
+ *
+ * int    magic "XOGI"
+ * short  version
+ * long   length of the contained records
+ * int    amount of statistics
+ * statistics one after another:
+ *   byte   columns
+ *   byte   rows
+ *   byte   tokens to win
+ *   int    games
+ *   int    wins of the starting player
+ *   int    wins of the other player
+ *   long   moves of all games
+ *   int    amount of winning lines
+ *   ints   wins of every winning line, see {@link WinningLines}
+ * int    CRC32 of all bytes before
+ *
+ * <p>The index is written into a temporary file first, which then replaces
+ * the index.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Records that can not be replayed are skipped.
+ * 3) 17.10.2026 ELF Statistics are returned as copies.
+ */
+
+public final class GameArchive implements Closeable {
+
+    /** "XOGI" */
+    public static final int MAGIC = 0x584F4749;
+
+    public static final int VERSION = 1;
+
+    /** Amount of the most won lines of a statistic */
+    public static final int TOP_LINES = 3;
+
+    private final GameRecordWriter writer;
+
+    private final File records;
+
+    private final File index;
+
+    /** Statistics by {@link #key(int, int, int)} */
+    private final Map<Integer, Stats> stats = new HashMap<>();
+
+    /** Length of the records contained in the statistics */
+    private long indexedLength;
+
+    private GameArchive(GameRecordWriter writer, File records, File index) {
+
+        this.writer = writer;
+        this.records = records;
+        this.index = index;
+    }
+
+    /**
+     * Opens an archive. Missing files are created, records that are not in
+     * the index are added.
+     *
+     * @param records File of the records
+     * @param index File of the statistics
+     * @return The archive
+     * @throws IOException If a file can not be read or written
+     */
+    public static GameArchive open(File records, File index) throws IOException {
+
+        GameRecordWriter writer = GameRecordWriter.open(records);
+        GameArchive archive = new GameArchive(writer, records, index);
+
+        try {
+
+            archive.load();
+        } catch(IOException | RuntimeException e) {
+
+            writer.close();
+            throw e;
+        }
+
+        return archive;
+    }
+
+    /**
+     * Appends a game to the records and adds it to the statistics. Both
+     * files are written at once.
+     *
+     * @param state The game after its end
+     * @throws IOException If a file can not be written
+     */
+    public synchronized void append(GameState state) throws IOException {
+
+        writer.append(state);
+        writer.flush();
+        add(state);
+        indexedLength = writer.getLength();
+        writeIndex();
+    }
+
+    /**
+     * Returns the statistics of a board size and amount of tokens to win.
+     * The statistics are copied, so they can be read on another thread while
+     * games are appended.
+     *
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @param tokensToWin Tokens to win the game
+     * @return The statistics or <code>null</code> if no game was archived
+     */
+    public synchronized Stats getStats(int columns, int rows, int tokensToWin) {
+
+        Stats modeStats = stats.get(key(columns, rows, tokensToWin));
+
+        return modeStats == null ? null : new Stats(modeStats);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+
+        writer.close();
+    }
+
+    private static int key(int columns, int rows, int tokensToWin) {
+
+        return columns << 16 | rows << 8 | tokensToWin;
+    }
+
+    /**
+     * Reads the index and adds the records behind it.
+     */
+    private void load() throws IOException {
+
+        long length = writer.getLength();
+
+        if(!readIndex() || indexedLength > length) {
+
+            stats.clear();
+            indexedLength = GameRecordReader.HEADER_SIZE;
+        }
+
+        if(indexedLength == length) {
+
+            return;
+        }
+
+        GameRecordReader reader = GameRecordReader.map(records);
+        reader.setPosition((int) indexedLength);
+
+        while(reader.next()) {
+
+            try {
+
+                add(reader.replay());
+            } catch(IllegalArgumentException e) {
+
+                /** A damaged game must not keep the archive closed */
+            }
+        }
+
+        indexedLength = length;
+        writeIndex();
+    }
+
+    /**
+     * Adds a game to the statistics of its size.
+     */
+    private void add(GameState state) {
+
+        Board board = state.getBoard();
+        int key = key(board.getColumns(), board.getRows(), state.getTokensToWin());
+        Stats modeStats = stats.get(key);
+
+        if(modeStats == null) {
+
+            modeStats = new Stats(board.getColumns(), board.getRows(), state.getTokensToWin());
+            stats.put(key, modeStats);
+        }
+
+        modeStats.add(state);
+    }
+
+    /**
+     * Reads the statistics of the index.
+     *
+     * @return <code>false</code> if the index is missing or damaged
+     */
+    private boolean readIndex() throws IOException {
+
+        if(!index.exists()) {
+
+            return false;
+        }
+
+        byte[] data;
+
+        try(RandomAccessFile input = new RandomAccessFile(index, "r")) {
+
+            data = new byte[(int) input.length()];
+            input.readFully(data);
+        }
+
+        if(data.length < 4) {
+
+            return false;
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length - 4);
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+
+        try {
+
+            if(buffer.getInt(data.length - 4) != (int) crc.getValue()
+                    || buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+
+                return false;
+            }
+
+            indexedLength = buffer.getLong();
+            int count = buffer.getInt();
+
+            for(int s = 0; s < count; s++) {
+
+                Stats modeStats = new Stats(buffer.get() & 0xFF, buffer.get() & 0xFF,
+                        buffer.get() & 0xFF);
+                modeStats.games = buffer.getInt();
+                modeStats.firstPlayerWins = buffer.getInt();
+                modeStats.secondPlayerWins = buffer.getInt();
+                modeStats.moves = buffer.getLong();
+
+                if(buffer.getInt() != modeStats.lineWins.length) {
+
+                    return false;
+                }
+
+                for(int line = 0; line < modeStats.lineWins.length; line++) {
+
+                    modeStats.lineWins[line] = buffer.getInt();
+                    modeStats.updateTopLines(line);
+                }
+
+                stats.put(key(modeStats.columns, modeStats.rows, modeStats.tokensToWin),
+                        modeStats);
+            }
+        } catch(BufferUnderflowException | IllegalArgumentException e) {
+
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Replaces the index with the current statistics.
+     */
+    private void writeIndex() throws IOException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream output = new DataOutputStream(bytes);
+
+        output.writeInt(MAGIC);
+        output.writeShort(VERSION);
+        output.writeLong(indexedLength);
+        output.writeInt(stats.size());
+
+        for(Stats modeStats : stats.values()) {
+
+            output.writeByte(modeStats.columns);
+            output.writeByte(modeStats.rows);
+            output.writeByte(modeStats.tokensToWin);
+            output.writeInt(modeStats.games);
+            output.writeInt(modeStats.firstPlayerWins);
+            output.writeInt(modeStats.secondPlayerWins);
+            output.writeLong(modeStats.moves);
+            output.writeInt(modeStats.lineWins.length);
+
+            for(int wins : modeStats.lineWins) {
+
+                output.writeInt(wins);
+            }
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        output.writeInt((int) crc.getValue());
+
+        File temporary = new File(index.getPath() + ".tmp");
+
+        try(FileOutputStream file = new FileOutputStream(temporary)) {
+
+            bytes.writeTo(file);
+        }
+
+        if(!temporary.renameTo(index)) {
+
+            throw new IOException("The index " + index + " can not be replaced");
+        }
+    }
+
+    /**
+     * Statistics of the games of one board size and amount of tokens to win.
+     */
+    public static final class Stats {
+
+        private final int columns;
+
+        private final int rows;
+
+        private final int tokensToWin;
+
+        private final WinningLines lines;
+
+        private int games;
+
+        private int firstPlayerWins;
+
+        private int secondPlayerWins;
+
+        private long moves;
+
+        /** Wins of every winning line */
+        private final int[] lineWins;
+
+        /** Most won lines, most wins first, -1 if fewer lines were won */
+        private final int[] topLines = new int[TOP_LINES];
+
+        private Stats(int columns, int rows, int tokensToWin) {
+
+            this.columns = columns;
+            this.rows = rows;
+            this.tokensToWin = tokensToWin;
+            this.lines = WinningLines.get(columns, rows, tokensToWin);
+            this.lineWins = new int[lines.getLineCount()];
+            Arrays.fill(topLines, -1);
+        }
+
+        private Stats(Stats other) {
+
+            this.columns = other.columns;
+            this.rows = other.rows;
+            this.tokensToWin = other.tokensToWin;
+            this.lines = other.lines;
+            this.games = other.games;
+            this.firstPlayerWins = other.firstPlayerWins;
+            this.secondPlayerWins = other.secondPlayerWins;
+            this.moves = other.moves;
+            this.lineWins = other.lineWins.clone();
+            System.arraycopy(other.topLines, 0, topLines, 0, TOP_LINES);
+        }
+
+        private void add(GameState state) {
+
+            games++;
+            moves += state.getMoveCount();
+
+            if(state.getWinner() == null) {
+
+                return;
+            }
+
+            if(state.getWinner() == state.getStartingPlayer()) {
+
+                firstPlayerWins++;
+            } else {
+
+                secondPlayerWins++;
+            }
+
+            int line = lines.findLine(state.getBoard(), state.getLastMove());
+
+            if(line >= 0) {
+
+                lineWins[line]++;
+                updateTopLines(line);
+            }
+        }
+
+        /**
+         * Moves a line whose wins were increased into the most won lines.
+         * The wins only grow, so the lines that are not in the list never
+         * have more wins than the last line of the list.
+         */
+        private void updateTopLines(int line) {
+
+            int wins = lineWins[line];
+            int i = 0;
+
+            while(i < TOP_LINES && topLines[i] != line) {
+
+                i++;
+            }
+
+            if(i == TOP_LINES) {
+
+                i = TOP_LINES - 1;
+
+                if(wins == 0 || topLines[i] >= 0 && lineWins[topLines[i]] >= wins) {
+
+                    return;
+                }
+
+                topLines[i] = line;
+            }
+
+            while(i > 0 && (topLines[i - 1] < 0 || lineWins[topLines[i - 1]] < wins)) {
+
+                topLines[i] = topLines[i - 1];
+                topLines[i - 1] = line;
+                i--;
+            }
+        }
+
+        public int getColumns() {
+            return columns;
+        }
+
+        public int getRows() {
+            return rows;
+        }
+
+        public int getTokensToWin() {
+            return tokensToWin;
+        }
+
+        public int getGames() {
+            return games;
+        }
+
+        public int getFirstPlayerWins() {
+            return firstPlayerWins;
+        }
+
+        public int getSecondPlayerWins() {
+            return secondPlayerWins;
+        }
+
+        public int getDraws() {
+            return games - firstPlayerWins - secondPlayerWins;
+        }
+
+        /** Returns the share of the games won by the starting player */
+        public double getFirstPlayerWinRate() {
+            return games == 0 ? 0 : (double) firstPlayerWins / games;
+        }
+
+        /** Returns the average amount of moves of a game */
+        public double getAverageLength() {
+            return games == 0 ? 0 : (double) moves / games;
+        }
+
+        /**
+         * Returns the most won lines, most wins first. The cells of a line
+         * are given by the {@link WinningLines} of the size.
+         *
+         * @param rank Rank of the line, starting with 0
+         * @return Index of the line or -1 if fewer lines were won
+         */
+        public int getTopLine(int rank) {
+            return topLines[rank];
+        }
+
+        public int getLineWins(int line) {
+            return lineWins[line];
+        }
+
+        public WinningLines getLines() {
+            return lines;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package shafou.xospiel.GameLogic;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ *
+ * This class reads the records of played games and replays them.
+ *
+ * <p>Format of a file of records:
+ *
+ * int    magic "XOGR", big endian
+ * short  version, big endian
+ * records one after another:
+ *   byte   columns
+ *   byte   rows
+ *   byte   tokens to win
+ *   byte   starting player, {@link Player} ordinal
+ *   varint amount of moves
+ *   moves  one byte per cell on boards with up to 256 cells, else a varint
+ *
+ * <p>A varint holds 7 bits per byte, the lowest bits first. The highest bit
+ * of a byte is set if another byte follows.
+ *
+ * <p>The records are read directly from the buffer, usually a memory mapped
+ * file, with {@link #next()}. The game of the current record is replayed
+ * with the rules of the {@link GameState}. A record that ends after the end
+ * of the data was not completely written, e.g. because the app was killed,
+ * it ends the records like the end of the data.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Continues reading behind known records.
+ */
+
+public final class GameRecordReader {
+
+    /** "XOGR" */
+    public static final int MAGIC = 0x584F4752;
+
+    public static final int VERSION = 1;
+
+    /** Size of the header of a file in bytes */
+    public static final int HEADER_SIZE = 6;
+
+    /** Size of a record without the amount of moves and the moves */
+    static final int RECORD_HEADER_SIZE = 4;
+
+    /** Boards with more cells store a move as varint */
+    static final int ONE_BYTE_CELLS = 256;
+
+    private final ByteBuffer buffer;
+
+    /** Position of the next record */
+    private int position;
+
+    private int columns;
+
+    private int rows;
+
+    private int tokensToWin;
+
+    private Player startingPlayer;
+
+    private int moveCount;
+
+    /** Position of the first move of the current record */
+    private int movesOffset;
+
+    /** Replayed game, reused if the next game has the same size */
+    private GameState state;
+
+    private GameRecordReader(ByteBuffer buffer) {
+
+        if(buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+
+            throw new IllegalArgumentException("The data is not a game record");
+        }
+
+        if(buffer.getShort(4) != VERSION) {
+
+            throw new IllegalArgumentException("Version " + buffer.getShort(4)
+                    + " of game records is not supported");
+        }
+
+        this.buffer = buffer;
+        this.position = HEADER_SIZE;
+    }
+
+    /**
+     * @param buffer Records from position 0 up to the limit, is not copied
+     * @return The reader
+     */
+    public static GameRecordReader wrap(ByteBuffer buffer) {
+
+        return new GameRecordReader(buffer);
+    }
+
+    /**
+     * Maps a part of a file into memory.
+     *
+     * @param channel Channel of the file
+     * @param offset Position of the header in the file
+     * @param length Length of the records with the header
+     * @return The reader
+     * @throws IOException If the file can not be mapped
+     */
+    public static GameRecordReader map(FileChannel channel, long offset, long length)
+            throws IOException {
+
+        return new GameRecordReader(channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+    }
+
+    /**
+     * Maps a file into memory.
+     *
+     * @param file File of the records
+     * @return The reader
+     * @throws IOException If the file can not be mapped
+     */
+    public static GameRecordReader map(File file) throws IOException {
+
+        try(FileInputStream input = new FileInputStream(file)) {
+
+            FileChannel channel = input.getChannel();
+            return map(channel, 0, channel.size());
+        }
+    }
+
+    /**
+     * Moves to the next record. The moves are not read before the game is
+     * replayed.
+     *
+     * @return <code>false</code> if no complete record follows
+     */
+    public boolean next() {
+
+        int limit = buffer.limit();
+        int offset = position;
+
+        if(limit - offset < RECORD_HEADER_SIZE + 1) {
+
+            return false;
+        }
+
+        int nextColumns = buffer.get(offset) & 0xFF;
+        int nextRows = buffer.get(offset + 1) & 0xFF;
+        int nextTokensToWin = buffer.get(offset + 2) & 0xFF;
+        int starting = buffer.get(offset + 3);
+        offset += RECORD_HEADER_SIZE;
+
+        if(nextColumns == 0 || nextRows == 0 || nextTokensToWin == 0
+                || starting < 0 || starting >= Player.values().length) {
+
+            throw new IllegalArgumentException("The game record at " + position + " is damaged");
+        }
+
+        /** Amount of moves */
+        int count = 0;
+        int shift = 0;
+        byte b;
+
+        do {
+
+            if(offset == limit) {
+
+                return false;
+            }
+
+            b = buffer.get(offset++);
+            count |= (b & 0x7F) << shift;
+            shift += 7;
+        } while(b < 0);
+
+        if(count > nextColumns * nextRows) {
+
+            throw new IllegalArgumentException("The game record at " + position + " is damaged");
+        }
+
+        int end;
+
+        if(nextColumns * nextRows <= ONE_BYTE_CELLS) {
+
+            end = offset + count;
+        } else {
+
+            /** Only the last byte of a varint has no highest bit */
+            end = offset;
+
+            for(int m = 0; m < count; m++) {
+
+                do {
+
+                    if(end == limit) {
+
+                        return false;
+                    }
+                } while(buffer.get(end++) < 0);
+            }
+        }
+
+        if(end > limit) {
+
+            return false;
+        }
+
+        columns = nextColumns;
+        rows = nextRows;
+        tokensToWin = nextTokensToWin;
+        startingPlayer = Player.values()[starting];
+        moveCount = count;
+        movesOffset = offset;
+        position = end;
+        return true;
+    }
+
+    /**
+     * Replays the game of the current record. The returned game is reused by
+     * the next replay of a game of the same size.
+     *
+     * @return The game after all moves of the record
+     */
+    public GameState replay() {
+
+        if(state == null || state.getBoard().getColumns() != columns
+                || state.getBoard().getRows() != rows || state.getTokensToWin() != tokensToWin) {
+
+            state = new GameState(columns, rows, tokensToWin, startingPlayer);
+        } else {
+
+            state.reset(startingPlayer);
+        }
+
+        int cells = columns * rows;
+        int offset = movesOffset;
+
+        for(int m = 0; m < moveCount; m++) {
+
+            int cell;
+
+            if(cells <= ONE_BYTE_CELLS) {
+
+                cell = buffer.get(offset++) & 0xFF;
+            } else {
+
+                cell = 0;
+                int shift = 0;
+                byte b;
+
+                do {
+
+                    b = buffer.get(offset++);
+                    cell |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while(b < 0);
+            }
+
+            if(cell >= cells || !state.play(cell)) {
+
+                throw new IllegalArgumentException("Move " + m + " of the game record is invalid");
+            }
+        }
+
+        return state;
+    }
+
+    /**
+     * Continues reading at the end of an already read record.
+     *
+     * @param position End of a record, see {@link #getPosition()}
+     */
+    public void setPosition(int position) {
+
+        if(position < HEADER_SIZE || position > buffer.limit()) {
+
+            throw new IllegalArgumentException("Position " + position + " is outside of the records");
+        }
+
+        this.position = position;
+    }
+
+    /**
+     * Writes a number as varint.
+     *
+     * @param buffer Receives the number
+     * @param value Number, not negative
+     */
+    static void putVarint(ByteBuffer buffer, int value) {
+
+        while((value & ~0x7F) != 0) {
+
+            buffer.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+
+        buffer.put((byte) value);
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getTokensToWin() {
+        return tokensToWin;
+    }
+
+    public Player getStartingPlayer() {
+        return startingPlayer;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    /** Returns the end of the last complete record */
+    public int getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,180 @@
+package shafou.xospiel.GameLogic;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ *
+ * This class appends the records of played games to a file in the format of
+ * the {@link GameRecordReader}.
+ *
+ * <p>The records are collected in a buffer and written to the file when the
+ * buffer is full, on {@link #flush()} and on {@link #close()}. A record that
+ * was not completely written before, e.g. because the app was killed, is
+ * cut off when the file is opened again. A damaged record, e.g. the zeros of
+ * a file whose length was written but not its data, is cut off with all
+ * records behind it.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Length of the written records.
+ * 3) 17.10.2026 ELF Damaged records at the end are cut off.
+ */
+
+public final class GameRecordWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final FileChannel channel;
+
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+    /**
+     * Appends to the records of a channel. The header of the format is
+     * written at once into an empty channel.
+     *
+     * @param channel Readable and writable channel of the file
+     * @throws IOException If the file can not be read
+     */
+    public GameRecordWriter(FileChannel channel) throws IOException {
+
+        this.channel = channel;
+        long size = channel.size();
+
+        if(size < GameRecordReader.HEADER_SIZE) {
+
+            channel.truncate(0);
+            channel.position(0);
+            buffer.putInt(GameRecordReader.MAGIC);
+            buffer.putShort((short) GameRecordReader.VERSION);
+            flush();
+            size = GameRecordReader.HEADER_SIZE;
+        } else {
+
+            GameRecordReader reader = GameRecordReader.map(channel, 0, size);
+
+            try {
+
+                while(reader.next()) {
+
+                    /** Only searches the end of the last complete record */
+                }
+            } catch(IllegalArgumentException e) {
+
+                /** The records end before the damaged record like before an incomplete one */
+            }
+
+            if(reader.getPosition() < size) {
+
+                size = reader.getPosition();
+                channel.truncate(size);
+            }
+        }
+
+        channel.position(size);
+    }
+
+    /**
+     * Opens a file to append records, the file is created if it does not
+     * exist.
+     *
+     * @param file File of the records
+     * @return The writer
+     * @throws IOException If the file can not be opened
+     */
+    public static GameRecordWriter open(File file) throws IOException {
+
+        RandomAccessFile access = new RandomAccessFile(file, "rw");
+
+        try {
+
+            return new GameRecordWriter(access.getChannel());
+        } catch(IOException | RuntimeException e) {
+
+            access.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends the record of a game. Moves that were taken back are not
+     * recorded.
+     *
+     * @param state The game, usually after its end
+     * @throws IOException If the full buffer can not be written
+     */
+    public void append(GameState state) throws IOException {
+
+        Board board = state.getBoard();
+        int cells = board.getCells();
+        int moveCount = state.getMoveCount();
+
+        /** A move and the amount of moves need at most 3 varint bytes */
+        if(buffer.remaining() < GameRecordReader.RECORD_HEADER_SIZE + 3 + 3 * moveCount) {
+
+            flush();
+        }
+
+        buffer.put((byte) board.getColumns());
+        buffer.put((byte) board.getRows());
+        buffer.put((byte) state.getTokensToWin());
+        buffer.put((byte) state.getStartingPlayer().ordinal());
+        GameRecordReader.putVarint(buffer, moveCount);
+
+        for(int m = 0; m < moveCount; m++) {
+
+            if(cells <= GameRecordReader.ONE_BYTE_CELLS) {
+
+                buffer.put((byte) state.getMove(m));
+            } else {
+
+                GameRecordReader.putVarint(buffer, state.getMove(m));
+            }
+        }
+    }
+
+    /**
+     * Writes the collected records to the file.
+     *
+     * @throws IOException If the records can not be written
+     */
+    public void flush() throws IOException {
+
+        buffer.flip();
+
+        while(buffer.hasRemaining()) {
+
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+    }
+
+    /**
+     * @return Length of the file after the collected records are written
+     * @throws IOException If the position of the file can not be read
+     */
+    public long getLength() throws IOException {
+
+        return channel.position() + buffer.position();
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        try {
+
+            flush();
+        } finally {
+
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package shafou.xospiel.GameLogic;
+
+/**
+ *
+ * This class represents one game hosted by a {@link GameSessionRegistry}.
+ *
+ * <p>A session only holds its id, the state of the game and the time of the
+ * last change, so many sessions fit into one process. All methods are
+ * synchronized on the session, moves of different sessions never block each
+ * other.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Time of the last change from the clock of the registry.
+ */
+
+public final class GameSession {
+
+    private final long id;
+
+    private final GameState state;
+
+    /** Time of the changes */
+    private final GameSessionRegistry.Clock clock;
+
+    /** Time of the last change in milliseconds */
+    private volatile long lastActivity;
+
+    /**
+     * @param id Unique id of the session
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @param tokensToWin Tokens to win the game
+     * @param startingPlayer Player that plays the first move
+     * @param clock Time of the changes
+     */
+    GameSession(long id, int columns, int rows, int tokensToWin, Player startingPlayer,
+                GameSessionRegistry.Clock clock) {
+
+        this.id = id;
+        this.state = new GameState(columns, rows, tokensToWin, startingPlayer);
+        this.clock = clock;
+        this.lastActivity = clock.millis();
+    }
+
+    /**
+     * The current player places a stone on a cell.
+     *
+     * @param cell Index of the cell
+     * @return <code>true</code> if the move was accepted
+     */
+    public synchronized boolean play(int cell) {
+
+        lastActivity = clock.millis();
+        return state.play(cell);
+    }
+
+    /**
+     * Plays a move only if the game was not changed since the move was
+     * searched, e.g. by an undo or by the other player.
+     *
+     * @param cell Index of the cell
+     * @param expectedHash Hash of the game {@link GameState#getHash()} the
+     *                     move was searched for
+     * @return <code>true</code> if the move was accepted
+     */
+    public synchronized boolean play(int cell, long expectedHash) {
+
+        return state.getHash() == expectedHash && play(cell);
+    }
+
+    /**
+     * @return Cell of the taken back move or {@link Cell#NONE}
+     */
+    public synchronized int undo() {
+
+        lastActivity = clock.millis();
+        return state.undo();
+    }
+
+    /**
+     * @return Cell of the move played again or {@link Cell#NONE}
+     */
+    public synchronized int redo() {
+
+        lastActivity = clock.millis();
+        return state.redo();
+    }
+
+    /**
+     * Starts a new game with the same board.
+     *
+     * @param startingPlayer Player that plays the first move
+     */
+    public synchronized void reset(Player startingPlayer) {
+
+        lastActivity = clock.millis();
+        state.reset(startingPlayer);
+    }
+
+    /**
+     * @return An independent copy of the game, e.g. for a search
+     */
+    public synchronized GameState snapshot() {
+
+        return state.copy();
+    }
+
+    /**
+     * Returns the game itself. It must only be used by the thread that owns
+     * the session, other threads use {@link #snapshot()}.
+     *
+     * @return State of the game
+     */
+    public GameState getState() {
+        return state;
+    }
+
+    public synchronized Player getCurrentPlayer() {
+        return state.getCurrentPlayer();
+    }
+
+    public synchronized Player getWinner() {
+        return state.getWinner();
+    }
+
+    public synchronized boolean isOver() {
+        return state.isOver();
+    }
+
+    public synchronized int getMoveCount() {
+        return state.getMoveCount();
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public int getColumns() {
+        return state.getBoard().getColumns();
+    }
+
+    public int getRows() {
+        return state.getBoard().getRows();
+    }
+
+    public int getTokensToWin() {
+        return state.getTokensToWin();
+    }
+
+    public long getLastActivity() {
+        return lastActivity;
+    }
+}
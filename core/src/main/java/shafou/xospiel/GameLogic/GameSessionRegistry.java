@@ -0,0 +1,274 @@
+package shafou.xospiel.GameLogic;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ *
+ * This class hosts many independent games at the same time.
+ *
+ * <p>Every game is a {@link GameSession} with a unique id. The sessions are
+ * held in a concurrent map, creating, finding and closing a session does not
+ * block the other sessions. Moves of computer players are searched on one
+ * executor shared by all sessions, every thread of the executor has its own
+ * computer player. The time of the last change of a session is read from a
+ * {@link Clock}, the system time by default.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Time of the sessions is read from a clock.
+ */
+
+public final class GameSessionRegistry {
+
+    /**
+     * Creates the computer players of the threads of the executor.
+     */
+    public interface PlayerFactory {
+
+        /**
+         * @return A new computer player, only used by one thread
+         */
+        ComputerPlayer create();
+    }
+
+    /**
+     * Gives the time of the changes of the sessions.
+     */
+    public interface Clock {
+
+        /**
+         * @return Current time in milliseconds
+         */
+        long millis();
+    }
+
+    /** Reads the time of the system */
+    public static final Clock SYSTEM_CLOCK = new Clock() {
+        @Override
+        public long millis() {
+            return System.currentTimeMillis();
+        }
+    };
+
+    private final ConcurrentHashMap<Long, GameSession> sessions = new ConcurrentHashMap<>();
+
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    /** Searches the computer moves or <code>null</code> without computer players */
+    private final ExecutorService executor;
+
+    /** Computer player of every thread of the executor */
+    private final ThreadLocal<ComputerPlayer> players;
+
+    /** All created computer players, to shut them down with the registry */
+    private final Queue<ComputerPlayer> createdPlayers = new ConcurrentLinkedQueue<>();
+
+    /** Time of the changes of the sessions */
+    private final Clock clock;
+
+    /**
+     * Creates a registry without computer players.
+     */
+    public GameSessionRegistry() {
+
+        this(SYSTEM_CLOCK);
+    }
+
+    /**
+     * Creates a registry without computer players.
+     *
+     * @param clock Time of the changes of the sessions
+     */
+    public GameSessionRegistry(Clock clock) {
+
+        this.executor = null;
+        this.players = null;
+        this.clock = clock;
+    }
+
+    /**
+     * @param threads Threads that search the computer moves of all sessions
+     * @param factory Creates the computer player of every thread
+     */
+    public GameSessionRegistry(int threads, PlayerFactory factory) {
+
+        this(threads, factory, SYSTEM_CLOCK);
+    }
+
+    /**
+     * @param threads Threads that search the computer moves of all sessions
+     * @param factory Creates the computer player of every thread
+     * @param clock Time of the changes of the sessions
+     */
+    public GameSessionRegistry(int threads, final PlayerFactory factory, Clock clock) {
+
+        if(threads <= 0) {
+
+            throw new IllegalArgumentException("At least one thread is required");
+        }
+
+        final AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executor = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+
+                Thread thread = new Thread(runnable, "GameSession-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        this.players = new ThreadLocal<ComputerPlayer>() {
+            @Override
+            protected ComputerPlayer initialValue() {
+
+                ComputerPlayer player = factory.create();
+                createdPlayers.add(player);
+                return player;
+            }
+        };
+        this.clock = clock;
+    }
+
+    /**
+     * Creates and registers a new game.
+     *
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @param tokensToWin Tokens to win the game
+     * @param startingPlayer Player that plays the first move
+     * @return The new session
+     */
+    public GameSession create(int columns, int rows, int tokensToWin, Player startingPlayer) {
+
+        GameSession session = new GameSession(nextId.getAndIncrement(), columns, rows,
+                tokensToWin, startingPlayer, clock);
+        sessions.put(session.getId(), session);
+        return session;
+    }
+
+    /**
+     * @param id Id of a session
+     * @return The session or <code>null</code> if it does not exist
+     */
+    public GameSession get(long id) {
+
+        return sessions.get(id);
+    }
+
+    /**
+     * Removes a session from the registry.
+     *
+     * @param id Id of the session
+     * @return <code>true</code> if the session existed
+     */
+    public boolean close(long id) {
+
+        return sessions.remove(id) != null;
+    }
+
+    /**
+     * Removes all sessions which were not changed for a time.
+     *
+     * @param maxIdleMillis Time without changes in milliseconds
+     * @return Amount of removed sessions
+     */
+    public int closeIdle(long maxIdleMillis) {
+
+        long oldest = clock.millis() - maxIdleMillis;
+        int closed = 0;
+
+        for(Iterator<GameSession> iterator = sessions.values().iterator(); iterator.hasNext();) {
+
+            if(iterator.next().getLastActivity() < oldest) {
+
+                iterator.remove();
+                closed++;
+            }
+        }
+
+        return closed;
+    }
+
+    /**
+     * Searches the move of the current player of a session on the shared
+     * executor and plays it. The move is only played if the game was not
+     * changed during the search.
+     *
+     * @param id Id of the session
+     * @return The played move or {@link Cell#NONE} if the session was closed,
+     * is over or was changed during the search
+     */
+    public Future<Integer> playComputerMove(final long id) {
+
+        if(executor == null) {
+
+            throw new IllegalStateException("The registry has no computer players");
+        }
+
+        return executor.submit(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+
+                GameSession session = sessions.get(id);
+
+                if(session == null) {
+
+                    return Cell.NONE;
+                }
+
+                GameState snapshot = session.snapshot();
+
+                if(snapshot.isOver()) {
+
+                    return Cell.NONE;
+                }
+
+                int move = players.get().chooseMove(snapshot);
+
+                return session.play(move, snapshot.getHash()) ? move : Cell.NONE;
+            }
+        });
+    }
+
+    /**
+     * @return Amount of open sessions
+     */
+    public int size() {
+
+        return sessions.size();
+    }
+
+    /**
+     * Stops the executor and the computer players. The sessions stay
+     * registered.
+     */
+    public void shutdown() {
+
+        if(executor != null) {
+
+            executor.shutdownNow();
+        }
+
+        for(ComputerPlayer player : createdPlayers) {
+
+            if(player instanceof NegamaxPlayer) {
+
+                ((NegamaxPlayer) player).shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package shafou.xospiel.GameLogic;
+
+/**
+ *
+ * This class represents the rules and the state of one X/O game.
+ *
+ * <p>The players take turns, starting with the starting player. A move is
+ * the index of the cell the current player places a stone on. A game is
+ * over if the last move won the game or the board is full.
+ *
+ * <p>Moves can be taken back with {@link #undo()} and played again with
+ * {@link #redo()}. Undoing a move only removes its stone from the board, the
+ * board updates its hash with the same key, so a search can use
+ * {@link #play(int)} and {@link #undo()} as make and unmake. Taken back moves
+ * stay behind the played moves in the same array until a new move is played.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Copies for searches on other threads.
+ * 3) 17.10.2026 ELF Undo and redo of moves.
+ * 4) 17.10.2026 ELF Winning lines of a bit board are kept.
+ */
+
+public final class GameState {
+
+    /** Board with the stones of both players */
+    private final Board board;
+
+    /** how many tokens are required to win a game */
+    private final int tokensToWin;
+
+    /** Winning lines of a {@link BitBoard}, <code>null</code> for other boards */
+    private final WinningLines lines;
+
+    /** Player that plays the first move */
+    private Player startingPlayer;
+
+    /**
+     * Cells of the played moves in the order they were played, followed by
+     * the moves that can be redone
+     */
+    private final int[] moves;
+
+    /** Amount of played moves */
+    private int moveCount;
+
+    /** Amount of taken back moves after the played moves */
+    private int redoCount;
+
+    /** Winner of the game or <code>null</code> */
+    private Player winner;
+
+    /**
+     * A game is played on a board with a specific amount of columns and rows.
+     *
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @param tokensToWin Tokens to win this game
+     * @param startingPlayer Player that plays the first move
+     */
+    public GameState(int columns, int rows, int tokensToWin, Player startingPlayer) {
+
+        if(tokensToWin <= 0) {
+
+            throw new IllegalArgumentException("Tokens to win must be positiv");
+        }
+
+        this.board = Board.create(columns, rows);
+        this.tokensToWin = tokensToWin;
+        this.lines = board instanceof BitBoard
+                ? WinningLines.get(columns, rows, tokensToWin) : null;
+        this.startingPlayer = startingPlayer;
+        this.moves = new int[board.getCells()];
+    }
+
+    private GameState(GameState other) {
+
+        this.board = other.board.copy();
+        this.tokensToWin = other.tokensToWin;
+        this.lines = other.lines;
+        this.startingPlayer = other.startingPlayer;
+        this.moves = other.moves.clone();
+        this.moveCount = other.moveCount;
+        this.redoCount = other.redoCount;
+        this.winner = other.winner;
+    }
+
+    /**
+     * @return An independent copy of this game
+     */
+    public GameState copy() {
+
+        return new GameState(this);
+    }
+
+    /**
+     * The current player places a stone on a cell. Moves on occupied cells
+     * and moves after the end of the game are not accepted. A new move
+     * discards the moves that could be redone.
+     *
+     * @param cell Index of the cell
+     * @return <code>true</code> if the move was accepted
+     */
+    public boolean play(int cell) {
+
+        if(isOver() || board.isOccupied(cell)) {
+
+            return false;
+        }
+
+        redoCount = 0;
+        place(cell);
+        return true;
+    }
+
+    /**
+     * Takes back the last move.
+     *
+     * @return Cell of the taken back move or {@link Cell#NONE} if no move was
+     * played
+     */
+    public int undo() {
+
+        if(moveCount == 0) {
+
+            return Cell.NONE;
+        }
+
+        int cell = moves[--moveCount];
+        board.undo(cell);
+        redoCount++;
+
+        /** Only the last move of a game can win it */
+        winner = null;
+        return cell;
+    }
+
+    /**
+     * Plays the last taken back move again.
+     *
+     * @return Cell of the move or {@link Cell#NONE} if no move was taken back
+     */
+    public int redo() {
+
+        if(redoCount == 0) {
+
+            return Cell.NONE;
+        }
+
+        int cell = moves[moveCount];
+        redoCount--;
+        place(cell);
+        return cell;
+    }
+
+    /**
+     * Places a stone of the current player and checks if it won the game.
+     * The lines through a stone on a bit board are checked with the kept
+     * winning lines.
+     */
+    private void place(int cell) {
+
+        Player player = getCurrentPlayer();
+        board.place(cell, player);
+        moves[moveCount++] = cell;
+
+        boolean won = lines != null
+                ? lines.isWonAt(((BitBoard) board).getStones(player), cell)
+                : Standings.hasWonWith(board, cell, tokensToWin);
+
+        if(won) {
+
+            winner = player;
+        }
+    }
+
+    /**
+     * Starts a new game on the same board.
+     *
+     * @param startingPlayer Player that plays the first move
+     */
+    public void reset(Player startingPlayer) {
+
+        board.clear();
+        this.startingPlayer = startingPlayer;
+        this.moveCount = 0;
+        this.redoCount = 0;
+        this.winner = null;
+    }
+
+    /**
+     * @return The player who has to play the next move
+     */
+    public Player getCurrentPlayer() {
+
+        return (moveCount & 1) == 0 ? startingPlayer : startingPlayer.opponent();
+    }
+
+    /**
+     * @return The cell of the last move or {@link Cell#NONE}
+     */
+    public int getLastMove() {
+
+        return moveCount > 0 ? moves[moveCount - 1] : Cell.NONE;
+    }
+
+    /**
+     * @param index Number of the move, starting with 0
+     * @return Cell of the move
+     */
+    public int getMove(int index) {
+
+        if(index < 0 || index >= moveCount) {
+
+            throw new IndexOutOfBoundsException("Move " + index + " was not played");
+        }
+
+        return moves[index];
+    }
+
+    /**
+     * @return <code>true</code> if a move can be taken back
+     */
+    public boolean canUndo() {
+        return moveCount > 0;
+    }
+
+    /**
+     * @return <code>true</code> if a taken back move can be played again
+     */
+    public boolean canRedo() {
+        return redoCount > 0;
+    }
+
+    /**
+     * @return Zobrist hash of the stones and the player who has to move
+     */
+    public long getHash() {
+        return board.getHash() ^ Zobrist.side(getCurrentPlayer());
+    }
+
+    /**
+     * @return <code>true</code> if a player has won the game
+     */
+    public boolean isWon() {
+        return winner != null;
+    }
+
+    /**
+     * @return <code>true</code> if the board is full and nobody has won
+     */
+    public boolean isDraw() {
+        return winner == null && board.isFull();
+    }
+
+    /**
+     * @return <code>true</code> if no more moves can be played
+     */
+    public boolean isOver() {
+        return winner != null || board.isFull();
+    }
+
+    /**
+     * @return Winner of the game or <code>null</code>
+     */
+    public Player getWinner() {
+        return winner;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public int getTokensToWin() {
+        return tokensToWin;
+    }
+
+    public Player getStartingPlayer() {
+        return startingPlayer;
+    }
+}
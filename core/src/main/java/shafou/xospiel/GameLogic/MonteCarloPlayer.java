@@ -0,0 +1,710 @@
+package shafou.xospiel.GameLogic;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ *
+ * This computer player searches its moves with Monte Carlo tree search.
+ *
+ * <p>Every iteration walks down the tree with UCT, adds the children of the
+ * reached position, plays the game randomly to its end and counts the result
+ * in every position of the walk. The move of the most visited child of the
+ * root is played. Unlike the negamax search the player does not need an
+ * evaluation, so it also plays on boards far larger than 5 x 5.
+ *
+ * <p>The tree is stored in primitive arrays instead of one object per
+ * position. The children of a position lie next to each other, so a position
+ * only needs the index of its first child. The random games are played on
+ * bit masks of the stones with a list of the empty cells.
+ *
+ * <p>The tree is kept between the moves of a game: the next search starts at
+ * the position after the own move and the answer of the opponent. If more
+ * than half of the tree is used the tree is built again.
+ *
+ * <p>On boards with more than 64 cells only cells next to a stone are added
+ * to the tree, the random games use every cell.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+public final class MonteCarloPlayer implements ComputerPlayer {
+
+    /** Default time budget of a move in milliseconds */
+    public static final long DEFAULT_TIME_BUDGET = 1000L;
+
+    /** Default amount of positions of the tree, 2^20 positions use 20 MB */
+    public static final int DEFAULT_NODE_CAPACITY = 1 << 20;
+
+    /** Weight of rarely visited moves in the UCT formula */
+    private static final double EXPLORATION = Math.sqrt(2.0);
+
+    /** Value of a drawn game, a won game is 1 */
+    private static final float DRAW = 0.5f;
+
+    /** Iterations between two checks of the time and the cancellation */
+    private static final int CHECK_INTERVAL = 64;
+
+    /** Time budget of a move in milliseconds */
+    private final long timeBudget;
+
+    /** Maximum amount of iterations of a move */
+    private final int maxPlayouts;
+
+    /** Cell of the move leading to every position */
+    private final int[] moves;
+
+    /** Index of the first child of every position, -1 if it has no children yet */
+    private final int[] firstChild;
+
+    /** Amount of children of every position */
+    private final int[] childCount;
+
+    /** Amount of games played through every position */
+    private final int[] visits;
+
+    /** Won games of the player who moved into every position, draws count half */
+    private final float[] wins;
+
+    /** Amount of used positions */
+    private int nodeCount;
+
+    /** Position the last search started from, <code>null</code> without tree */
+    private GameState rootState;
+
+    private int root;
+
+    /** State of the random number generator */
+    private long seed;
+
+    private int columns;
+
+    private int rows;
+
+    private int tokensToWin;
+
+    /** Winning lines of boards with up to 64 cells, otherwise <code>null</code> */
+    private WinningLines lines;
+
+    /** Stones of X and O of the root, one bit per cell */
+    private long[][] rootStones;
+
+    /** Empty cells of the root */
+    private int[] rootEmpty;
+
+    /** Position of every cell in the list of the empty cells */
+    private int[] rootPosition;
+
+    private int rootEmptyCount;
+
+    /** Stones and empty cells of the current iteration */
+    private long[][] stones;
+
+    private int[] empty;
+
+    private int[] position;
+
+    private int emptyCount;
+
+    /** Positions of the walk of the current iteration */
+    private int[] path;
+
+    /** Amount of iterations of the last move */
+    private int lastPlayouts;
+
+    /** Games of the root that were kept from the previous move */
+    private int lastReusedPlayouts;
+
+    /** Share of the games won by the chosen move */
+    private float lastWinRate;
+
+    /** Duration of the last move in nanoseconds */
+    private long lastDuration;
+
+    public MonteCarloPlayer() {
+
+        this(DEFAULT_TIME_BUDGET);
+    }
+
+    /**
+     * @param timeBudget Time budget of a move in milliseconds
+     */
+    public MonteCarloPlayer(long timeBudget) {
+
+        this(timeBudget, Integer.MAX_VALUE, DEFAULT_NODE_CAPACITY, System.nanoTime());
+    }
+
+    /**
+     * @param timeBudget Time budget of a move in milliseconds
+     * @param maxPlayouts Maximum amount of random games of a move
+     * @param nodeCapacity Maximum amount of positions of the tree
+     * @param seed Start value of the random moves
+     */
+    public MonteCarloPlayer(long timeBudget, int maxPlayouts, int nodeCapacity, long seed) {
+
+        if(timeBudget <= 0) {
+
+            throw new IllegalArgumentException("The time budget must be positiv");
+        }
+
+        if(maxPlayouts <= 0) {
+
+            throw new IllegalArgumentException("At least one playout is required");
+        }
+
+        if(nodeCapacity < 2) {
+
+            throw new IllegalArgumentException("The tree needs at least 2 positions");
+        }
+
+        this.timeBudget = timeBudget;
+        this.maxPlayouts = maxPlayouts;
+        this.moves = new int[nodeCapacity];
+        this.firstChild = new int[nodeCapacity];
+        this.childCount = new int[nodeCapacity];
+        this.visits = new int[nodeCapacity];
+        this.wins = new float[nodeCapacity];
+
+        /** A seed of 0 would only create zeros */
+        this.seed = Zobrist.mix(seed) | 1L;
+    }
+
+    @Override
+    public int chooseMove(GameState state) {
+
+        return chooseMove(state, new AtomicBoolean());
+    }
+
+    /**
+     * Chooses the next move of the current player of a game. The search can
+     * be stopped from another thread, the best move found until then is
+     * returned.
+     *
+     * @param state State of the game, is not changed
+     * @param cancelled Stops the search if it is set
+     * @return Index of the cell of the chosen move
+     */
+    public int chooseMove(GameState state, AtomicBoolean cancelled) {
+
+        if(state.isOver()) {
+
+            throw new IllegalStateException("The game is already over");
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + timeBudget * 1000000L;
+
+        prepare(state);
+        lastReusedPlayouts = visits[root];
+
+        Player player = state.getCurrentPlayer();
+        int playouts = 0;
+
+        do {
+
+            iterate(player);
+            playouts++;
+        } while(playouts < maxPlayouts
+                && (playouts % CHECK_INTERVAL != 0
+                    || (System.nanoTime() < deadline && !cancelled.get())));
+
+        int best = firstChild[root];
+
+        /** A tree smaller than the board can not hold the children of the root */
+        if(best < 0) {
+
+            lastPlayouts = playouts;
+            lastDuration = System.nanoTime() - start;
+            return rootEmpty[random(rootEmptyCount)];
+        }
+
+        for(int child = best + 1; child < firstChild[root] + childCount[root]; child++) {
+
+            if(visits[child] > visits[best]) {
+
+                best = child;
+            }
+        }
+
+        lastPlayouts = playouts;
+        lastWinRate = visits[best] > 0 ? wins[best] / visits[best] : 0f;
+        lastDuration = System.nanoTime() - start;
+        return moves[best];
+    }
+
+    /**
+     * Keeps the tree if the game continues the position of the last search,
+     * otherwise a new tree is started.
+     */
+    private void prepare(GameState state) {
+
+        Board board = state.getBoard();
+
+        if(!descend(state) || nodeCount > moves.length / 2) {
+
+            if(board.getColumns() != columns || board.getRows() != rows
+                    || state.getTokensToWin() != tokensToWin) {
+
+                resize(board.getColumns(), board.getRows(), state.getTokensToWin());
+            }
+
+            nodeCount = 0;
+            root = newNode(state.getLastMove());
+        }
+
+        rootState = state.copy();
+
+        /** The random games start from the stones of the root */
+        int cells = columns * rows;
+        rootEmptyCount = 0;
+
+        for(int i = 0; i < rootStones[0].length; i++) {
+
+            rootStones[0][i] = 0L;
+            rootStones[1][i] = 0L;
+        }
+
+        for(int cell = 0; cell < cells; cell++) {
+
+            Player occupant = board.getOccupant(cell);
+
+            if(occupant == null) {
+
+                rootPosition[cell] = rootEmptyCount;
+                rootEmpty[rootEmptyCount++] = cell;
+            } else {
+
+                rootStones[occupant.ordinal()][cell >>> 6] |= 1L << cell;
+            }
+        }
+    }
+
+    /**
+     * Moves the root along the moves played since the last search.
+     *
+     * @return <code>false</code> if the tree does not hold the position
+     */
+    private boolean descend(GameState state) {
+
+        if(rootState == null || rootState.getMoveCount() > state.getMoveCount()
+                || rootState.getBoard().getColumns() != state.getBoard().getColumns()
+                || rootState.getBoard().getRows() != state.getBoard().getRows()
+                || rootState.getTokensToWin() != state.getTokensToWin()
+                || rootState.getStartingPlayer() != state.getStartingPlayer()) {
+
+            return false;
+        }
+
+        for(int i = 0; i < rootState.getMoveCount(); i++) {
+
+            if(rootState.getMove(i) != state.getMove(i)) {
+
+                return false;
+            }
+        }
+
+        int node = root;
+
+        for(int i = rootState.getMoveCount(); i < state.getMoveCount(); i++) {
+
+            node = findChild(node, state.getMove(i));
+
+            if(node < 0) {
+
+                return false;
+            }
+        }
+
+        root = node;
+        return true;
+    }
+
+    private int findChild(int node, int move) {
+
+        for(int child = firstChild[node]; child >= 0
+                && child < firstChild[node] + childCount[node]; child++) {
+
+            if(moves[child] == move) {
+
+                return child;
+            }
+        }
+
+        return -1;
+    }
+
+    private void resize(int columns, int rows, int tokensToWin) {
+
+        int cells = columns * rows;
+        int words = (cells + 63) >>> 6;
+
+        this.columns = columns;
+        this.rows = rows;
+        this.tokensToWin = tokensToWin;
+        this.lines = cells <= BitBoard.MAX_CELLS
+                ? WinningLines.get(columns, rows, tokensToWin) : null;
+        this.rootStones = new long[2][words];
+        this.rootEmpty = new int[cells];
+        this.rootPosition = new int[cells];
+        this.stones = new long[2][words];
+        this.empty = new int[cells];
+        this.position = new int[cells];
+        this.path = new int[cells + 1];
+    }
+
+    private int newNode(int move) {
+
+        int node = nodeCount++;
+        moves[node] = move;
+        firstChild[node] = -1;
+        childCount[node] = 0;
+        visits[node] = 0;
+        wins[node] = 0f;
+        return node;
+    }
+
+    /**
+     * Walks down the tree, plays one random game and counts its result.
+     *
+     * @param player Player to move at the root
+     */
+    private void iterate(Player player) {
+
+        for(int i = 0; i < stones[0].length; i++) {
+
+            stones[0][i] = rootStones[0][i];
+            stones[1][i] = rootStones[1][i];
+        }
+
+        System.arraycopy(rootEmpty, 0, empty, 0, rootEmptyCount);
+        System.arraycopy(rootPosition, 0, position, 0, position.length);
+        emptyCount = rootEmptyCount;
+
+        int node = root;
+        int depth = 0;
+        int current = player.ordinal();
+        int winner = -1;
+        boolean over = false;
+        path[0] = root;
+
+        /** Selection */
+        while(firstChild[node] >= 0) {
+
+            node = select(node);
+            path[++depth] = node;
+
+            if(play(moves[node], current)) {
+
+                winner = current;
+                over = true;
+                break;
+            }
+
+            current ^= 1;
+
+            if(emptyCount == 0) {
+
+                over = true;
+                break;
+            }
+        }
+
+        /** Expansion, a position gets its children after its first game */
+        if(!over && (visits[node] > 0 || node == root) && expand(node)) {
+
+            node = firstChild[node];
+            path[++depth] = node;
+
+            if(play(moves[node], current)) {
+
+                winner = current;
+                over = true;
+            } else {
+
+                current ^= 1;
+                over = emptyCount == 0;
+            }
+        }
+
+        if(!over) {
+
+            winner = playout(current);
+        }
+
+        /** The mover of the root is the opponent of the player to move */
+        int mover = player.ordinal() ^ 1;
+
+        for(int i = 0; i <= depth; i++) {
+
+            int n = path[i];
+            visits[n]++;
+
+            if(winner == mover) {
+
+                wins[n] += 1f;
+            } else if(winner < 0) {
+
+                wins[n] += DRAW;
+            }
+
+            mover ^= 1;
+        }
+    }
+
+    /**
+     * @return Child of a position with the highest UCT value
+     */
+    private int select(int node) {
+
+        int first = firstChild[node];
+        int end = first + childCount[node];
+        double logVisits = Math.log(visits[node]);
+        double bestValue = Double.NEGATIVE_INFINITY;
+        int best = first;
+
+        for(int child = first; child < end; child++) {
+
+            int n = visits[child];
+
+            /** Every child is played once before the formula is used */
+            if(n == 0) {
+
+                return child;
+            }
+
+            double value = wins[child] / n + EXPLORATION * Math.sqrt(logVisits / n);
+
+            if(value > bestValue) {
+
+                bestValue = value;
+                best = child;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Adds the empty cells of the current iteration as children in random
+     * order.
+     *
+     * @return <code>false</code> if the tree is full
+     */
+    private boolean expand(int node) {
+
+        boolean filter = lines == null && emptyCount < columns * rows;
+        int count = 0;
+
+        for(int i = 0; i < emptyCount; i++) {
+
+            if(!filter || hasNeighbour(empty[i])) {
+
+                count++;
+            }
+        }
+
+        if(count == 0 || nodeCount + count > moves.length) {
+
+            return false;
+        }
+
+        int first = nodeCount;
+
+        for(int i = 0; i < emptyCount; i++) {
+
+            if(!filter || hasNeighbour(empty[i])) {
+
+                newNode(empty[i]);
+            }
+        }
+
+        for(int i = count - 1; i > 0; i--) {
+
+            int j = random(i + 1);
+            int move = moves[first + i];
+            moves[first + i] = moves[first + j];
+            moves[first + j] = move;
+        }
+
+        childCount[node] = count;
+        firstChild[node] = first;
+        return true;
+    }
+
+    /**
+     * Plays random moves until the game is over.
+     *
+     * @param current Player to move
+     * @return Index of the winner or -1 for a draw
+     */
+    private int playout(int current) {
+
+        while(emptyCount > 0) {
+
+            int cell = empty[random(emptyCount)];
+
+            if(play(cell, current)) {
+
+                return current;
+            }
+
+            current ^= 1;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Places a stone in the current iteration.
+     *
+     * @return <code>true</code> if the stone wins the game
+     */
+    private boolean play(int cell, int player) {
+
+        int index = position[cell];
+        int last = empty[--emptyCount];
+        empty[index] = last;
+        position[last] = index;
+
+        long[] own = stones[player];
+        own[cell >>> 6] |= 1L << cell;
+
+        if(lines != null) {
+
+            return lines.isWonAt(own[0], cell);
+        }
+
+        return isWonAt(own, cell);
+    }
+
+    /**
+     * Counts the stones in a row through a cell on boards with more than 64
+     * cells.
+     */
+    private boolean isWonAt(long[] own, int cell) {
+
+        int column = Cell.column(cell, columns);
+        int row = Cell.row(cell, columns);
+
+        for(int direction = 0; direction < 4; direction++) {
+
+            int dc = direction == 1 ? 0 : direction == 3 ? -1 : 1;
+            int dr = direction == 0 ? 0 : 1;
+            int count = 1 + count(own, column, row, dc, dr) + count(own, column, row, -dc, -dr);
+
+            if(count >= tokensToWin) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * @return Amount of own stones next to a cell in one direction
+     */
+    private int count(long[] own, int column, int row, int dc, int dr) {
+
+        int count = 0;
+        int c = column + dc;
+        int r = row + dr;
+
+        while(Cell.isOnField(c, r, columns, rows)) {
+
+            int cell = Cell.index(c, r, columns);
+
+            if((own[cell >>> 6] & (1L << cell)) == 0) {
+
+                break;
+            }
+
+            count++;
+            c += dc;
+            r += dr;
+        }
+
+        return count;
+    }
+
+    /**
+     * @param cell Index of an empty cell
+     * @return <code>true</code> if one of the 8 cells around it is occupied
+     */
+    private boolean hasNeighbour(int cell) {
+
+        int column = Cell.column(cell, columns);
+        int row = Cell.row(cell, columns);
+
+        for(int r = row - 1; r <= row + 1; r++) {
+            for(int c = column - 1; c <= column + 1; c++) {
+
+                if(Cell.isOnField(c, r, columns, rows)) {
+
+                    int neighbour = Cell.index(c, r, columns);
+
+                    if(((stones[0][neighbour >>> 6] | stones[1][neighbour >>> 6])
+                            & (1L << neighbour)) != 0) {
+
+                        return true;
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Xorshift random number generator, faster than java.util.Random.
+     *
+     * @param bound Exclusive upper bound
+     * @return Random number from 0 to bound - 1
+     */
+    private int random(int bound) {
+
+        seed ^= seed << 13;
+        seed ^= seed >>> 7;
+        seed ^= seed << 17;
+        return (int) (((seed >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * @return Amount of random games of the last move
+     */
+    public int getLastPlayouts() {
+        return lastPlayouts;
+    }
+
+    /**
+     * @return Games of the last move that were kept from the move before
+     */
+    public int getLastReusedPlayouts() {
+        return lastReusedPlayouts;
+    }
+
+    /**
+     * @return Random games per second of the last move
+     */
+    public long getLastPlayoutsPerSecond() {
+
+        return lastDuration > 0 ? lastPlayouts * 1000000000L / lastDuration : 0L;
+    }
+
+    /**
+     * @return Share of the won games of the last chosen move, draws count half
+     */
+    public float getLastWinRate() {
+        return lastWinRate;
+    }
+
+    /**
+     * @return Amount of used positions of the tree
+     */
+    public int getTreeSize() {
+        return nodeCount;
+    }
+}
@@ -0,0 +1,241 @@
+package shafou.xospiel.GameLogic;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ *
+ * This class searches the moves of a {@link NegamaxPlayer} on a background
+ * thread.
+ *
+ * <p>The search works on a copy of the game, so the game can be changed
+ * while the search is running. One service can search the moves of many
+ * games, the searches run one after another. Every search returns its own
+ * {@link Search}, so a game only cancels its own search, {@link #cancel()}
+ * stops all searches. The results are delivered with the callback executor,
+ * e.g. on the main thread of an app. Results of a cancelled search are never
+ * delivered, even if they were already handed to the callback executor.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 18.10.2026 ELF Every search can be cancelled on its own.
+ * 3) 18.10.2026 ELF Tasks that prepare the player on the search thread.
+ */
+
+public final class MoveSearchService {
+
+    /**
+     * Receives the results of a search. The methods are called with the
+     * callback executor of the service.
+     */
+    public interface Callback {
+
+        /**
+         * Is called after every finished depth.
+         *
+         * @param move Best move found so far
+         * @param depth Finished depth
+         * @param value Value of the move from the view of the searching player
+         */
+        void onBestMove(int move, int depth, int value);
+
+        /**
+         * Is called once when the search is finished.
+         *
+         * @param move Move that should be played
+         */
+        void onFinished(int move);
+    }
+
+    /**
+     * A started search.
+     */
+    public interface Search {
+
+        /** Cancels this search, the searches of other games keep running */
+        void cancel();
+
+        /**
+         * @return <code>true</code> if the search was cancelled
+         */
+        boolean isCancelled();
+    }
+
+    private final NegamaxPlayer player;
+
+    /** Thread that searches the moves */
+    private final ExecutorService executor;
+
+    /** Delivers the results */
+    private final Executor callbackExecutor;
+
+    /** Started searches which are not finished yet */
+    private final Set<SearchTask> searches = new HashSet<>();
+
+    /**
+     * @param player Player that searches the moves
+     * @param callbackExecutor Executor that delivers the results
+     */
+    public MoveSearchService(NegamaxPlayer player, Executor callbackExecutor) {
+
+        this.player = player;
+        this.callbackExecutor = callbackExecutor;
+        this.executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+
+                /** The search must not slow down the drawing of the game */
+                Thread thread = new Thread(runnable, "MoveSearch");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Runs a task on the search thread before all searches started after it,
+     * e.g. to add tables to the player without blocking the caller.
+     *
+     * @param task Task for the search thread
+     */
+    public void prepare(Runnable task) {
+
+        executor.execute(task);
+    }
+
+    /**
+     * Starts the search of the next move of a game. The search starts after
+     * the searches started before it are finished.
+     *
+     * @param state State of the game
+     * @param callback Receives the results
+     * @return The search, to cancel it
+     */
+    public synchronized Search search(GameState state, Callback callback) {
+
+        SearchTask search = new SearchTask(state.copy(), callback);
+        searches.add(search);
+        executor.execute(search);
+        return search;
+    }
+
+    /** Cancels all searches */
+    public synchronized void cancel() {
+
+        for(SearchTask search : searches) {
+
+            search.cancelled.set(true);
+        }
+
+        searches.clear();
+    }
+
+    /** Forgets a finished or cancelled search */
+    private synchronized void remove(SearchTask search) {
+
+        searches.remove(search);
+    }
+
+    /** Cancels the running search and stops the search thread */
+    public synchronized void shutdown() {
+
+        cancel();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Searches one move and delivers the results.
+     */
+    private final class SearchTask implements Runnable, SearchListener, Search {
+
+        private final GameState state;
+
+        private final Callback callback;
+
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        SearchTask(GameState state, Callback callback) {
+
+            this.state = state;
+            this.callback = callback;
+        }
+
+        @Override
+        public void run() {
+
+            try {
+
+                if(cancelled.get() || state.isOver()) {
+
+                    return;
+                }
+
+                final int move = player.chooseMove(state, this, cancelled);
+
+                if(move != Cell.NONE) {
+
+                    deliver(new Runnable() {
+                        @Override
+                        public void run() {
+                            callback.onFinished(move);
+                        }
+                    });
+                }
+            } finally {
+
+                remove(this);
+            }
+        }
+
+        @Override
+        public void cancel() {
+
+            cancelled.set(true);
+            remove(this);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled.get();
+        }
+
+        @Override
+        public void onDepthFinished(final int depth, final int move, final int value) {
+
+            deliver(new Runnable() {
+                @Override
+                public void run() {
+                    callback.onBestMove(move, depth, value);
+                }
+            });
+        }
+
+        private void deliver(final Runnable result) {
+
+            if(cancelled.get()) {
+
+                return;
+            }
+
+            callbackExecutor.execute(new Runnable() {
+                @Override
+                public void run() {
+
+                    if(!cancelled.get()) {
+
+                        result.run();
+                    }
+                }
+            });
+        }
+    }
+}
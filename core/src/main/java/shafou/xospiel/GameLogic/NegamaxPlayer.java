@@ -0,0 +1,328 @@
+package shafou.xospiel.GameLogic;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ *
+ * This computer player searches its moves with negamax, alpha-beta pruning
+ * and a transposition table.
+ *
+ * <p>The search is deepened one move at a time until the time budget is
+ * used up, the game is searched to its end or a forced win or loss is found.
+ * The move of the deepest finished search is played. The transposition table
+ * and the buffers of the searches are kept between the moves of a game.
+ *
+ * <p>With more than one thread the player searches in parallel (Lazy SMP).
+ * The calling thread runs the main search, helper threads of a fork-join
+ * pool search the same position on their own boards. All threads share the
+ * transposition table, so the main search finds many positions already
+ * searched by the helpers. The move of the main search is played.
+ *
+ * <p>Positions of a {@link SolvedTable} are answered from the table without
+ * a search.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Progress of the search and cancellation.
+ * 3) 17.10.2026 ELF Parallel search with helper threads.
+ * 4) 17.10.2026 ELF Moves of solved tables.
+ * 5) 18.10.2026 ELF Searches are kept between the moves of a game.
+ */
+
+public final class NegamaxPlayer implements ComputerPlayer {
+
+    /** Default time budget of a move in milliseconds */
+    public static final long DEFAULT_TIME_BUDGET = 1000L;
+
+    /** Default size of the transposition table, 2^18 entries use 4 MB */
+    public static final int DEFAULT_TABLE_BITS = 18;
+
+    /** Time budget of a move in milliseconds */
+    private final long timeBudget;
+
+    private final TranspositionTable table;
+
+    /** Amount of searching threads */
+    private final int threads;
+
+    /** Runs the helper searches, <code>null</code> for a single thread */
+    private final ForkJoinPool helpers;
+
+    /** Search of every thread, kept between the moves of a game */
+    private final NegamaxSearch[] searches;
+
+    /** Tables asked before every search */
+    private final List<SolvedTable> solvedTables = new CopyOnWriteArrayList<>();
+
+    /** Depth of the last finished search */
+    private int lastDepth;
+
+    /** Value of the last finished search */
+    private int lastValue;
+
+    /** Searched positions of the last move per thread */
+    private final long[] lastNodes;
+
+    /** Duration of the last move in nanoseconds */
+    private long lastDuration;
+
+    public NegamaxPlayer() {
+
+        this(DEFAULT_TIME_BUDGET, DEFAULT_TABLE_BITS, 1);
+    }
+
+    /**
+     * @param timeBudget Time budget of a move in milliseconds
+     */
+    public NegamaxPlayer(long timeBudget) {
+
+        this(timeBudget, DEFAULT_TABLE_BITS, 1);
+    }
+
+    /**
+     * @param timeBudget Time budget of a move in milliseconds
+     * @param tableBits Amount of bits of the transposition table size
+     */
+    public NegamaxPlayer(long timeBudget, int tableBits) {
+
+        this(timeBudget, tableBits, 1);
+    }
+
+    /**
+     * @param timeBudget Time budget of a move in milliseconds
+     * @param tableBits Amount of bits of the transposition table size
+     * @param threads Amount of searching threads
+     */
+    public NegamaxPlayer(long timeBudget, int tableBits, int threads) {
+
+        if(timeBudget <= 0) {
+
+            throw new IllegalArgumentException("The time budget must be positiv");
+        }
+
+        if(threads <= 0) {
+
+            throw new IllegalArgumentException("At least one thread is required");
+        }
+
+        this.timeBudget = timeBudget;
+        this.table = new TranspositionTable(tableBits);
+        this.threads = threads;
+        this.helpers = threads > 1 ? new ForkJoinPool(threads - 1) : null;
+        this.lastNodes = new long[threads];
+        this.searches = new NegamaxSearch[threads];
+    }
+
+    @Override
+    public int chooseMove(GameState state) {
+
+        return chooseMove(state, null, new AtomicBoolean());
+    }
+
+    /**
+     * Chooses the next move of the current player of a game. The search can
+     * be stopped from another thread, the best move found until then is
+     * returned.
+     *
+     * @param state State of the game, is not changed
+     * @param listener Is informed after every finished depth or <code>null</code>
+     * @param cancelled Stops the search if it is set
+     * @return Index of the cell of the chosen move or {@link Cell#NONE} if
+     *         the search was cancelled before the first depth was finished
+     */
+    public int chooseMove(GameState state, SearchListener listener, AtomicBoolean cancelled) {
+
+        if(state.isOver()) {
+
+            throw new IllegalStateException("The game is already over");
+        }
+
+        int tableMove = getTableMove(state);
+
+        if(tableMove != Cell.NONE) {
+
+            return tableMove;
+        }
+
+        Board board = state.getBoard();
+        final Player player = state.getCurrentPlayer();
+        table.prepare(board.getColumns(), board.getRows(), state.getTokensToWin());
+
+        long start = System.nanoTime();
+        final long deadline = start + timeBudget * 1000000L;
+
+        /** The helpers are stopped as soon as the main search is finished */
+        AtomicBoolean helpersStopped = new AtomicBoolean();
+        Future<?>[] helperResults = new Future<?>[threads];
+
+        for(int i = 0; i < threads; i++) {
+
+            /** The searches and their buffers are only created for a new board size */
+            if(searches[i] == null
+                    || !searches[i].fits(board.getColumns(), board.getRows(), state.getTokensToWin())) {
+
+                searches[i] = new NegamaxSearch(board.getColumns(), board.getRows(),
+                        state.getTokensToWin(), table);
+            }
+
+            searches[i].setPosition(board);
+            searches[i].setCancelled(i == 0 ? cancelled : helpersStopped);
+        }
+
+        for(int i = 1; i < threads; i++) {
+
+            final NegamaxSearch helper = searches[i];
+
+            /** Every second helper searches one move deeper */
+            final int depthOffset = i % 2;
+
+            helperResults[i] = helpers.submit(new Callable<Integer>() {
+                @Override
+                public Integer call() {
+                    return helper.iterate(player, deadline, depthOffset, null);
+                }
+            });
+        }
+
+        int move;
+
+        try {
+
+            move = searches[0].iterate(player, deadline, 0, listener);
+        } finally {
+
+            helpersStopped.set(true);
+        }
+
+        for(int i = 1; i < threads; i++) {
+
+            awaitHelper(helperResults[i]);
+        }
+
+        lastDuration = System.nanoTime() - start;
+        lastDepth = searches[0].getFinishedDepth();
+        lastValue = searches[0].getFinishedValue();
+
+        for(int i = 0; i < threads; i++) {
+
+            lastNodes[i] = searches[i].getNodes();
+        }
+
+        return move;
+    }
+
+    /**
+     * @param state State of a game
+     * @return Move of the first table that holds the position or {@link Cell#NONE}
+     */
+    private int getTableMove(GameState state) {
+
+        for(SolvedTable solvedTable : solvedTables) {
+
+            int move = solvedTable.getBestMove(state);
+
+            if(move != Cell.NONE) {
+
+                lastDepth = 0;
+                lastValue = solvedTable.getValue(state) * Evaluation.WIN_BOUND;
+                Arrays.fill(lastNodes, 0L);
+                lastDuration = 0L;
+                return move;
+            }
+        }
+
+        return Cell.NONE;
+    }
+
+    /**
+     * Adds a table whose positions are answered without a search.
+     *
+     * @param solvedTable A solved table
+     */
+    public void addSolvedTable(SolvedTable solvedTable) {
+
+        solvedTables.add(solvedTable);
+    }
+
+    private static void awaitHelper(Future<?> result) {
+
+        try {
+
+            result.get();
+        } catch(InterruptedException e) {
+
+            Thread.currentThread().interrupt();
+        } catch(ExecutionException e) {
+
+            throw new IllegalStateException("A helper search failed", e.getCause());
+        }
+    }
+
+    /** Stops the helper threads of a parallel search */
+    public void shutdown() {
+
+        if(helpers != null) {
+
+            helpers.shutdownNow();
+        }
+    }
+
+    public long getTimeBudget() {
+        return timeBudget;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public int getLastDepth() {
+        return lastDepth;
+    }
+
+    public int getLastValue() {
+        return lastValue;
+    }
+
+    /**
+     * @return Searched positions of all threads during the last move
+     */
+    public long getLastNodes() {
+
+        long nodes = 0;
+
+        for(long threadNodes : lastNodes) {
+
+            nodes += threadNodes;
+        }
+
+        return nodes;
+    }
+
+    /**
+     * @param thread Index of the thread, 0 is the main search
+     * @return Searched positions of the thread during the last move
+     */
+    public long getLastNodes(int thread) {
+
+        return lastNodes[thread];
+    }
+
+    /**
+     * @param thread Index of the thread, 0 is the main search
+     * @return Searched positions per second of the thread during the last move
+     */
+    public double getLastNodesPerSecond(int thread) {
+
+        return lastDuration > 0 ? lastNodes[thread] * 1e9 / lastDuration : 0.0;
+    }
+}
@@ -0,0 +1,598 @@
+package shafou.xospiel.GameLogic;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ *
+ * This class searches the best move of a position with negamax and
+ * alpha-beta pruning.
+ *
+ * <p>The search works on its own board, places and removes the stones of the
+ * searched moves and stores the results in a {@link TranspositionTable}. The
+ * move of the table is searched first, then the remaining moves ordered by
+ * the amount of winning lines passing through their cell and their distance
+ * to the center. Boards with more than 64 cells only search cells next to a
+ * stone.
+ *
+ * <p>The positions are stored by their canonical {@link Symmetry}, so all
+ * symmetric positions share one entry of the table. The search keeps the
+ * hash of every symmetric position up to date and maps the moves of the
+ * table back onto its own board.
+ *
+ * <p>Boards with more than 64 cells have no bit masks of their lines, so the
+ * search counts the stones on every line and updates the {@link Evaluation}
+ * with every placed stone instead of evaluating all lines.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Search can be cancelled from another thread.
+ * 3) 17.10.2026 ELF Iterative deepening for the threads of a parallel search.
+ * 4) 17.10.2026 ELF Symmetric positions share their table entries.
+ * 5) 17.10.2026 ELF Incremental evaluation of large boards.
+ * 6) 17.10.2026 ELF Wins are checked with the lines of the search.
+ * 7) 18.10.2026 ELF Buffers are kept between the moves of a game.
+ */
+
+final class NegamaxSearch {
+
+    /** The clock and the cancellation are checked every 1024 nodes */
+    private static final int CLOCK_INTERVAL_MASK = 1023;
+
+    private final Board board;
+
+    private final int tokensToWin;
+
+    private final WinningLines lines;
+
+    private final TranspositionTable table;
+
+    /** Symmetries of the board */
+    private final Symmetry symmetry;
+
+    /** Zobrist hash of every symmetric position of the board */
+    private final long[] hashes;
+
+    /** All cells, the cells with the most winning lines first */
+    private final int[] order;
+
+    /** Moves of every ply, a ply is allocated when it is first searched */
+    private final int[][] moves;
+
+    /** Only search cells next to a stone */
+    private final boolean nearStonesOnly;
+
+    /** Stones of X and O on every line, <code>null</code> for boards with masks */
+    private final int[] xOnLine;
+    private final int[] oOnLine;
+
+    /** Evaluation of the board from the view of X */
+    private int xValue;
+
+    /** Time in nanoseconds the search has to stop */
+    private long deadline;
+
+    /** Is set by another thread to stop the search */
+    private AtomicBoolean cancelled = new AtomicBoolean();
+
+    /** The search was stopped before it was finished */
+    private boolean aborted;
+
+    /** Best move of the last search */
+    private int bestMove = Cell.NONE;
+
+    /** Amount of searched positions */
+    private long nodes;
+
+    /** Depth of the last finished search */
+    private int finishedDepth;
+
+    /** Value of the last finished search */
+    private int finishedValue;
+
+    /**
+     * Creates a search for one board size. The buffers of the search are
+     * kept, so the search can be reused for every move of a game.
+     *
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @param tokensToWin Tokens to win this game
+     * @param table Table for the results
+     */
+    NegamaxSearch(int columns, int rows, int tokensToWin, TranspositionTable table) {
+
+        this.board = Board.create(columns, rows);
+        this.tokensToWin = tokensToWin;
+        this.lines = WinningLines.get(columns, rows, tokensToWin);
+        this.table = table;
+        this.symmetry = Symmetry.get(columns, rows);
+        this.hashes = new long[symmetry.getCount()];
+        this.order = orderCells(lines, columns, rows);
+        this.moves = new int[board.getCells() + 1][];
+        this.nearStonesOnly = board.getCells() > BitBoard.MAX_CELLS;
+
+        if(lines.hasMasks()) {
+
+            this.xOnLine = null;
+            this.oOnLine = null;
+        } else {
+
+            this.xOnLine = new int[lines.getLineCount()];
+            this.oOnLine = new int[lines.getLineCount()];
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the search was created for this game
+     */
+    boolean fits(int columns, int rows, int tokensToWin) {
+
+        return board.getColumns() == columns && board.getRows() == rows
+                && this.tokensToWin == tokensToWin;
+    }
+
+    /**
+     * Copies the stones of a position onto the board of the search and
+     * resets the results of the last search.
+     *
+     * @param position Board of the position, is not changed
+     */
+    void setPosition(Board position) {
+
+        board.clear();
+
+        if(xOnLine != null) {
+
+            Arrays.fill(xOnLine, 0);
+            Arrays.fill(oOnLine, 0);
+            xValue = 0;
+        }
+
+        for(int cell = 0; cell < board.getCells(); cell++) {
+
+            Player occupant = position.getOccupant(cell);
+
+            if(occupant != null) {
+
+                board.place(cell, occupant);
+
+                if(xOnLine != null) {
+
+                    count(cell, occupant, 1);
+                }
+            }
+        }
+
+        symmetry.hashes(board, hashes);
+        aborted = false;
+        bestMove = Cell.NONE;
+        nodes = 0;
+        finishedDepth = 0;
+        finishedValue = 0;
+    }
+
+    /**
+     * Deepens the search one move at a time until the deadline is reached,
+     * the game is searched to its end or a forced win or loss is found.
+     *
+     * <p>The helper threads of a parallel search start with a higher depth,
+     * so they fill the shared table with entries the other threads need next.
+     *
+     * @param player Player who has to move
+     * @param deadline Time in nanoseconds the search has to stop
+     * @param depthOffset Added to every depth
+     * @param listener Is informed after every finished depth or <code>null</code>
+     * @return Best move of the deepest finished search or {@link Cell#NONE}
+     */
+    int iterate(Player player, long deadline, int depthOffset, SearchListener listener) {
+
+        int emptyCells = board.getCells() - board.getStoneCount();
+        int move = Cell.NONE;
+
+        for(int depth = Math.min(1 + depthOffset, emptyCells); depth <= emptyCells; depth++) {
+
+            /** The first depth is always finished, so there is a move */
+            int value = searchRoot(player, depth,
+                    move == Cell.NONE ? Long.MAX_VALUE : deadline);
+
+            if(aborted) {
+
+                break;
+            }
+
+            move = bestMove;
+            finishedDepth = depth;
+            finishedValue = value;
+
+            if(listener != null) {
+
+                listener.onDepthFinished(depth, move, value);
+            }
+
+            if(Math.abs(value) >= Evaluation.WIN_BOUND) {
+
+                break;
+            }
+        }
+
+        return move;
+    }
+
+    /**
+     * Searches the position to a given depth.
+     *
+     * @param player Player who has to move
+     * @param depth Depth of the search
+     * @param deadline Time in nanoseconds the search has to stop
+     * @return Value of the position from the view of the player
+     */
+    int searchRoot(Player player, int depth, long deadline) {
+
+        this.deadline = deadline;
+        this.aborted = false;
+        this.bestMove = Cell.NONE;
+
+        return search(player, depth, -Evaluation.WIN, Evaluation.WIN, 0);
+    }
+
+    private int search(Player player, int depth, int alpha, int beta, int ply) {
+
+        if((++nodes & CLOCK_INTERVAL_MASK) == 0
+                && (System.nanoTime() > deadline || cancelled.get())) {
+
+            aborted = true;
+        }
+
+        if(aborted) {
+
+            return 0;
+        }
+
+        int canonical = Symmetry.smallest(hashes);
+        long key = hashes[canonical] ^ Zobrist.side(player);
+        long entry = table.probe(key);
+        int tableMove = Cell.NONE;
+
+        if(entry != TranspositionTable.MISS) {
+
+            tableMove = TranspositionTable.getMove(entry);
+
+            if(tableMove != Cell.NONE) {
+
+                tableMove = symmetry.unmap(canonical, tableMove);
+            }
+
+            /** The root needs a move, so it is always searched */
+            if(ply > 0 && TranspositionTable.getDepth(entry) >= depth) {
+
+                int value = fromTable(TranspositionTable.getValue(entry), ply);
+                int bound = TranspositionTable.getBound(entry);
+
+                if(bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER_BOUND && value >= beta)
+                        || (bound == TranspositionTable.UPPER_BOUND && value <= alpha)) {
+
+                    return value;
+                }
+            }
+        }
+
+        if(depth == 0) {
+
+            if(xOnLine != null) {
+
+                return player == Player.X ? xValue : -xValue;
+            }
+
+            return Evaluation.evaluate(board, lines, player);
+        }
+
+        int[] plyMoves = moves[ply];
+
+        /** Deep plies are rarely reached on large boards */
+        if(plyMoves == null) {
+
+            plyMoves = new int[board.getCells()];
+            moves[ply] = plyMoves;
+        }
+
+        int moveCount = generateMoves(plyMoves, tableMove);
+        int originalAlpha = alpha;
+        int best = -Evaluation.WIN;
+        int bestCell = Cell.NONE;
+
+        for(int i = 0; i < moveCount; i++) {
+
+            int cell = plyMoves[i];
+            int value;
+
+            place(cell, player);
+
+            if(isWonAt(cell, player)) {
+
+                value = Evaluation.WIN - (ply + 1);
+            } else if(board.isFull()) {
+
+                value = 0;
+            } else {
+
+                value = -search(player.opponent(), depth - 1, -beta, -alpha, ply + 1);
+            }
+
+            undo(cell, player);
+
+            if(aborted) {
+
+                return 0;
+            }
+
+            if(value > best) {
+
+                best = value;
+                bestCell = cell;
+
+                if(ply == 0) {
+
+                    bestMove = cell;
+                }
+            }
+
+            if(best > alpha) {
+
+                alpha = best;
+            }
+
+            if(alpha >= beta) {
+
+                break;
+            }
+        }
+
+        int bound = best <= originalAlpha ? TranspositionTable.UPPER_BOUND
+                : best >= beta ? TranspositionTable.LOWER_BOUND
+                : TranspositionTable.EXACT;
+        table.store(key, depth, bound, toTable(best, ply),
+                bestCell == Cell.NONE ? Cell.NONE : symmetry.map(canonical, bestCell));
+
+        return best;
+    }
+
+    private void place(int cell, Player player) {
+
+        board.place(cell, player);
+
+        if(xOnLine != null) {
+
+            count(cell, player, 1);
+        }
+
+        for(int i = 0; i < hashes.length; i++) {
+
+            hashes[i] ^= symmetry.key(i, player, cell);
+        }
+    }
+
+    private void undo(int cell, Player player) {
+
+        board.undo(cell);
+
+        if(xOnLine != null) {
+
+            count(cell, player, -1);
+        }
+
+        for(int i = 0; i < hashes.length; i++) {
+
+            hashes[i] ^= symmetry.key(i, player, cell);
+        }
+    }
+
+    /**
+     * Checks if a placed stone wins the game. Boards with masks check the
+     * lines through the cell with the stones of the player, larger boards
+     * check the counted stones of these lines.
+     */
+    private boolean isWonAt(int cell, Player player) {
+
+        if(xOnLine == null) {
+
+            return lines.isWonAt(((BitBoard) board).getStones(player), cell);
+        }
+
+        int[] onLine = player == Player.X ? xOnLine : oOnLine;
+
+        for(int line : lines.getLinesThroughCell(cell)) {
+
+            if(onLine[line] == tokensToWin) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Adds or removes a stone on the lines through its cell and updates the
+     * evaluation.
+     *
+     * @param change 1 for a placed stone, -1 for a removed stone
+     */
+    private void count(int cell, Player player, int change) {
+
+        int[] onLine = player == Player.X ? xOnLine : oOnLine;
+
+        for(int line : lines.getLinesThroughCell(cell)) {
+
+            xValue -= Evaluation.lineValue(xOnLine[line], oOnLine[line]);
+            onLine[line] += change;
+            xValue += Evaluation.lineValue(xOnLine[line], oOnLine[line]);
+        }
+    }
+
+    /**
+     * Writes the moves of the current position in search order.
+     *
+     * @param buffer Array for the moves
+     * @param tableMove Move of the transposition table or {@link Cell#NONE}
+     * @return Amount of moves
+     */
+    private int generateMoves(int[] buffer, int tableMove) {
+
+        int count = 0;
+        boolean filter = nearStonesOnly && board.getStoneCount() > 0;
+
+        if(tableMove != Cell.NONE && tableMove < board.getCells()
+                && !board.isOccupied(tableMove)) {
+
+            buffer[count++] = tableMove;
+        }
+
+        for(int cell : order) {
+
+            if(cell != tableMove && !board.isOccupied(cell)
+                    && (!filter || hasNeighbour(cell))) {
+
+                buffer[count++] = cell;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * @param cell Index of an empty cell
+     * @return <code>true</code> if one of the 8 cells around it is occupied
+     */
+    private boolean hasNeighbour(int cell) {
+
+        int columns = board.getColumns();
+        int rows = board.getRows();
+        int column = Cell.column(cell, columns);
+        int row = Cell.row(cell, columns);
+
+        for(int r = row - 1; r <= row + 1; r++) {
+            for(int c = column - 1; c <= column + 1; c++) {
+
+                if(Cell.isOnField(c, r, columns, rows)
+                        && board.isOccupied(Cell.index(c, r, columns))) {
+
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Orders the cells by the amount of winning lines passing through them.
+     * Cells with the same amount are ordered by their distance to the center,
+     * on large boards many cells have the same amount.
+     */
+    private static int[] orderCells(WinningLines lines, int columns, int rows) {
+
+        int cells = columns * rows;
+        int[] order = new int[cells];
+
+        for(int cell = 0; cell < cells; cell++) {
+
+            order[cell] = cell;
+        }
+
+        /** Insertion sort, stable and without boxing */
+        for(int i = 1; i < cells; i++) {
+
+            int cell = order[i];
+            int j = i - 1;
+
+            while(j >= 0 && comesBefore(lines, columns, rows, cell, order[j])) {
+
+                order[j + 1] = order[j];
+                j--;
+            }
+
+            order[j + 1] = cell;
+        }
+
+        return order;
+    }
+
+    private static boolean comesBefore(WinningLines lines, int columns, int rows,
+                                       int cell, int other) {
+
+        int count = lines.getLinesThroughCell(cell).length;
+        int otherCount = lines.getLinesThroughCell(other).length;
+
+        if(count != otherCount) {
+
+            return count > otherCount;
+        }
+
+        return centerDistance(cell, columns, rows) < centerDistance(other, columns, rows);
+    }
+
+    /**
+     * @return Squared distance of a cell to the center, doubled to stay integer
+     */
+    private static long centerDistance(int cell, int columns, int rows) {
+
+        long dx = 2 * Cell.column(cell, columns) - (columns - 1);
+        long dy = 2 * Cell.row(cell, columns) - (rows - 1);
+        return dx * dx + dy * dy;
+    }
+
+    /** Won values are stored relative to the position, not to the root */
+    private static int toTable(int value, int ply) {
+
+        if(value >= Evaluation.WIN_BOUND) {
+            return value + ply;
+        }
+
+        if(value <= -Evaluation.WIN_BOUND) {
+            return value - ply;
+        }
+
+        return value;
+    }
+
+    private static int fromTable(int value, int ply) {
+
+        if(value >= Evaluation.WIN_BOUND) {
+            return value - ply;
+        }
+
+        if(value <= -Evaluation.WIN_BOUND) {
+            return value + ply;
+        }
+
+        return value;
+    }
+
+    void setCancelled(AtomicBoolean cancelled) {
+        this.cancelled = cancelled;
+    }
+
+    boolean isAborted() {
+        return aborted;
+    }
+
+    int getBestMove() {
+        return bestMove;
+    }
+
+    long getNodes() {
+        return nodes;
+    }
+
+    int getFinishedDepth() {
+        return finishedDepth;
+    }
+
+    int getFinishedValue() {
+        return finishedValue;
+    }
+}
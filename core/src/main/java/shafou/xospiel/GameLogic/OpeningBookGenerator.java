@@ -0,0 +1,233 @@
+package shafou.xospiel.GameLogic;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ *
+ * This class searches the first moves of a board size in advance and writes
+ * them as an opening book in the format of a {@link SolvedTable}.
+ *
+ * <p>The book holds the positions of the first moves of a game for both
+ * sides of the computer: if the computer has to move, the book holds the
+ * move of a deep search, if the opponent has to move, every move of the
+ * opponent is followed. Symmetric positions are searched once.
+ *
+ * <p>The search of a book takes minutes, so the generator is not run during
+ * the build:
+ *
+ * java shafou.xospiel.GameLogic.OpeningBookGenerator &lt;directory&gt; &lt;moves&gt;
+ *      &lt;milliseconds&gt; 5x5:4 5x5:5
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+public final class OpeningBookGenerator {
+
+    private final int moves;
+
+    private final NegamaxPlayer player;
+
+    private final Symmetry symmetry;
+
+    /** Value byte of every searched position by its canonical key */
+    private final Map<Long, Byte> book = new HashMap<>();
+
+    /** Positions already followed, separately for both sides of the computer */
+    private final Set<Long> followed = new HashSet<>();
+
+    /**
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @param moves Positions with less stones are stored
+     * @param player Player that searches the moves
+     */
+    private OpeningBookGenerator(int columns, int rows, int moves, NegamaxPlayer player) {
+
+        this.moves = moves;
+        this.player = player;
+        this.symmetry = Symmetry.get(columns, rows);
+
+        if(!symmetry.canPack() || columns * rows > BitBoard.MAX_CELLS) {
+
+            throw new IllegalArgumentException("Only boards with up to 32 cells have a book");
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+
+        if(args.length < 4) {
+
+            System.err.println("Usage: OpeningBookGenerator <directory> <moves> <milliseconds>"
+                    + " <columns>x<rows>:<tokens> ...");
+            System.exit(1);
+        }
+
+        File directory = new File(args[0]);
+        int moves = Integer.parseInt(args[1]);
+        long timeBudget = Long.parseLong(args[2]);
+
+        if(!directory.isDirectory() && !directory.mkdirs()) {
+
+            throw new IOException("Can not create " + directory);
+        }
+
+        for(int i = 3; i < args.length; i++) {
+
+            String size = args[i];
+            int columns = Integer.parseInt(size.substring(0, size.indexOf('x')));
+            int rows = Integer.parseInt(size.substring(size.indexOf('x') + 1, size.indexOf(':')));
+            int tokensToWin = Integer.parseInt(size.substring(size.indexOf(':') + 1));
+
+            File file = new File(directory, SolvedTable.bookFileName(columns, rows, tokensToWin));
+            long start = System.nanoTime();
+
+            try(OutputStream output = new BufferedOutputStream(new FileOutputStream(file))) {
+
+                int count = generate(columns, rows, tokensToWin, moves, timeBudget,
+                        Runtime.getRuntime().availableProcessors(), output);
+                System.out.println(file.getName() + ": " + count + " positions in "
+                        + (System.nanoTime() - start) / 1000000000L + " s");
+            }
+        }
+    }
+
+    /**
+     * Searches the first moves of a board size and writes the book.
+     *
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @param tokensToWin Tokens to win the game
+     * @param moves Positions with less stones are stored
+     * @param timeBudget Search time of every position in milliseconds
+     * @param threads Amount of searching threads
+     * @param output Receives the book
+     * @return Amount of stored positions
+     * @throws IOException If the book can not be written
+     */
+    public static int generate(int columns, int rows, int tokensToWin, int moves,
+                               long timeBudget, int threads, OutputStream output)
+            throws IOException {
+
+        NegamaxPlayer player = new NegamaxPlayer(timeBudget, NegamaxPlayer.DEFAULT_TABLE_BITS + 4,
+                threads);
+
+        try {
+
+            OpeningBookGenerator generator = new OpeningBookGenerator(columns, rows, moves, player);
+
+            /** The computer starts the game or plays the second move */
+            generator.follow(new GameState(columns, rows, tokensToWin, Player.X), Player.X);
+            generator.follow(new GameState(columns, rows, tokensToWin, Player.X), Player.O);
+            generator.write(output, columns, rows, tokensToWin);
+            return generator.book.size();
+        } finally {
+
+            player.shutdown();
+        }
+    }
+
+    /**
+     * Stores the move of the computer or follows every move of the opponent.
+     *
+     * @param state Position of the game
+     * @param computer Player of the computer
+     */
+    private void follow(GameState state, Player computer) {
+
+        if(state.isOver() || state.getMoveCount() >= moves) {
+
+            return;
+        }
+
+        BitBoard board = (BitBoard) state.getBoard();
+        Player current = state.getCurrentPlayer();
+        long own = board.getStones(current);
+        long other = board.getStones(current.opponent());
+        int canonical = symmetry.canonicalSymmetry(own, other);
+        long key = symmetry.pack(symmetry.transform(canonical, own),
+                symmetry.transform(canonical, other));
+
+        /** The same position is followed differently for both sides */
+        if(!followed.add(current == computer ? key : ~key)) {
+
+            return;
+        }
+
+        if(current == computer) {
+
+            int move = search(state, key, canonical);
+            GameState next = state.copy();
+            next.play(move);
+            follow(next, computer);
+        } else {
+
+            for(int cell = 0; cell < board.getCells(); cell++) {
+
+                if(!board.isOccupied(cell)) {
+
+                    GameState next = state.copy();
+                    next.play(cell);
+                    follow(next, computer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Searches a position once and stores the move.
+     *
+     * @return Best move in the position
+     */
+    private int search(GameState state, long key, int canonical) {
+
+        Byte entry = book.get(key);
+
+        if(entry != null) {
+
+            return symmetry.unmap(canonical, entry & SolvedTable.MOVE_MASK);
+        }
+
+        int move = player.chooseMove(state);
+        int value = player.getLastValue();
+        int result = value >= Evaluation.WIN_BOUND ? 1 : value <= -Evaluation.WIN_BOUND ? -1 : 0;
+
+        book.put(key, SolvedTable.entry(result, symmetry.map(canonical, move)));
+        return move;
+    }
+
+    private void write(OutputStream output, int columns, int rows, int tokensToWin)
+            throws IOException {
+
+        long[] keys = new long[book.size()];
+        int i = 0;
+
+        for(Long key : book.keySet()) {
+
+            keys[i++] = key;
+        }
+
+        SolvedTable.sortKeys(keys);
+
+        byte[] values = new byte[keys.length];
+
+        for(i = 0; i < keys.length; i++) {
+
+            values[i] = book.get(keys[i]);
+        }
+
+        /** The positions were not searched until the end of the game */
+        SolvedTable.write(output, columns, rows, tokensToWin, 0, keys, values);
+    }
+}
@@ -0,0 +1,28 @@
+package shafou.xospiel.GameLogic;
+
+/**
+ *
+ * This enum represents the two players of a X/O game.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Enum created.
+ */
+
+public enum Player {
+
+    X,
+    O;
+
+    /**
+     * Returns the player that plays against this player.
+     *
+     * @return Opponent of this player
+     */
+    public Player opponent() {
+
+        return this == X ? O : X;
+    }
+}
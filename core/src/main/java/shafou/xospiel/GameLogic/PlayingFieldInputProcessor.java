@@ -0,0 +1,176 @@
+package shafou.xospiel.GameLogic;
+
+import java.util.List;
+
+import shafou.xospiel.PlayingField.Field;
+import shafou.xospiel.PlayingField.PlayingFieldGenerator;
+import shafou.xospiel.PlayingField.Viewport;
+
+/**
+ *
+ * This class represents a input processor of the playing field. Every management
+ * of an interaction with the field should be implemented here.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 05.06.2017 ELF Class created.
+ * 2) 17.10.2026 ELF Fields are looked up by column and row.
+ * 3) 17.10.2026 ELF Cell index of an input added.
+ * 4) 17.10.2026 ELF Moved to the core module.
+ * 5) 17.10.2026 ELF Inputs on playing fields without borders.
+ */
+
+public final class PlayingFieldInputProcessor<T extends PlayingFieldGenerator> {
+
+    /**
+     * Contains the fields of the playing field row by row, the field of a
+     * column and row is at index row * columns + column.
+     */
+    private Field[] playingFields;
+
+    /** Breite des Spielfeldes */
+    private float width;
+
+    /** Höhe des Spielfeldes */
+    private float height;
+
+    /** Spalten des Spielfeldes */
+    private int columns;
+
+    /** Reihen des Spielfeldes */
+    private int rows;
+
+    /**
+     * Creates a new Input Processor for a specific playing field generator.
+     *
+     * @param playingFieldGenerator Playing field generator
+     */
+    public PlayingFieldInputProcessor(T playingFieldGenerator) {
+
+        List<Field> fields = playingFieldGenerator.getPlayingFields();
+
+        if(fields != null) {
+
+            this.playingFields = fields.toArray(new Field[fields.size()]);
+        }
+
+        this.width = playingFieldGenerator.getWidth();
+        this.height = playingFieldGenerator.getHeight();
+        this.columns = playingFieldGenerator.getColumns();
+        this.rows = playingFieldGenerator.getRows();
+    }
+
+    /**
+     * Checks if the position of the input is on the playing field at all.
+     *
+     * @param inputPosition position of the input
+     * @return <code>true</code> if the input is on the field
+     */
+    public boolean isInputOnField(Position inputPosition) {
+
+        return isInputOnField(inputPosition.getXPosition(), inputPosition.getYPosition());
+    }
+
+    /**
+     * Checks if the coordinates of the input are on the playing field at all.
+     *
+     * @param x X coordinate of the input
+     * @param y Y coordinate of the input
+     * @return <code>true</code> if the input is on the field
+     */
+    public boolean isInputOnField(float x, float y) {
+
+        return x < width
+                && y < height
+                && x > 0
+                && y > 0;
+    }
+
+    /**
+     * Calculates on which field of the playing field the input happened.
+     *
+     * @param inputPosition position of the input
+     * @return One field of the playing field fields or <code>null</code>
+     */
+    public Field getField(Position inputPosition) {
+
+        return getField(inputPosition.getXPosition(), inputPosition.getYPosition());
+    }
+
+    /**
+     * Calculates on which field of the playing field the input happened.
+     *
+     * <p>All fields of a playing field have the same size, so the column and
+     * row of the input are calculated directly from the coordinates.
+     *
+     * @param x X coordinate of the input
+     * @param y Y coordinate of the input
+     * @return One field of the playing field fields or <code>null</code>
+     */
+    public Field getField(float x, float y) {
+
+        if(playingFields == null || x < 0 || y < 0 || x > width || y > height) {
+
+            return null;
+        }
+
+        return playingFields[getCell(x, y)];
+    }
+
+    /**
+     * Calculates on which cell of the playing field the input happened.
+     *
+     * @param x X coordinate of the input
+     * @param y Y coordinate of the input
+     * @return Index of the cell or {@link Cell#NONE} if the input is not on
+     * the playing field
+     */
+    public int getCell(float x, float y) {
+
+        if(x < 0 || y < 0 || x > width || y > height || columns <= 0 || rows <= 0) {
+
+            return Cell.NONE;
+        }
+
+        return Cell.index(getIndex(x, width, columns), getIndex(y, height, rows), columns);
+    }
+
+    /**
+     * Calculates on which cell of a playing field without borders the input
+     * happened.
+     *
+     * @param viewport Visible part of the playing field
+     * @param x X coordinate of the input in the view
+     * @param y Y coordinate of the input in the view
+     * @return Packed column and row of the cell {@link SparseBoard#pack(int, int)}
+     */
+    public static long getCoordinates(Viewport viewport, float x, float y) {
+
+        return SparseBoard.pack(viewport.getColumn(x), viewport.getRow(y));
+    }
+
+    /**
+     * Calculates the index of the column or row a coordinate lies in.
+     *
+     * <p>A coordinate on the border between two fields belongs to the first
+     * field.
+     *
+     * @param coordinate X or Y coordinate of the input
+     * @param length Width or height of the playing field
+     * @param count Amount of columns or rows
+     * @return Index of the column or row
+     */
+    private static int getIndex(float coordinate, float length, int count) {
+
+        int index = (int) Math.ceil(coordinate * count / length) - 1;
+
+        if(index < 0) {
+
+            return 0;
+        }
+
+        return index < count ? index : count - 1;
+    }
+}
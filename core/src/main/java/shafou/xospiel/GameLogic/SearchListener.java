@@ -0,0 +1,24 @@
+package shafou.xospiel.GameLogic;
+
+/**
+ *
+ * Is informed about the progress of a search.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Interface created.
+ */
+
+public interface SearchListener {
+
+    /**
+     * Is called on the searching thread after every finished depth.
+     *
+     * @param depth Finished depth
+     * @param move Best move of this depth
+     * @param value Value of the best move from the view of the searching player
+     */
+    void onDepthFinished(int depth, int move, int value);
+}
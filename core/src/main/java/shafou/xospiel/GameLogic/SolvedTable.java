@@ -0,0 +1,382 @@
+package shafou.xospiel.GameLogic;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ *
+ * This class answers the value and the best move of solved positions.
+ *
+ * <p>A table holds positions of one board size and amount of tokens to win.
+ * Every position is seen from the player who has to move: the stones of this
+ * player and of the opponent are packed into one key, which is the canonical
+ * key of the {@link Symmetry} of the board. So one entry answers all
+ * symmetric positions and both starting players.
+ *
+ * <p>Format of a table, all numbers big endian:
+ *
+ * int    magic "XOST"
+ * short  version
+ * byte   columns
+ * byte   rows
+ * byte   tokens to win
+ * byte   bytes per key, 4 or 8
+ * short  flags, {@link #FLAG_EXACT}
+ * int    amount of entries
+ * keys   sorted unsigned, bytes per key each
+ * values one byte each: (value + 1) &lt;&lt; 6 | best move
+ *
+ * <p>The value is 1 if the player who has to move wins, 0 for a draw and -1
+ * if the player loses. The best move is a cell of the canonical position.
+ * A table is usually memory mapped and read without copying it.
+ *
+ * <p>An opening book uses the same format without {@link #FLAG_EXACT}. Its
+ * positions were searched to a limited depth, a value of 0 means that the
+ * search did not decide the game.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Opening books in the same format.
+ */
+
+public final class SolvedTable {
+
+    /** "XOST" */
+    public static final int MAGIC = 0x584F5354;
+
+    public static final int VERSION = 1;
+
+    /** Size of the header in bytes */
+    public static final int HEADER_SIZE = 16;
+
+    /** Value returned for positions that are not in the table */
+    public static final int UNKNOWN = Integer.MIN_VALUE;
+
+    /** The values were searched until the end of the game */
+    public static final int FLAG_EXACT = 1;
+
+    /** Bits of the best move in a value byte */
+    static final int MOVE_MASK = 0x3F;
+
+    private final ByteBuffer buffer;
+
+    private final int columns;
+
+    private final int rows;
+
+    private final int tokensToWin;
+
+    private final int keyBytes;
+
+    private final int flags;
+
+    private final int count;
+
+    /** Position of the first value byte */
+    private final int valuesOffset;
+
+    private final Symmetry symmetry;
+
+    private SolvedTable(ByteBuffer buffer) {
+
+        if(buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+
+            throw new IllegalArgumentException("The data is not a solved table");
+        }
+
+        if(buffer.getShort(4) != VERSION) {
+
+            throw new IllegalArgumentException("Version " + buffer.getShort(4)
+                    + " of solved tables is not supported");
+        }
+
+        this.buffer = buffer;
+        this.columns = buffer.get(6);
+        this.rows = buffer.get(7);
+        this.tokensToWin = buffer.get(8);
+        this.keyBytes = buffer.get(9);
+        this.flags = buffer.getShort(10);
+        this.count = buffer.getInt(12);
+        this.valuesOffset = HEADER_SIZE + count * keyBytes;
+        this.symmetry = Symmetry.get(columns, rows);
+
+        if((keyBytes != 4 && keyBytes != 8) || !symmetry.canPack()
+                || buffer.capacity() < valuesOffset + count) {
+
+            throw new IllegalArgumentException("The solved table is damaged");
+        }
+    }
+
+    /**
+     * @param buffer Data of a table, is not copied
+     * @return The table
+     */
+    public static SolvedTable wrap(ByteBuffer buffer) {
+
+        return new SolvedTable(buffer);
+    }
+
+    /**
+     * Maps a part of a file into memory, e.g. an uncompressed asset of an app.
+     *
+     * @param channel Channel of the file
+     * @param offset Start of the table in the file
+     * @param length Length of the table in bytes
+     * @return The table
+     * @throws IOException If the file can not be mapped
+     */
+    public static SolvedTable map(FileChannel channel, long offset, long length) throws IOException {
+
+        return new SolvedTable(channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+    }
+
+    /**
+     * Maps a table file into memory.
+     *
+     * @param file The table file
+     * @return The table
+     * @throws IOException If the file can not be mapped
+     */
+    public static SolvedTable map(File file) throws IOException {
+
+        try(FileInputStream input = new FileInputStream(file)) {
+
+            FileChannel channel = input.getChannel();
+            return map(channel, 0, channel.size());
+        }
+    }
+
+    /**
+     * Writes a table.
+     *
+     * @param output Receives the table
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @param tokensToWin Tokens to win the game
+     * @param flags Flags of the table, e.g. {@link #FLAG_EXACT}
+     * @param keys Canonical keys of the positions, sorted unsigned
+     * @param values Value byte of every position, see {@link #entry(int, int)}
+     * @throws IOException If the table can not be written
+     */
+    public static void write(OutputStream output, int columns, int rows, int tokensToWin,
+                             int flags, long[] keys, byte[] values) throws IOException {
+
+        int keyBytes = 2 * columns * rows <= 32 ? 4 : 8;
+        DataOutputStream data = new DataOutputStream(output);
+        data.writeInt(MAGIC);
+        data.writeShort(VERSION);
+        data.writeByte(columns);
+        data.writeByte(rows);
+        data.writeByte(tokensToWin);
+        data.writeByte(keyBytes);
+        data.writeShort(flags);
+        data.writeInt(keys.length);
+
+        for(long key : keys) {
+
+            if(keyBytes == 4) {
+
+                data.writeInt((int) key);
+            } else {
+
+                data.writeLong(key);
+            }
+        }
+
+        data.write(values);
+        data.flush();
+    }
+
+    /**
+     * Sorts keys unsigned, as required by {@link #write}.
+     *
+     * @param keys Canonical keys of positions
+     */
+    public static void sortKeys(long[] keys) {
+
+        for(int i = 0; i < keys.length; i++) {
+            keys[i] += Long.MIN_VALUE;
+        }
+
+        Arrays.sort(keys);
+
+        for(int i = 0; i < keys.length; i++) {
+            keys[i] -= Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * @param value 1, 0 or -1 from the view of the player who has to move
+     * @param move Best move in the canonical position
+     * @return Value byte of a position
+     */
+    public static byte entry(int value, int move) {
+
+        return (byte) ((value + 1) << 6 | (move & MOVE_MASK));
+    }
+
+    /**
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @param tokensToWin Tokens to win the game
+     * @return Name of the table file of a board size
+     */
+    public static String fileName(int columns, int rows, int tokensToWin) {
+
+        return "solved_" + columns + "x" + rows + "_" + tokensToWin + ".bin";
+    }
+
+    /**
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @param tokensToWin Tokens to win the game
+     * @return Name of the opening book file of a board size
+     */
+    public static String bookFileName(int columns, int rows, int tokensToWin) {
+
+        return "book_" + columns + "x" + rows + "_" + tokensToWin + ".bin";
+    }
+
+    /**
+     * @param state State of a game
+     * @return <code>true</code> if the table holds the board size of the game
+     */
+    public boolean covers(GameState state) {
+
+        Board board = state.getBoard();
+
+        return board.getColumns() == columns && board.getRows() == rows
+                && state.getTokensToWin() == tokensToWin && board instanceof BitBoard;
+    }
+
+    /**
+     * @param state State of a game
+     * @return 1 if the current player wins, 0 for a draw, -1 if the current
+     *         player loses or {@link #UNKNOWN}
+     */
+    public int getValue(GameState state) {
+
+        int entry = findEntry(state);
+
+        return entry < 0 ? UNKNOWN : (buffer.get(valuesOffset + entry) >> 6 & 0x3) - 1;
+    }
+
+    /**
+     * @param state State of a game
+     * @return Best move of the current player or {@link Cell#NONE}
+     */
+    public int getBestMove(GameState state) {
+
+        if(!covers(state) || state.isOver()) {
+
+            return Cell.NONE;
+        }
+
+        BitBoard board = (BitBoard) state.getBoard();
+        Player player = state.getCurrentPlayer();
+        long own = board.getStones(player);
+        long other = board.getStones(player.opponent());
+        int canonical = symmetry.canonicalSymmetry(own, other);
+        int entry = find(symmetry.pack(symmetry.transform(canonical, own),
+                symmetry.transform(canonical, other)));
+
+        if(entry < 0) {
+
+            return Cell.NONE;
+        }
+
+        return symmetry.unmap(canonical, buffer.get(valuesOffset + entry) & MOVE_MASK);
+    }
+
+    private int findEntry(GameState state) {
+
+        if(!covers(state) || state.isOver()) {
+
+            return -1;
+        }
+
+        BitBoard board = (BitBoard) state.getBoard();
+        Player player = state.getCurrentPlayer();
+
+        return find(symmetry.canonicalKey(board.getStones(player),
+                board.getStones(player.opponent())));
+    }
+
+    /**
+     * Binary search of a key.
+     *
+     * @param key Canonical key of a position
+     * @return Index of the entry or -1
+     */
+    int find(long key) {
+
+        int low = 0;
+        int high = count - 1;
+
+        while(low <= high) {
+
+            int middle = (low + high) >>> 1;
+            long middleKey = getKey(middle);
+
+            /** Unsigned comparison */
+            if(middleKey + Long.MIN_VALUE < key + Long.MIN_VALUE) {
+
+                low = middle + 1;
+            } else if(middleKey != key) {
+
+                high = middle - 1;
+            } else {
+
+                return middle;
+            }
+        }
+
+        return -1;
+    }
+
+    private long getKey(int index) {
+
+        if(keyBytes == 4) {
+
+            return buffer.getInt(HEADER_SIZE + index * 4) & 0xFFFFFFFFL;
+        }
+
+        return buffer.getLong(HEADER_SIZE + index * 8);
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getTokensToWin() {
+        return tokensToWin;
+    }
+
+    /**
+     * @return <code>true</code> if the values were searched until the end
+     *         of the game, <code>false</code> for an opening book
+     */
+    public boolean isExact() {
+        return (flags & FLAG_EXACT) != 0;
+    }
+
+    /**
+     * @return Amount of positions in the table
+     */
+    public int getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,286 @@
+package shafou.xospiel.GameLogic;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ *
+ * This class solves every reachable position of a small board and writes
+ * the results as a {@link SolvedTable}.
+ *
+ * <p>The positions are searched from the empty board to the end of the
+ * game. Every position is stored once per canonical {@link Symmetry}, seen
+ * from the player who has to move. Positions after the end of the game are
+ * not stored. Of all best moves the fastest win or the slowest loss is
+ * stored.
+ *
+ * <p>The generator runs during the build of the app:
+ *
+ * java shafou.xospiel.GameLogic.SolvedTableGenerator &lt;directory&gt; 3x3:3 4x4:4
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Format is written by the SolvedTable.
+ */
+
+public final class SolvedTableGenerator {
+
+    /** Value of a win with the next move, every further move reduces it by 1 */
+    private static final int WIN = 100;
+
+    private final int cells;
+
+    private final WinningLines lines;
+
+    private final Symmetry symmetry;
+
+    /** Solved positions, the value and the best move packed in an int */
+    private final PositionMap solved = new PositionMap();
+
+    private SolvedTableGenerator(int columns, int rows, int tokensToWin) {
+
+        this.cells = columns * rows;
+        this.lines = WinningLines.get(columns, rows, tokensToWin);
+        this.symmetry = Symmetry.get(columns, rows);
+
+        if(!symmetry.canPack()) {
+
+            throw new IllegalArgumentException("Only boards with up to 32 cells can be solved");
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+
+        if(args.length < 2) {
+
+            System.err.println("Usage: SolvedTableGenerator <directory> <columns>x<rows>:<tokens> ...");
+            System.exit(1);
+        }
+
+        File directory = new File(args[0]);
+
+        if(!directory.isDirectory() && !directory.mkdirs()) {
+
+            throw new IOException("Can not create " + directory);
+        }
+
+        for(int i = 1; i < args.length; i++) {
+
+            String size = args[i];
+            int columns = Integer.parseInt(size.substring(0, size.indexOf('x')));
+            int rows = Integer.parseInt(size.substring(size.indexOf('x') + 1, size.indexOf(':')));
+            int tokensToWin = Integer.parseInt(size.substring(size.indexOf(':') + 1));
+
+            File file = new File(directory, SolvedTable.fileName(columns, rows, tokensToWin));
+            long start = System.nanoTime();
+
+            try(OutputStream output = new BufferedOutputStream(new FileOutputStream(file))) {
+
+                int count = generate(columns, rows, tokensToWin, output);
+                System.out.println(file.getName() + ": " + count + " positions in "
+                        + (System.nanoTime() - start) / 1000000L + " ms");
+            }
+        }
+    }
+
+    /**
+     * Solves a board size and writes the table.
+     *
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @param tokensToWin Tokens to win the game
+     * @param output Receives the table
+     * @return Amount of stored positions
+     * @throws IOException If the table can not be written
+     */
+    public static int generate(int columns, int rows, int tokensToWin,
+                               OutputStream output) throws IOException {
+
+        SolvedTableGenerator generator = new SolvedTableGenerator(columns, rows, tokensToWin);
+        generator.solve(0L, 0L);
+        generator.write(output, columns, rows, tokensToWin);
+        return generator.solved.size();
+    }
+
+    /**
+     * Solves a position.
+     *
+     * @param own Stones of the player who has to move
+     * @param other Stones of the opponent
+     * @return WIN minus the moves until the win, the negative value for a
+     *         loss or 0 for a draw
+     */
+    private int solve(long own, long other) {
+
+        int canonical = symmetry.canonicalSymmetry(own, other);
+        long key = symmetry.pack(symmetry.transform(canonical, own),
+                symmetry.transform(canonical, other));
+        int known = solved.get(key);
+
+        if(known != PositionMap.MISSING) {
+
+            return known >> 8;
+        }
+
+        int best = -WIN - 1;
+        int bestMove = Cell.NONE;
+        long occupied = own | other;
+
+        for(int cell = 0; cell < cells; cell++) {
+
+            long bit = 1L << cell;
+
+            if((occupied & bit) != 0) {
+
+                continue;
+            }
+
+            int value;
+
+            if(lines.isWonAt(own | bit, cell)) {
+
+                value = WIN - 1;
+            } else if(Long.bitCount(occupied) + 1 == cells) {
+
+                value = 0;
+            } else {
+
+                /** One more move until the end of the game */
+                int opponentValue = solve(other, own | bit);
+                value = opponentValue > 0 ? -(opponentValue - 1)
+                        : opponentValue < 0 ? -opponentValue - 1 : 0;
+            }
+
+            if(value > best) {
+
+                best = value;
+                bestMove = cell;
+            }
+        }
+
+        solved.put(key, best << 8 | symmetry.map(canonical, bestMove));
+        return best;
+    }
+
+    private void write(OutputStream output, int columns, int rows, int tokensToWin)
+            throws IOException {
+
+        long[] keys = solved.keys();
+        SolvedTable.sortKeys(keys);
+
+        byte[] values = new byte[keys.length];
+
+        for(int i = 0; i < keys.length; i++) {
+
+            int entry = solved.get(keys[i]);
+            values[i] = SolvedTable.entry(Integer.signum(entry >> 8),
+                    entry & SolvedTable.MOVE_MASK);
+        }
+
+        SolvedTable.write(output, columns, rows, tokensToWin, SolvedTable.FLAG_EXACT,
+                keys, values);
+    }
+
+    /**
+     * Map of packed positions to int values with open addressing. Avoids a
+     * boxed entry for each of the million positions of a 4x4 board.
+     */
+    private static final class PositionMap {
+
+        static final int MISSING = Integer.MIN_VALUE;
+
+        /** Key + 1 of every slot, 0 marks an empty slot */
+        private long[] keys = new long[1 << 16];
+
+        private int[] values = new int[1 << 16];
+
+        private int size;
+
+        int get(long key) {
+
+            int mask = keys.length - 1;
+
+            for(int slot = slot(key, mask); keys[slot] != 0; slot = (slot + 1) & mask) {
+
+                if(keys[slot] == key + 1) {
+
+                    return values[slot];
+                }
+            }
+
+            return MISSING;
+        }
+
+        void put(long key, int value) {
+
+            if(2 * (size + 1) > keys.length) {
+
+                grow();
+            }
+
+            int mask = keys.length - 1;
+            int slot = slot(key, mask);
+
+            while(keys[slot] != 0 && keys[slot] != key + 1) {
+
+                slot = (slot + 1) & mask;
+            }
+
+            if(keys[slot] == 0) {
+
+                size++;
+            }
+
+            keys[slot] = key + 1;
+            values[slot] = value;
+        }
+
+        long[] keys() {
+
+            long[] result = new long[size];
+            int i = 0;
+
+            for(long key : keys) {
+
+                if(key != 0) {
+
+                    result[i++] = key - 1;
+                }
+            }
+
+            return result;
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void grow() {
+
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = new long[oldKeys.length * 2];
+            values = new int[oldValues.length * 2];
+            size = 0;
+
+            for(int i = 0; i < oldKeys.length; i++) {
+
+                if(oldKeys[i] != 0) {
+
+                    put(oldKeys[i] - 1, oldValues[i]);
+                }
+            }
+        }
+
+        private static int slot(long key, int mask) {
+
+            return (int) Zobrist.mix(key) & mask;
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package shafou.xospiel.GameLogic;
+
+/**
+ *
+ * This class holds the stones of a board without borders.
+ *
+ * <p>Only occupied cells are stored. The column and row of a cell are packed
+ * into one long, the cells are stored in a hash table with open addressing
+ * and linear probing, so no object is created per stone. The table is
+ * doubled when it is half full.
+ *
+ * <p>A win is only checked around the last placed stone, the time does not
+ * depend on the amount of stones.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Occupants are read without allocations.
+ */
+
+public final class SparseBoard {
+
+    /** Players by their occupant value minus 1, {@link Player#values()} copies */
+    private static final Player[] PLAYERS = Player.values();
+
+    /** Size of the table of an empty board */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Change of the column and row to the next cell in every direction */
+    private static final int[] DIRECTION_COLUMNS = {1, 0, 1, -1};
+    private static final int[] DIRECTION_ROWS = {0, 1, 1, 1};
+
+    /** Packed coordinates of the stones */
+    private long[] keys;
+
+    /** Occupant of every slot: 0 for an empty slot, 1 for X and 2 for O */
+    private byte[] occupants;
+
+    private int stoneCount;
+
+    /** Smallest and largest column and row of all placed stones */
+    private int minColumn;
+    private int maxColumn;
+    private int minRow;
+    private int maxRow;
+
+    public SparseBoard() {
+
+        keys = new long[INITIAL_CAPACITY];
+        occupants = new byte[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Packs the coordinates of a cell into one long.
+     *
+     * @param column Column of the cell, may be negative
+     * @param row Row of the cell, may be negative
+     * @return Packed coordinates
+     */
+    public static long pack(int column, int row) {
+
+        return ((long) column << 32) | (row & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @param coordinates Packed coordinates of a cell
+     * @return Column of the cell
+     */
+    public static int column(long coordinates) {
+
+        return (int) (coordinates >> 32);
+    }
+
+    /**
+     * @param coordinates Packed coordinates of a cell
+     * @return Row of the cell
+     */
+    public static int row(long coordinates) {
+
+        return (int) coordinates;
+    }
+
+    /**
+     * Places a stone of a player on an empty cell.
+     *
+     * @param column Column of the cell
+     * @param row Row of the cell
+     * @param player Player the stone belongs to
+     */
+    public void place(int column, int row, Player player) {
+
+        long key = pack(column, row);
+        int slot = find(key);
+
+        if(occupants[slot] != 0) {
+
+            throw new IllegalStateException("Cell " + column + "/" + row + " is already occupied");
+        }
+
+        keys[slot] = key;
+        occupants[slot] = (byte) (player.ordinal() + 1);
+
+        if(stoneCount == 0) {
+
+            minColumn = maxColumn = column;
+            minRow = maxRow = row;
+        } else {
+
+            minColumn = Math.min(minColumn, column);
+            maxColumn = Math.max(maxColumn, column);
+            minRow = Math.min(minRow, row);
+            maxRow = Math.max(maxRow, row);
+        }
+
+        if(++stoneCount * 2 > keys.length) {
+
+            grow();
+        }
+    }
+
+    /**
+     * Removes the stone of a cell. The bounds of the stones are not reduced.
+     *
+     * @param column Column of the cell
+     * @param row Row of the cell
+     */
+    public void remove(int column, int row) {
+
+        int slot = find(pack(column, row));
+
+        if(occupants[slot] == 0) {
+
+            return;
+        }
+
+        occupants[slot] = 0;
+        stoneCount--;
+
+        /**
+         * The following stones of the probe sequence are moved into the gap,
+         * so every stone stays reachable from its home slot.
+         */
+        int mask = keys.length - 1;
+        int gap = slot;
+
+        for(int next = (gap + 1) & mask; occupants[next] != 0; next = (next + 1) & mask) {
+
+            int home = home(keys[next]);
+
+            /** The stone may move if its home slot does not lie between the gap and its slot */
+            if(((next - home) & mask) >= ((next - gap) & mask)) {
+
+                keys[gap] = keys[next];
+                occupants[gap] = occupants[next];
+                occupants[next] = 0;
+                gap = next;
+            }
+        }
+    }
+
+    /**
+     * @param column Column of the cell
+     * @param row Row of the cell
+     * @return Player of the stone on the cell or <code>null</code>
+     */
+    public Player getOccupant(int column, int row) {
+
+        byte occupant = occupants[find(pack(column, row))];
+
+        return occupant == 0 ? null : PLAYERS[occupant - 1];
+    }
+
+    /**
+     * @param column Column of the cell
+     * @param row Row of the cell
+     * @return <code>true</code> if a stone lies on the cell
+     */
+    public boolean isOccupied(int column, int row) {
+
+        return occupants[find(pack(column, row))] != 0;
+    }
+
+    /**
+     * Checks if the stone on a cell is part of enough stones in a row, column
+     * or diagonal.
+     *
+     * @param column Column of the last placed stone
+     * @param row Row of the last placed stone
+     * @param tokensToWin Tokens to win this game
+     * @return <code>true</code> if the player of the stone has won
+     */
+    public boolean hasWonAt(int column, int row, int tokensToWin) {
+
+        Player player = getOccupant(column, row);
+
+        if(player == null) {
+
+            return false;
+        }
+
+        for(int direction = 0; direction < DIRECTION_COLUMNS.length; direction++) {
+
+            int dc = DIRECTION_COLUMNS[direction];
+            int dr = DIRECTION_ROWS[direction];
+            int inRow = 1 + count(column, row, dc, dr, player, tokensToWin)
+                    + count(column, row, -dc, -dr, player, tokensToWin);
+
+            if(inRow >= tokensToWin) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Counts the stones of a player next to a cell in one direction, at most
+     * the stones needed to win.
+     */
+    private int count(int column, int row, int dc, int dr, Player player, int tokensToWin) {
+
+        int count = 0;
+
+        for(int i = 1; i < tokensToWin && getOccupant(column + i * dc, row + i * dr) == player; i++) {
+
+            count++;
+        }
+
+        return count;
+    }
+
+    /** Removes all stones */
+    public void clear() {
+
+        keys = new long[INITIAL_CAPACITY];
+        occupants = new byte[INITIAL_CAPACITY];
+        stoneCount = 0;
+    }
+
+    /**
+     * @return Slot of the key or the empty slot where it would be stored
+     */
+    private int find(long key) {
+
+        int mask = keys.length - 1;
+        int slot = home(key);
+
+        while(occupants[slot] != 0 && keys[slot] != key) {
+
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    private int home(long key) {
+
+        return (int) Zobrist.mix(key) & (keys.length - 1);
+    }
+
+    private void grow() {
+
+        long[] oldKeys = keys;
+        byte[] oldOccupants = occupants;
+
+        keys = new long[oldKeys.length * 2];
+        occupants = new byte[oldKeys.length * 2];
+
+        for(int i = 0; i < oldKeys.length; i++) {
+
+            if(oldOccupants[i] != 0) {
+
+                int slot = find(oldKeys[i]);
+                keys[slot] = oldKeys[i];
+                occupants[slot] = oldOccupants[i];
+            }
+        }
+    }
+
+    public int getStoneCount() {
+        return stoneCount;
+    }
+
+    public int getMinColumn() {
+        return minColumn;
+    }
+
+    public int getMaxColumn() {
+        return maxColumn;
+    }
+
+    public int getMinRow() {
+        return minRow;
+    }
+
+    public int getMaxRow() {
+        return maxRow;
+    }
+}
@@ -0,0 +1,146 @@
+package shafou.xospiel.GameLogic;
+
+import java.util.Arrays;
+
+/**
+ *
+ * This class holds the state of a game on a board without borders.
+ *
+ * <p>The game ends when a player has enough tokens in a row, a draw is not
+ * possible. The moves are stored as packed coordinates
+ * {@link SparseBoard#pack(int, int)}.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+public final class SparseGameState {
+
+    private final SparseBoard board = new SparseBoard();
+
+    private final int tokensToWin;
+
+    private Player startingPlayer;
+
+    private Player currentPlayer;
+
+    private Player winner;
+
+    /** Packed coordinates of all moves in the order they were played */
+    private long[] moves = new long[64];
+
+    private int moveCount;
+
+    /**
+     * @param tokensToWin Tokens in a row to win the game, at least 3
+     * @param startingPlayer Player with the first move
+     */
+    public SparseGameState(int tokensToWin, Player startingPlayer) {
+
+        if(tokensToWin < 3) {
+
+            throw new IllegalArgumentException("At least 3 tokens are required to win");
+        }
+
+        this.tokensToWin = tokensToWin;
+        reset(startingPlayer);
+    }
+
+    /**
+     * Plays a token of the current player.
+     *
+     * @param column Column of the cell
+     * @param row Row of the cell
+     * @return <code>true</code> if the move won the game
+     */
+    public boolean play(int column, int row) {
+
+        if(winner != null) {
+
+            throw new IllegalStateException("The game is already over");
+        }
+
+        board.place(column, row, currentPlayer);
+
+        if(moveCount == moves.length) {
+
+            moves = Arrays.copyOf(moves, moveCount * 2);
+        }
+
+        moves[moveCount++] = SparseBoard.pack(column, row);
+
+        if(board.hasWonAt(column, row, tokensToWin)) {
+
+            winner = currentPlayer;
+            return true;
+        }
+
+        currentPlayer = currentPlayer.opponent();
+        return false;
+    }
+
+    /**
+     * Starts a new game on an empty board.
+     *
+     * @param startingPlayer Player with the first move
+     */
+    public void reset(Player startingPlayer) {
+
+        board.clear();
+        moveCount = 0;
+        winner = null;
+        this.startingPlayer = startingPlayer;
+        this.currentPlayer = startingPlayer;
+    }
+
+    /**
+     * @param index Index of the move, starting with 0
+     * @return Packed coordinates of the move
+     */
+    public long getMove(int index) {
+
+        if(index < 0 || index >= moveCount) {
+
+            throw new IllegalArgumentException("No move with index " + index);
+        }
+
+        return moves[index];
+    }
+
+    /**
+     * @param index Index of the move, starting with 0
+     * @return Player of the move
+     */
+    public Player getPlayerOfMove(int index) {
+
+        return index % 2 == 0 ? startingPlayer : startingPlayer.opponent();
+    }
+
+    public SparseBoard getBoard() {
+        return board;
+    }
+
+    public int getTokensToWin() {
+        return tokensToWin;
+    }
+
+    public int getMoveCount() {
+        return moveCount;
+    }
+
+    public Player getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    /** Returns the winner or <code>null</code> while the game is running */
+    public Player getWinner() {
+        return winner;
+    }
+
+    public boolean isOver() {
+        return winner != null;
+    }
+}
@@ -14,6 +14,9 @@ import java.util.List;
  * Change log:
  * 1) 24.05.2017 ELF Class created.
  * 1) 25.05.2017 ELF Logic implemented.
+ * 2) 17.10.2026 ELF Evaluation of a board added.
+ * 3) 17.10.2026 ELF Evaluation of the last move added.
+ * 4) 17.10.2026 ELF Bit boards are evaluated with the winning lines.
  */
 
 public class Standings {
@@ -104,6 +107,103 @@ public class Standings {
         return false;
     }
 
+    /**
+     * Calculates if the stones of a player on a board win a game.
+     *
+     * @param board Board of the game
+     * @param player Player to check
+     * @param tokensToWin Tokens to win this game
+     * @return <code>true</code> if the player has won this game
+     */
+    public static boolean hasWon(Board board, Player player, int tokensToWin) {
+
+        return board.hasWon(player, tokensToWin);
+    }
+
+    /**
+     * Calculates if the last placed stone wins a game.
+     *
+     * <p>Only the row, column and diagonals through the last stone are
+     * checked. On a {@link BitBoard} every winning line through the last stone
+     * is checked with its bit mask. On all other boards the stones of the same
+     * player are counted in both directions of every line.
+     *
+     * @param board Board of the game
+     * @param lastCell Cell of the last placed stone
+     * @param tokensToWin Tokens to win this game
+     * @return <code>true</code> if the last stone wins this game
+     */
+    public static boolean hasWonWith(Board board, int lastCell, int tokensToWin) {
+
+        Player player = board.getOccupant(lastCell);
+
+        if(player == null) {
+
+            return false;
+        }
+
+        if(board instanceof BitBoard) {
+
+            return WinningLines.get(board.getColumns(), board.getRows(), tokensToWin)
+                    .isWonAt(((BitBoard) board).getStones(player), lastCell);
+        }
+
+        int columns = board.getColumns();
+        int column = lastCell % columns;
+        int row = lastCell / columns;
+
+        return countLine(board, player, column, row, gRX, gRY, tokensToWin) >= tokensToWin
+                || countLine(board, player, column, row, gSX, gSY, tokensToWin) >= tokensToWin
+                || countLine(board, player, column, row, gDrX, gDrY, tokensToWin) >= tokensToWin
+                || countLine(board, player, column, row, gDlX, gDlY, tokensToWin) >= tokensToWin;
+    }
+
+    /**
+     * Counts the stones of a player in a line through a cell.
+     *
+     * @param board Board of the game
+     * @param player Player of the stone in the cell
+     * @param column Column of the cell
+     * @param row Row of the cell
+     * @param stepX Change of the column to the next cell of the line
+     * @param stepY Change of the row to the next cell of the line
+     * @param tokensToWin Counting stops at this amount of stones
+     * @return Amount of stones in the line through the cell
+     */
+    private static int countLine(Board board, Player player, int column, int row,
+                                 int stepX, int stepY, int tokensToWin) {
+
+        int columns = board.getColumns();
+        int rows = board.getRows();
+        int count = 1;
+
+        /** Counts forwards */
+        int x = column + stepX;
+        int y = row + stepY;
+
+        while(count < tokensToWin && x >= 0 && x < columns && y >= 0 && y < rows
+                && board.getOccupant(y * columns + x) == player) {
+
+            count++;
+            x += stepX;
+            y += stepY;
+        }
+
+        /** Counts backwards */
+        x = column - stepX;
+        y = row - stepY;
+
+        while(count < tokensToWin && x >= 0 && x < columns && y >= 0 && y < rows
+                && board.getOccupant(y * columns + x) == player) {
+
+            count++;
+            x -= stepX;
+            y -= stepY;
+        }
+
+        return count;
+    }
+
     /**
      * Creates from an old position a new updated position.
      *
@@ -0,0 +1,318 @@
+package shafou.xospiel.GameLogic;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ *
+ * This class holds the symmetries of a board size.
+ *
+ * <p>A square board has 8 symmetries, the 4 rotations and the 4 reflections.
+ * Every other board has 4, the identity, the two reflections at the middle
+ * lines and the rotation by 180 degrees. A symmetry maps every winning line
+ * onto a winning line, so all positions it maps onto each other have the
+ * same value.
+ *
+ * <p>The canonical form of a position is the smallest of its symmetric
+ * encodings. Tables that store positions by their canonical form need only
+ * one entry for all symmetric positions. Every symmetry is stored as a
+ * permutation of the cells, calculated once per board size.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+public final class Symmetry {
+
+    /** Already calculated symmetries */
+    private static final Map<Long, Symmetry> CACHE = new HashMap<>();
+
+    /** Symmetry that maps every cell onto itself */
+    public static final int IDENTITY = 0;
+
+    private final int columns;
+
+    private final int rows;
+
+    /** For every symmetry the cell every cell is mapped onto */
+    private final int[][] permutations;
+
+    /** For every symmetry the cell that is mapped onto every cell */
+    private final int[][] inverses;
+
+    /**
+     * For every symmetry the Zobrist keys of the mapped stones, first all
+     * cells of X, then all cells of O.
+     */
+    private final long[][] keys;
+
+    private Symmetry(int columns, int rows) {
+
+        this.columns = columns;
+        this.rows = rows;
+
+        int cells = columns * rows;
+        int count = columns == rows ? 8 : 4;
+
+        this.permutations = new int[count][cells];
+        this.inverses = new int[count][cells];
+        this.keys = new long[count][2 * cells];
+
+        for(int symmetry = 0; symmetry < count; symmetry++) {
+
+            for(int cell = 0; cell < cells; cell++) {
+
+                int image = mapCell(symmetry, cell % columns, cell / columns);
+                permutations[symmetry][cell] = image;
+                inverses[symmetry][image] = cell;
+                keys[symmetry][cell] = Zobrist.key(Player.X, image);
+                keys[symmetry][cells + cell] = Zobrist.key(Player.O, image);
+            }
+        }
+    }
+
+    /**
+     * Returns the symmetries of a board size. The symmetries are only
+     * calculated on the first call.
+     *
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @return Symmetries of the board
+     */
+    public static synchronized Symmetry get(int columns, int rows) {
+
+        if(columns <= 0 || rows <= 0) {
+
+            throw new IllegalArgumentException("Rows and columns must be positiv");
+        }
+
+        Long key = ((long) columns << 32) | rows;
+        Symmetry symmetry = CACHE.get(key);
+
+        if(symmetry == null) {
+
+            symmetry = new Symmetry(columns, rows);
+            CACHE.put(key, symmetry);
+        }
+
+        return symmetry;
+    }
+
+    /**
+     * Maps a cell with one of the symmetries.
+     *
+     * @param symmetry Index of the symmetry
+     * @param column Column of the cell
+     * @param row Row of the cell
+     * @return Index of the mapped cell
+     */
+    private int mapCell(int symmetry, int column, int row) {
+
+        int lastColumn = columns - 1;
+        int lastRow = rows - 1;
+
+        switch(symmetry) {
+            /** Identity */
+            case 0: return Cell.index(column, row, columns);
+            /** Reflection at the vertical middle line */
+            case 1: return Cell.index(lastColumn - column, row, columns);
+            /** Reflection at the horizontal middle line */
+            case 2: return Cell.index(column, lastRow - row, columns);
+            /** Rotation by 180 degrees */
+            case 3: return Cell.index(lastColumn - column, lastRow - row, columns);
+            /** Reflection at the main diagonal */
+            case 4: return Cell.index(row, column, columns);
+            /** Rotation by 90 degrees clockwise */
+            case 5: return Cell.index(lastRow - row, column, columns);
+            /** Rotation by 90 degrees counterclockwise */
+            case 6: return Cell.index(row, lastColumn - column, columns);
+            /** Reflection at the anti diagonal */
+            default: return Cell.index(lastRow - row, lastColumn - column, columns);
+        }
+    }
+
+    /**
+     * @param symmetry Index of the symmetry
+     * @param cell Index of a cell
+     * @return Index of the cell the symmetry maps the cell onto
+     */
+    public int map(int symmetry, int cell) {
+
+        return permutations[symmetry][cell];
+    }
+
+    /**
+     * @param symmetry Index of the symmetry
+     * @param cell Index of a mapped cell
+     * @return Index of the cell the symmetry maps onto the cell
+     */
+    public int unmap(int symmetry, int cell) {
+
+        return inverses[symmetry][cell];
+    }
+
+    /**
+     * @param symmetry Index of the symmetry
+     * @param player Player the stone belongs to
+     * @param cell Index of the cell
+     * @return Zobrist key of the mapped stone
+     */
+    public long key(int symmetry, Player player, int cell) {
+
+        return keys[symmetry][player == Player.X ? cell : getCells() + cell];
+    }
+
+    /**
+     * Calculates the Zobrist hash of every symmetric position of a board.
+     *
+     * @param board A board of this size
+     * @param hashes Array for the hash of every symmetry
+     */
+    public void hashes(Board board, long[] hashes) {
+
+        for(int symmetry = 0; symmetry < getCount(); symmetry++) {
+
+            hashes[symmetry] = 0L;
+        }
+
+        for(int cell = 0; cell < getCells(); cell++) {
+
+            Player player = board.getOccupant(cell);
+
+            if(player != null) {
+
+                for(int symmetry = 0; symmetry < getCount(); symmetry++) {
+
+                    hashes[symmetry] ^= key(symmetry, player, cell);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param hashes Hash of every symmetric position
+     * @return Index of the symmetry with the smallest hash
+     */
+    public static int smallest(long[] hashes) {
+
+        int smallest = IDENTITY;
+
+        for(int symmetry = 1; symmetry < hashes.length; symmetry++) {
+
+            if(hashes[symmetry] < hashes[smallest]) {
+
+                smallest = symmetry;
+            }
+        }
+
+        return smallest;
+    }
+
+    /**
+     * Maps the stones of a bit board.
+     *
+     * @param symmetry Index of the symmetry
+     * @param stones Bit mask of the stones of a player
+     * @return Bit mask of the mapped stones
+     */
+    public long transform(int symmetry, long stones) {
+
+        int[] permutation = permutations[symmetry];
+        long mapped = 0L;
+
+        while(stones != 0) {
+
+            mapped |= 1L << permutation[Long.numberOfTrailingZeros(stones)];
+            stones &= stones - 1;
+        }
+
+        return mapped;
+    }
+
+    /**
+     * @return <code>true</code> if the stones of both players fit into one
+     *         packed <code>long</code>
+     */
+    public boolean canPack() {
+
+        return 2 * getCells() <= 64;
+    }
+
+    /**
+     * Packs the stones of both players into one <code>long</code>, the
+     * stones of X in the low bits and the stones of O above them.
+     *
+     * @param xStones Bit mask of the stones of X
+     * @param oStones Bit mask of the stones of O
+     * @return Packed position
+     */
+    public long pack(long xStones, long oStones) {
+
+        return xStones | (oStones << getCells());
+    }
+
+    /**
+     * @param xStones Bit mask of the stones of X
+     * @param oStones Bit mask of the stones of O
+     * @return Index of the symmetry with the smallest packed position
+     */
+    public int canonicalSymmetry(long xStones, long oStones) {
+
+        if(!canPack()) {
+
+            throw new IllegalStateException("The stones of a board with "
+                    + getCells() + " cells can not be packed");
+        }
+
+        int smallest = IDENTITY;
+        long smallestKey = pack(xStones, oStones);
+
+        for(int symmetry = 1; symmetry < getCount(); symmetry++) {
+
+            long key = pack(transform(symmetry, xStones), transform(symmetry, oStones));
+
+            /** Unsigned comparison, a board with 32 cells uses the sign bit */
+            if(key + Long.MIN_VALUE < smallestKey + Long.MIN_VALUE) {
+
+                smallest = symmetry;
+                smallestKey = key;
+            }
+        }
+
+        return smallest;
+    }
+
+    /**
+     * @param xStones Bit mask of the stones of X
+     * @param oStones Bit mask of the stones of O
+     * @return Smallest packed position of all symmetric positions
+     */
+    public long canonicalKey(long xStones, long oStones) {
+
+        int symmetry = canonicalSymmetry(xStones, oStones);
+
+        return pack(transform(symmetry, xStones), transform(symmetry, oStones));
+    }
+
+    /**
+     * @return Amount of symmetries, 8 for square boards and 4 otherwise
+     */
+    public int getCount() {
+        return permutations.length;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getCells() {
+        return columns * rows;
+    }
+}
@@ -0,0 +1,182 @@
+package shafou.xospiel.GameLogic;
+
+/**
+ *
+ * This class stores the results of already searched positions.
+ *
+ * <p>The table is a fixed size array indexed by the low bits of the Zobrist
+ * hash. Every entry is packed into two <code>long</code> values, the hash
+ * of the position and the data:
+ *
+ * bits  0-31 value
+ * bits 32-47 best move + 1
+ * bits 48-55 searched depth
+ * bits 56-57 bound of the value
+ *
+ * <p>Storing and probing does not allocate any objects.
+ *
+ * <p>The table can be shared by several searching threads without locks.
+ * The hash is stored XOR the data, so an entry whose two values were
+ * written by different threads does not match any position and is treated
+ * as missing.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Lock-free sharing between threads.
+ */
+
+public final class TranspositionTable {
+
+    /** Data returned if the position is not in the table */
+    public static final long MISS = 0L;
+
+    /** The value is the exact value of the position */
+    public static final int EXACT = 1;
+
+    /** The value is a lower bound of the position */
+    public static final int LOWER_BOUND = 2;
+
+    /** The value is an upper bound of the position */
+    public static final int UPPER_BOUND = 3;
+
+    /** Maximum amount of bits of the table size */
+    public static final int MAX_BITS = 26;
+
+    /** Hashes of the stored positions XOR their data */
+    private final long[] keys;
+
+    /** Packed data of the stored positions */
+    private final long[] data;
+
+    /** Mask of the index bits */
+    private final int mask;
+
+    /** Board size and tokens to win the table was filled for */
+    private int columns;
+    private int rows;
+    private int tokensToWin;
+
+    /**
+     * Creates an empty table with 2^bits entries. Every entry needs 16 bytes.
+     *
+     * @param bits Amount of bits of the table size
+     */
+    public TranspositionTable(int bits) {
+
+        if(bits < 1 || bits > MAX_BITS) {
+
+            throw new IllegalArgumentException("The table size must have between 1 and "
+                    + MAX_BITS + " bits");
+        }
+
+        this.keys = new long[1 << bits];
+        this.data = new long[1 << bits];
+        this.mask = (1 << bits) - 1;
+    }
+
+    /**
+     * @param key Hash of the position
+     * @return Data of the position or {@link #MISS}
+     */
+    public long probe(long key) {
+
+        int index = index(key);
+        long entry = data[index];
+
+        return (keys[index] ^ entry) == key ? entry : MISS;
+    }
+
+    /**
+     * Stores the result of a search. An entry of the same position is only
+     * replaced by a search with at least the same depth, entries of other
+     * positions are always replaced.
+     *
+     * @param key Hash of the position
+     * @param depth Searched depth
+     * @param bound {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}
+     * @param value Value of the position
+     * @param move Best move or {@link Cell#NONE}
+     */
+    public void store(long key, int depth, int bound, int value, int move) {
+
+        int index = index(key);
+        long entry = data[index];
+
+        if(entry != MISS && (keys[index] ^ entry) == key && getDepth(entry) > depth) {
+
+            return;
+        }
+
+        entry = pack(depth, bound, value, move);
+        keys[index] = key ^ entry;
+        data[index] = entry;
+    }
+
+    /**
+     * Prepares the table for a search. Entries of other board sizes would
+     * collide, so the table is cleared if the size changed.
+     *
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @param tokensToWin Tokens to win the game
+     */
+    public void prepare(int columns, int rows, int tokensToWin) {
+
+        if(columns != this.columns || rows != this.rows || tokensToWin != this.tokensToWin) {
+
+            clear();
+            this.columns = columns;
+            this.rows = rows;
+            this.tokensToWin = tokensToWin;
+        }
+    }
+
+    /** Removes all entries */
+    public void clear() {
+
+        for(int i = 0; i < keys.length; i++) {
+
+            keys[i] = 0L;
+            data[i] = MISS;
+        }
+    }
+
+    /**
+     * @return Amount of entries of the table
+     */
+    public int getSize() {
+        return keys.length;
+    }
+
+    static long pack(int depth, int bound, int value, int move) {
+
+        return (value & 0xFFFFFFFFL)
+                | ((long) ((move + 1) & 0xFFFF) << 32)
+                | ((long) (depth & 0xFF) << 48)
+                | ((long) bound << 56);
+    }
+
+    public static int getValue(long data) {
+        return (int) data;
+    }
+
+    public static int getMove(long data) {
+        return (int) ((data >>> 32) & 0xFFFF) - 1;
+    }
+
+    public static int getDepth(long data) {
+        return (int) ((data >>> 48) & 0xFF);
+    }
+
+    public static int getBound(long data) {
+        return (int) ((data >>> 56) & 0x3);
+    }
+
+    private int index(long key) {
+
+        return (int) (key ^ (key >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,359 @@
+package shafou.xospiel.GameLogic;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ *
+ * This class holds all winning lines of a board size and an amount of tokens
+ * to win.
+ *
+ * <p>A winning line is a sequence of cells in a row, column or diagonal which
+ * is exactly as long as the tokens required to win. The lines are calculated
+ * once per board size and tokens to win and are cached afterwards.
+ *
+ * <p>For boards with up to 64 cells every line is also stored as a bit mask,
+ * so a line of a {@link BitBoard} is checked with one AND.
+ *
+ * <p>The lines of boards with less than {@value #SMALL_SIZE} columns, rows and
+ * tokens to win are read from the cache without a lock and without boxing the
+ * key, so they can be requested on every move by many threads.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF Finds the winning line of a game.
+ * 3) 17.10.2026 ELF Lines of small boards are read without a lock.
+ */
+
+public final class WinningLines {
+
+    /** Columns, rows and tokens to win of the small boards are less */
+    public static final int SMALL_SIZE = 16;
+
+    /** Already calculated winning lines of small boards */
+    private static final AtomicReferenceArray<WinningLines> SMALL_CACHE =
+            new AtomicReferenceArray<>(SMALL_SIZE * SMALL_SIZE * SMALL_SIZE);
+
+    /** Already calculated winning lines of larger boards */
+    private static final Map<Long, WinningLines> CACHE = new HashMap<>();
+
+    /** Change of the column and row to the next cell in every direction */
+    private static final int[] DIRECTION_COLUMNS = {1, 0, 1, -1};
+    private static final int[] DIRECTION_ROWS = {0, 1, 1, 1};
+
+    private final int columns;
+
+    private final int rows;
+
+    private final int tokensToWin;
+
+    /** First cell of every line */
+    private final int[] firstCells;
+
+    /** Difference of the cell index between two cells of every line */
+    private final int[] steps;
+
+    /** Bit mask of every line, <code>null</code> for boards with more than 64 cells */
+    private final long[] masks;
+
+    /** For every cell the indices of the lines passing through the cell */
+    private final int[][] linesThroughCell;
+
+    private WinningLines(int columns, int rows, int tokensToWin) {
+
+        this.columns = columns;
+        this.rows = rows;
+        this.tokensToWin = tokensToWin;
+
+        int cells = columns * rows;
+        int lineCount = countLines(columns, rows, tokensToWin);
+
+        this.firstCells = new int[lineCount];
+        this.steps = new int[lineCount];
+        this.masks = cells <= BitBoard.MAX_CELLS ? new long[lineCount] : null;
+
+        /** Amount of lines passing through every cell */
+        int[] linesPerCell = new int[cells];
+        int line = 0;
+
+        for(int direction = 0; direction < DIRECTION_COLUMNS.length; direction++) {
+
+            int dc = DIRECTION_COLUMNS[direction];
+            int dr = DIRECTION_ROWS[direction];
+
+            for(int cell = 0; cell < cells; cell++) {
+
+                if(!fits(cell % columns, cell / columns, dc, dr)) {
+
+                    continue;
+                }
+
+                firstCells[line] = cell;
+                steps[line] = dr * columns + dc;
+
+                for(int i = 0; i < tokensToWin; i++) {
+
+                    int lineCell = cell + i * steps[line];
+                    linesPerCell[lineCell]++;
+
+                    if(masks != null) {
+
+                        masks[line] |= 1L << lineCell;
+                    }
+                }
+
+                line++;
+            }
+        }
+
+        this.linesThroughCell = new int[cells][];
+
+        for(int cell = 0; cell < cells; cell++) {
+
+            linesThroughCell[cell] = new int[linesPerCell[cell]];
+            linesPerCell[cell] = 0;
+        }
+
+        for(line = 0; line < lineCount; line++) {
+
+            for(int i = 0; i < tokensToWin; i++) {
+
+                int lineCell = firstCells[line] + i * steps[line];
+                linesThroughCell[lineCell][linesPerCell[lineCell]++] = line;
+            }
+        }
+    }
+
+    /**
+     * Returns the winning lines of a board size and an amount of tokens to
+     * win. The lines are only calculated on the first call.
+     *
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @param tokensToWin Tokens to win the game
+     * @return Winning lines
+     */
+    public static WinningLines get(int columns, int rows, int tokensToWin) {
+
+        if(columns <= 0 || rows <= 0 || tokensToWin <= 0) {
+
+            throw new IllegalArgumentException("Rows, columns and tokens to win" +
+                    " must be positiv");
+        }
+
+        if(columns < SMALL_SIZE && rows < SMALL_SIZE && tokensToWin < SMALL_SIZE) {
+
+            WinningLines winningLines = SMALL_CACHE.get(smallIndex(columns, rows, tokensToWin));
+
+            if(winningLines != null) {
+
+                return winningLines;
+            }
+        }
+
+        return create(columns, rows, tokensToWin);
+    }
+
+    /**
+     * Calculates the winning lines if no other thread did it before.
+     */
+    private static synchronized WinningLines create(int columns, int rows, int tokensToWin) {
+
+        if(columns < SMALL_SIZE && rows < SMALL_SIZE && tokensToWin < SMALL_SIZE) {
+
+            int index = smallIndex(columns, rows, tokensToWin);
+            WinningLines winningLines = SMALL_CACHE.get(index);
+
+            if(winningLines == null) {
+
+                winningLines = new WinningLines(columns, rows, tokensToWin);
+                SMALL_CACHE.set(index, winningLines);
+            }
+
+            return winningLines;
+        }
+
+        Long key = ((long) columns << 40) | ((long) rows << 20) | tokensToWin;
+        WinningLines winningLines = CACHE.get(key);
+
+        if(winningLines == null) {
+
+            winningLines = new WinningLines(columns, rows, tokensToWin);
+            CACHE.put(key, winningLines);
+        }
+
+        return winningLines;
+    }
+
+    private static int smallIndex(int columns, int rows, int tokensToWin) {
+
+        return (columns * SMALL_SIZE + rows) * SMALL_SIZE + tokensToWin;
+    }
+
+    /**
+     * Checks if the stones of a player fill a line through a cell.
+     *
+     * @param stones Bit mask of the stones of a player
+     * @param cell Cell of the last placed stone
+     * @return <code>true</code> if a line through the cell is filled
+     */
+    public boolean isWonAt(long stones, int cell) {
+
+        for(int line : linesThroughCell[cell]) {
+
+            long mask = masks[line];
+
+            if((stones & mask) == mask) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if the stones of a player fill any line.
+     *
+     * @param stones Bit mask of the stones of a player
+     * @return <code>true</code> if a line is filled
+     */
+    public boolean isWon(long stones) {
+
+        for(long mask : masks) {
+
+            if((stones & mask) == mask) {
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Finds a line through a cell that is filled with the stones of the
+     * player on this cell, e.g. the line won by the last move of a game.
+     *
+     * @param board Board of the game, same size as the lines
+     * @param cell Index of the cell
+     * @return Index of the first filled line or -1
+     */
+    public int findLine(Board board, int cell) {
+
+        Player player = board.getOccupant(cell);
+
+        if(player == null) {
+
+            return -1;
+        }
+
+        for(int line : linesThroughCell[cell]) {
+
+            int i = 0;
+
+            while(i < tokensToWin
+                    && board.getOccupant(firstCells[line] + i * steps[line]) == player) {
+
+                i++;
+            }
+
+            if(i == tokensToWin) {
+
+                return line;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Counts the lines of a board.
+     */
+    private static int countLines(int columns, int rows, int tokensToWin) {
+
+        int lines = 0;
+
+        for(int direction = 0; direction < DIRECTION_COLUMNS.length; direction++) {
+
+            for(int cell = 0; cell < columns * rows; cell++) {
+
+                if(fits(cell % columns, cell / columns,
+                        DIRECTION_COLUMNS[direction], DIRECTION_ROWS[direction],
+                        columns, rows, tokensToWin)) {
+
+                    lines++;
+                }
+            }
+        }
+
+        return lines;
+    }
+
+    /**
+     * Checks if a line starting on a cell fits on the board.
+     */
+    private boolean fits(int column, int row, int dc, int dr) {
+
+        return fits(column, row, dc, dr, columns, rows, tokensToWin);
+    }
+
+    private static boolean fits(int column, int row, int dc, int dr,
+                                int columns, int rows, int tokensToWin) {
+
+        int lastColumn = column + dc * (tokensToWin - 1);
+        int lastRow = row + dr * (tokensToWin - 1);
+
+        return lastColumn >= 0 && lastColumn < columns && lastRow < rows;
+    }
+
+    /**
+     * @return <code>true</code> if the lines are available as bit masks
+     */
+    public boolean hasMasks() {
+        return masks != null;
+    }
+
+    public int getLineCount() {
+        return firstCells.length;
+    }
+
+    public int getFirstCell(int line) {
+        return firstCells[line];
+    }
+
+    public int getStep(int line) {
+        return steps[line];
+    }
+
+    public long getMask(int line) {
+        return masks[line];
+    }
+
+    /**
+     * Returns the lines passing through a cell. The returned array is shared
+     * and must not be changed.
+     *
+     * @param cell Index of the cell
+     * @return Indices of the lines
+     */
+    public int[] getLinesThroughCell(int cell) {
+        return linesThroughCell[cell];
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getTokensToWin() {
+        return tokensToWin;
+    }
+}
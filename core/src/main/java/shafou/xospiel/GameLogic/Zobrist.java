@@ -0,0 +1,54 @@
+package shafou.xospiel.GameLogic;
+
+/**
+ *
+ * This class calculates the Zobrist keys of the stones on a board.
+ *
+ * <p>The hash of a board is the XOR of the keys of all stones on it. Placing
+ * or removing a stone changes the hash with one XOR. The keys are derived
+ * from the cell and the player with a fixed mixing function, so they are the
+ * same on every device and for every board size.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+public final class Zobrist {
+
+    /** Key which is added to the hash if O has to move */
+    private static final long O_TO_MOVE = mix(-1L);
+
+    private Zobrist() {
+    }
+
+    /**
+     * @param player Player the stone belongs to
+     * @param cell Index of the cell
+     * @return Key of a stone of the player on the cell
+     */
+    public static long key(Player player, int cell) {
+
+        return mix(((long) cell << 1) | player.ordinal());
+    }
+
+    /**
+     * @param player Player who has to move
+     * @return Key of the player who has to move
+     */
+    public static long side(Player player) {
+
+        return player == Player.X ? 0L : O_TO_MOVE;
+    }
+
+    /** SplitMix64 finalizer, spreads every input bit over the whole key */
+    static long mix(long z) {
+
+        z += 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,5 +1,6 @@
 package shafou.xospiel.PlayingField;
 
+import shafou.xospiel.GameLogic.Cell;
 import shafou.xospiel.GameLogic.Position;
 
 /**
@@ -16,11 +17,11 @@ import shafou.xospiel.GameLogic.Position;
  *    |             |
  * x4 --------------- x3
  *
- * A field can have an index in relation to the whole playing field. In this
- * example this field could have the positionOnPlayingField 1/1 or 2/1.
+ * A field has a cell index in relation to the whole playing field
+ * {@see {@link Cell}}. In this example the fields have the cells 0 and 1.
  * --------------------
  * |        |         |
- * |   1/1  |   2/1   |
+ * |    0   |    1    |
  * |        |         |
  * --------------------
  *
@@ -30,6 +31,8 @@ import shafou.xospiel.GameLogic.Position;
  * Change log:
  * 1) 26.05.2017 Class created.
  * 2) 11.06.2017 ELF Relative positionOnPlayingField added.
+ * 3) 17.10.2026 ELF Relative position replaced by a cell index.
+ * 4) 17.10.2026 ELF Coordinates of fields without a cell index.
  */
 
 public class Field {
@@ -45,8 +48,14 @@ public class Field {
     /** Every field has an unique index. */
     private final int index;
 
-    /** Relative positionOnPlayingField on the field */
-    private Position positionOnPlayingField;
+    /** Index of the cell on the playing field */
+    private int cell = Cell.NONE;
+
+    /** Column of the cell on the playing field, starting with 0 */
+    private int column;
+
+    /** Row of the cell on the playing field, starting with 0 */
+    private int row;
 
     /**
      * A field is constructed from 4 positions and an index.
@@ -67,12 +76,56 @@ public class Field {
         this.index = index;
     }
 
-    public void setPositionOnPlayingField(Position positionOnPlayingField) {
-        this.positionOnPlayingField = positionOnPlayingField;
+    /**
+     * Sets the cell of the field on the playing field.
+     *
+     * @param column Column of the field, starting with 0
+     * @param row Row of the field, starting with 0
+     * @param columns Columns of the playing field
+     */
+    public void setCell(int column, int row, int columns) {
+
+        this.cell = Cell.index(column, row, columns);
+        this.column = column;
+        this.row = row;
     }
 
+    /**
+     * Sets the column and row of a field on a playing field without borders,
+     * the field has no cell index.
+     *
+     * @param column Column of the field, may be negative
+     * @param row Row of the field, may be negative
+     */
+    public void setCoordinates(int column, int row) {
+
+        this.cell = Cell.NONE;
+        this.column = column;
+        this.row = row;
+    }
+
+    public int getCell() {
+        return cell;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * Returns the relative position on the playing field, column and row
+     * start with 1.
+     *
+     * @deprecated Use {@link Field#getCell()}
+     * @return Relative position on the playing field
+     */
+    @Deprecated
     public Position getPositionOnPlayingField() {
-        return positionOnPlayingField;
+        return new Position(column + 1, row + 1);
     }
 
     public Position getX1() {
@@ -0,0 +1,222 @@
+package shafou.xospiel.PlayingField;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import shafou.xospiel.GameLogic.Position;
+
+/**
+ *
+ * This class has methods to calculate positions and fields of a playing field.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 03.06.2017 ELF Class created.
+ * 2) 17.10.2026 ELF Fields get a cell index.
+ * 3) 17.10.2026 ELF Visible fields and lines of a viewport.
+ * 4) 17.10.2026 ELF Visible lines are written into a reused array.
+ */
+
+public final class FieldsCalculator {
+
+    /**
+     * Calculates from the given rows and columns all positions on the whole
+     * field with a specific height and width.
+     *
+     * @param width Width of the whole field
+     * @param height Height of the whole field
+     * @param columns Columns on the field
+     * @param rows Rows on the filed
+     * @return List of all positions on the field
+     */
+    public static List<Position> getPositions(float width, float height, int columns, int rows) {
+
+        /** Rows and columns must be positiv */
+        if(columns <= 0 || rows <= 0) {
+
+            throw new IllegalArgumentException("Rows and columns must be positiv");
+        }
+
+        /** List of the calculated positions */
+        List<Position> positionen = new ArrayList<>();
+
+        /** Iteration over all columns and rows */
+        for(int r = 0; r <= rows; r++) {
+            for(int s = 0; s <= columns; s++) {
+
+                /** Calculation of the specific position */
+                Position position
+                        = new Position(((float) s / (float) columns) * width, ((float)r / (float)rows) * height);
+                positionen.add(position);
+            }
+        }
+
+        return positionen;
+    }
+
+    /**
+     * Calculates all fields on the whole field from the positions calculated
+     * {@link FieldsCalculator#getPositions(float, float, int, int)}.
+     *
+     * @param width Width of the whole field
+     * @param height Height of the whole field
+     * @param columns Columns on the field
+     * @param rows Rows on the field
+     * @return List of all fields in the whole field
+     */
+    public static List<Field> getFields(float width, float height, int columns, int rows) {
+
+        /** Get all positions on the field */
+        List<Position> positionen = getPositions(width, height, columns, rows);
+
+        /** List of all fields in the whole field */
+        List<Field> fields = new ArrayList<>();
+
+        /** Keeps tracks of new rows */
+        int newRow = 0;
+
+        /** Iteration over all positions of the field */
+        for(int i = 1; i <= (columns * rows); i++) {
+
+            /** Calculates a field */
+            Field field = new Field(
+                    positionen.get(i + newRow - 1),
+                    positionen.get(i + newRow),
+                    positionen.get(i + newRow + columns + 1),
+                    positionen.get(i + newRow + columns),
+                    i);
+
+            /** Is true if a new row is started */
+            if(i % (columns) == 0) {
+
+                newRow++;
+            }
+
+            /** Sets the cell on the whole field */
+            field.setCell((i - 1) % columns, (i - 1) / columns, columns);
+
+            fields.add(field);
+        }
+
+        return fields;
+    }
+
+    /**
+     * Calculates the fields of a playing field without borders that are at
+     * least partly visible in a viewport. Only the visible fields are
+     * created, independent of the stones on the playing field.
+     *
+     * @param viewport Visible part of the playing field
+     * @return List of the visible fields row by row
+     */
+    public static List<Field> getVisibleFields(Viewport viewport) {
+
+        int firstColumn = viewport.getFirstVisibleColumn();
+        int lastColumn = viewport.getLastVisibleColumn();
+        int firstRow = viewport.getFirstVisibleRow();
+        int lastRow = viewport.getLastVisibleRow();
+        float size = viewport.getCellSize();
+
+        List<Field> fields = new ArrayList<>((lastColumn - firstColumn + 1) * (lastRow - firstRow + 1));
+        int index = 1;
+
+        for(int r = firstRow; r <= lastRow; r++) {
+            for(int s = firstColumn; s <= lastColumn; s++) {
+
+                float left = viewport.getCellLeft(s);
+                float top = viewport.getCellTop(r);
+
+                Field field = new Field(
+                        new Position(left, top),
+                        new Position(left + size, top),
+                        new Position(left + size, top + size),
+                        new Position(left, top + size),
+                        index++);
+                field.setCoordinates(s, r);
+
+                fields.add(field);
+            }
+        }
+
+        return fields;
+    }
+
+    /**
+     * Calculates the start and end points of the grid lines that are visible
+     * in a viewport, 4 values per line for {@code Canvas#drawLines}.
+     *
+     * @param viewport Visible part of the playing field
+     * @return Start and end points of the vertical and horizontal lines
+     */
+    public static float[] getVisibleLinePoints(Viewport viewport) {
+
+        float[] points = new float[getVisibleLinePointCount(viewport)];
+        getVisibleLinePoints(viewport, points);
+        return points;
+    }
+
+    /**
+     * Returns the amount of values of the visible grid lines of a viewport.
+     *
+     * @param viewport Visible part of the playing field
+     * @return 4 values for every visible line
+     */
+    public static int getVisibleLinePointCount(Viewport viewport) {
+
+        int columns = viewport.getLastVisibleColumn() - viewport.getFirstVisibleColumn();
+        int rows = viewport.getLastVisibleRow() - viewport.getFirstVisibleRow();
+
+        return (Math.max(0, columns) + Math.max(0, rows)) * 4;
+    }
+
+    /**
+     * Writes the start and end points of the grid lines that are visible in a
+     * viewport into an array, so the array can be reused for every change of
+     * the viewport.
+     *
+     * @param viewport Visible part of the playing field
+     * @param points Receives the points, at least
+     *               {@link #getVisibleLinePointCount(Viewport)} values long
+     * @return Amount of written values
+     */
+    public static int getVisibleLinePoints(Viewport viewport, float[] points) {
+
+        int firstColumn = viewport.getFirstVisibleColumn() + 1;
+        int lastColumn = viewport.getLastVisibleColumn();
+        int firstRow = viewport.getFirstVisibleRow() + 1;
+        int lastRow = viewport.getLastVisibleRow();
+        float width = viewport.getWidth();
+        float height = viewport.getHeight();
+
+        if(points.length < getVisibleLinePointCount(viewport)) {
+
+            throw new IllegalArgumentException("The array is too small for the visible lines");
+        }
+
+        int i = 0;
+
+        /** Vertical lines on the left border of every column after the first one */
+        for(int s = firstColumn; s <= lastColumn; s++) {
+
+            float x = viewport.getCellLeft(s);
+            points[i++] = x;
+            points[i++] = 0;
+            points[i++] = x;
+            points[i++] = height;
+        }
+
+        /** Horizontal lines on the top border of every row after the first one */
+        for(int r = firstRow; r <= lastRow; r++) {
+
+            float y = viewport.getCellTop(r);
+            points[i++] = 0;
+            points[i++] = y;
+            points[i++] = width;
+            points[i++] = y;
+        }
+
+        return i;
+    }
+}
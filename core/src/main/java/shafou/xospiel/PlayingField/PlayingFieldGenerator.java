@@ -11,6 +11,7 @@ import java.util.List;
  *
  * Change log:
  * 1) 06.05.2017 ELF Interface created.
+ * 2) 17.10.2026 ELF Columns and rows added.
  */
 
 public interface PlayingFieldGenerator {
@@ -35,4 +36,18 @@ public interface PlayingFieldGenerator {
      * @return Height of the playing field
      */
     float getHeight();
+
+    /**
+     * Returns the amount of columns of the playing field
+     *
+     * @return Columns of the playing field
+     */
+    int getColumns();
+
+    /**
+     * Returns the amount of rows of the playing field
+     *
+     * @return Rows of the playing field
+     */
+    int getRows();
 }
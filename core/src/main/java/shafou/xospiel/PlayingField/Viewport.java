@@ -0,0 +1,179 @@
+package shafou.xospiel.PlayingField;
+
+/**
+ *
+ * This class represents the visible part of a playing field without borders.
+ *
+ * <p>The origin is the column and row at the top left corner of the view,
+ * as fractions of a cell. Panning moves the origin, zooming changes the size
+ * of a cell and keeps the cell under the focus of the gesture in place.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+public final class Viewport {
+
+    /** Size limits of a cell in pixels */
+    private final float minCellSize;
+    private final float maxCellSize;
+
+    /** Width and height of the view */
+    private float width;
+    private float height;
+
+    /** Size of a cell in pixels */
+    private float cellSize;
+
+    /** Column and row at the top left corner of the view */
+    private double originX;
+    private double originY;
+
+    /**
+     * @param cellSize Size of a cell in pixels
+     * @param minCellSize Smallest size of a cell when zooming out
+     * @param maxCellSize Largest size of a cell when zooming in
+     */
+    public Viewport(float cellSize, float minCellSize, float maxCellSize) {
+
+        if(minCellSize <= 0 || minCellSize > maxCellSize) {
+
+            throw new IllegalArgumentException("Cell sizes must be positiv and min <= max");
+        }
+
+        this.minCellSize = minCellSize;
+        this.maxCellSize = maxCellSize;
+        this.cellSize = clamp(cellSize);
+    }
+
+    /**
+     * Sets the size of the view and keeps the cell in the center of the view.
+     *
+     * @param width Width of the view
+     * @param height Height of the view
+     */
+    public void setSize(float width, float height) {
+
+        double centerX = originX + this.width / 2 / cellSize;
+        double centerY = originY + this.height / 2 / cellSize;
+
+        this.width = width;
+        this.height = height;
+        centerOn(centerX, centerY);
+    }
+
+    /**
+     * Moves the visible part, the content follows the finger.
+     *
+     * @param dx Distance in pixels to the right
+     * @param dy Distance in pixels to the bottom
+     */
+    public void pan(float dx, float dy) {
+
+        originX -= dx / cellSize;
+        originY -= dy / cellSize;
+    }
+
+    /**
+     * Changes the size of the cells, the point under the focus stays in place.
+     *
+     * @param factor Factor of the new cell size
+     * @param focusX X coordinate of the focus in the view
+     * @param focusY Y coordinate of the focus in the view
+     */
+    public void zoom(float factor, float focusX, float focusY) {
+
+        double focusColumn = originX + focusX / cellSize;
+        double focusRow = originY + focusY / cellSize;
+
+        cellSize = clamp(cellSize * factor);
+        originX = focusColumn - focusX / cellSize;
+        originY = focusRow - focusY / cellSize;
+    }
+
+    /**
+     * Moves the visible part so a point is in the center of the view.
+     *
+     * @param column Column of the point, fractions are inside a cell
+     * @param row Row of the point, fractions are inside a cell
+     */
+    public void centerOn(double column, double row) {
+
+        originX = column - width / 2 / cellSize;
+        originY = row - height / 2 / cellSize;
+    }
+
+    /**
+     * @param x X coordinate in the view
+     * @return Column under the coordinate
+     */
+    public int getColumn(float x) {
+
+        return (int) Math.floor(originX + x / cellSize);
+    }
+
+    /**
+     * @param y Y coordinate in the view
+     * @return Row under the coordinate
+     */
+    public int getRow(float y) {
+
+        return (int) Math.floor(originY + y / cellSize);
+    }
+
+    /**
+     * @param column Column of a cell
+     * @return X coordinate of the left border of the cell in the view
+     */
+    public float getCellLeft(int column) {
+
+        return (float) ((column - originX) * cellSize);
+    }
+
+    /**
+     * @param row Row of a cell
+     * @return Y coordinate of the top border of the cell in the view
+     */
+    public float getCellTop(int row) {
+
+        return (float) ((row - originY) * cellSize);
+    }
+
+    public int getFirstVisibleColumn() {
+        return getColumn(0);
+    }
+
+    /** Returns the last column that reaches into the view */
+    public int getLastVisibleColumn() {
+        return (int) Math.ceil(originX + width / cellSize) - 1;
+    }
+
+    public int getFirstVisibleRow() {
+        return getRow(0);
+    }
+
+    /** Returns the last row that reaches into the view */
+    public int getLastVisibleRow() {
+        return (int) Math.ceil(originY + height / cellSize) - 1;
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    private float clamp(float size) {
+
+        return Math.max(minCellSize, Math.min(maxCellSize, size));
+    }
+}
@@ -14,6 +14,9 @@ import shafou.xospiel.GameLogic.Position;
  *
  * Change log:
  * 1) 01.06.2017 ELF Class created erstellt.
+ * 2) 17.10.2026 ELF Columns and rows of the generator added.
+ * 3) 17.10.2026 ELF Line points for Canvas.drawLines added.
+ * 4) 17.10.2026 ELF Different amounts of columns and rows.
  */
 
 public final class XOPlayingFieldGenerator implements PlayingFieldGenerator {
@@ -22,8 +25,11 @@ public final class XOPlayingFieldGenerator implements PlayingFieldGenerator {
 
     private float height;
 
-    /** Amount of columns and rows of the playing field */
-    private int columnsAndRows;
+    /** Amount of columns of the playing field */
+    private int columns;
+
+    /** Amount of rows of the playing field */
+    private int rows;
 
     /** Playing field fields */
     private List<Field> playingFields;
@@ -38,25 +44,36 @@ public final class XOPlayingFieldGenerator implements PlayingFieldGenerator {
      */
     public XOPlayingFieldGenerator(float width, float height, int columnsAndRows) {
 
+        this(width, height, columnsAndRows, columnsAndRows);
+    }
+
+    /**
+     * A playing field is calculated for a specific width, height, columns and
+     * rows.
+     *
+     * @param width Playing field width
+     * @param height Playing field height
+     * @param columns Amount of columns of the playing field
+     * @param rows Amount of rows of the playing field
+     */
+    public XOPlayingFieldGenerator(float width, float height, int columns, int rows) {
+
         if(width <= 0 || height <= 0) {
             throw new IllegalArgumentException("Columns and Rows must be positive.");
         }
 
-        if(columnsAndRows < 3) {
-
-            throw new IllegalArgumentException("The minimum amount of columns " +
-                    "and rows required is 3.");
-        }
+        checkColumnsAndRows(columns, rows);
 
         this.width = width;
         this.height = height;
-        this.columnsAndRows = columnsAndRows;
+        this.columns = columns;
+        this.rows = rows;
 
         /** Playing fields on the field */
         playingFields = FieldsCalculator.getFields(this.width,
                 this.height,
-                this.columnsAndRows,
-                this.columnsAndRows);
+                this.columns,
+                this.rows);
     }
 
     /**
@@ -65,14 +82,31 @@ public final class XOPlayingFieldGenerator implements PlayingFieldGenerator {
      */
     public XOPlayingFieldGenerator(int columnsAndRows) {
 
-        if(columnsAndRows < 3) {
+        this(columnsAndRows, columnsAndRows);
+    }
 
-            throw new IllegalArgumentException("Ein X/O Field muss die gleiche" +
-                    " Anzahl von Reihen und Spalten haben und muss mindestens" +
-                    " 3x3 groß sein.");
-        }
+    /**
+     * Ein Spielfeld setzt sich aus den Spalten und Reihen zusammen, die Felder
+     * werden erst mit der Breite und Höhe berechnet.
+     *
+     * @param columns Anzahl der Spalten
+     * @param rows Anzahl der Reihen
+     */
+    public XOPlayingFieldGenerator(int columns, int rows) {
+
+        checkColumnsAndRows(columns, rows);
+
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    private static void checkColumnsAndRows(int columns, int rows) {
 
-        this.columnsAndRows = columnsAndRows;
+        if(columns < 3 || rows < 3) {
+
+            throw new IllegalArgumentException("The minimum amount of columns " +
+                    "and rows required is 3.");
+        }
     }
 
 //    /**
@@ -101,7 +135,7 @@ public final class XOPlayingFieldGenerator implements PlayingFieldGenerator {
 
     public void berechneSpielfelder() {
         this.playingFields = FieldsCalculator.getFields(this.width,
-                this.height, this.columnsAndRows, this.columnsAndRows);
+                this.height, this.columns, this.rows);
     }
 
     /**
@@ -115,10 +149,7 @@ public final class XOPlayingFieldGenerator implements PlayingFieldGenerator {
 
         /** Gibt die Positionen des Spielfeldes zurück */
         List<Position> positionen = FieldsCalculator.getPositions(this.width,
-                this.height, columnsAndRows, columnsAndRows);
-
-        int columns = columnsAndRows;
-        int rows = columnsAndRows;
+                this.height, columns, rows);
 
         /** Liste mit den zu zeichnenden Linien */
         ArrayList<Line> xOFeldLinien = new ArrayList<>();
@@ -261,6 +292,33 @@ public final class XOPlayingFieldGenerator implements PlayingFieldGenerator {
         return xOFeldLinienAngepasst;
     }
 
+    /**
+     * Berechnet die angepassten Linien {@see
+     * {@link XOPlayingFieldGenerator#calculatesLines(int)}} als Punkte für
+     * Canvas.drawLines.
+     *
+     * Jede Linie belegt 4 Werte: startX, startY, endX, endY.
+     *
+     * @param prozent Prozent mit dem die gezeichneten Linien angepasst werden
+     * @return Start- und Endpunkte aller Linien
+     */
+    public float[] calculatesLinePoints(int prozent) {
+
+        List<Line> linien = calculatesLines(prozent);
+        float[] punkte = new float[linien.size() * 4];
+
+        for(int i = 0; i < linien.size(); i++) {
+
+            Line line = linien.get(i);
+            punkte[i * 4] = line.getStart().getXPosition();
+            punkte[i * 4 + 1] = line.getStart().getYPosition();
+            punkte[i * 4 + 2] = line.getEnd().getXPosition();
+            punkte[i * 4 + 3] = line.getEnd().getYPosition();
+        }
+
+        return punkte;
+    }
+
     /**
      * Berechnet den Prozentsatz eines Betrages.
      *
@@ -309,4 +367,14 @@ public final class XOPlayingFieldGenerator implements PlayingFieldGenerator {
     public float getHeight() {
         return height;
     }
+
+    @Override
+    public int getColumns() {
+        return columns;
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
 }
@@ -0,0 +1,92 @@
+package shafou.xospiel.Simulation;
+
+import java.util.Random;
+
+import shafou.xospiel.GameLogic.Board;
+import shafou.xospiel.GameLogic.Cell;
+import shafou.xospiel.GameLogic.ComputerPlayer;
+import shafou.xospiel.GameLogic.Evaluation;
+import shafou.xospiel.GameLogic.GameState;
+import shafou.xospiel.GameLogic.Player;
+import shafou.xospiel.GameLogic.WinningLines;
+
+/**
+ *
+ * This computer player only looks at its next move: it wins if it can,
+ * blocks a win of the opponent and otherwise plays the move with the best
+ * {@link Evaluation}. Moves of the same value are chosen randomly.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+public final class GreedyPlayer implements ComputerPlayer {
+
+    private final Random random;
+
+    /**
+     * @param seed Start value of the random choice between equal moves
+     */
+    public GreedyPlayer(long seed) {
+
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public int chooseMove(GameState state) {
+
+        Board board = state.getBoard().copy();
+        Player player = state.getCurrentPlayer();
+        Player opponent = player.opponent();
+        int tokensToWin = state.getTokensToWin();
+        WinningLines lines = WinningLines.get(board.getColumns(), board.getRows(), tokensToWin);
+
+        int block = Cell.NONE;
+        int best = Cell.NONE;
+        int bestValue = Integer.MIN_VALUE;
+        int equalMoves = 0;
+
+        for(int cell = 0; cell < board.getCells(); cell++) {
+
+            if(board.isOccupied(cell)) {
+
+                continue;
+            }
+
+            board.place(cell, player);
+
+            if(board.hasWon(player, tokensToWin)) {
+
+                return cell;
+            }
+
+            int value = Evaluation.evaluate(board, lines, player);
+            board.undo(cell);
+
+            board.place(cell, opponent);
+
+            if(board.hasWon(opponent, tokensToWin)) {
+
+                block = cell;
+            }
+
+            board.undo(cell);
+
+            /** Reservoir sampling between moves of the same value */
+            if(value > bestValue) {
+
+                best = cell;
+                bestValue = value;
+                equalMoves = 1;
+            } else if(value == bestValue && random.nextInt(++equalMoves) == 0) {
+
+                best = cell;
+            }
+        }
+
+        return block != Cell.NONE ? block : best;
+    }
+}
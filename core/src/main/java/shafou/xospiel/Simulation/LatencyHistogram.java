@@ -0,0 +1,151 @@
+package shafou.xospiel.Simulation;
+
+/**
+ *
+ * This class counts durations in buckets of about 3 percent width, so the
+ * percentiles of millions of moves are calculated without storing every
+ * duration.
+ *
+ * <p>Durations below 32 ns get a bucket each. Above, every power of two is
+ * divided into 32 buckets.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+public final class LatencyHistogram {
+
+    /** Buckets of every power of two */
+    private static final int SUB_BUCKETS = 32;
+
+    /** log2 of the sub buckets */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    private final long[] counts = new long[(64 - SUB_BUCKET_BITS) * SUB_BUCKETS];
+
+    private long count;
+
+    private long sum;
+
+    private long max;
+
+    /**
+     * Counts a duration.
+     *
+     * @param nanos Duration in nanoseconds
+     */
+    public void record(long nanos) {
+
+        if(nanos < 0) {
+
+            throw new IllegalArgumentException("Negative duration " + nanos);
+        }
+
+        counts[bucket(nanos)]++;
+        count++;
+        sum += nanos;
+        max = Math.max(max, nanos);
+    }
+
+    /**
+     * Adds the durations of another histogram.
+     *
+     * @param other Another histogram
+     */
+    public void add(LatencyHistogram other) {
+
+        for(int i = 0; i < counts.length; i++) {
+
+            counts[i] += other.counts[i];
+        }
+
+        count += other.count;
+        sum += other.sum;
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * @param percentile Percentile from 0 to 100
+     * @return Upper bound of the bucket of the percentile in nanoseconds
+     */
+    public long getPercentile(double percentile) {
+
+        if(percentile < 0 || percentile > 100) {
+
+            throw new IllegalArgumentException("Percentile " + percentile + " is not between 0 and 100");
+        }
+
+        if(count == 0) {
+
+            return 0L;
+        }
+
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+
+        for(int i = 0; i < counts.length; i++) {
+
+            seen += counts[i];
+
+            if(seen >= rank) {
+
+                return Math.min(lowestValue(i + 1) - 1, max);
+            }
+        }
+
+        return max;
+    }
+
+    private static int bucket(long nanos) {
+
+        if(nanos < SUB_BUCKETS) {
+
+            return (int) nanos;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS
+                + (int) ((nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+    }
+
+    /**
+     * @return Smallest duration of a bucket
+     */
+    private static long lowestValue(int bucket) {
+
+        if(bucket < SUB_BUCKETS) {
+
+            return bucket;
+        }
+
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = SUB_BUCKETS + bucket % SUB_BUCKETS;
+
+        /** The bucket after the last one */
+        if(exponent > 62) {
+
+            return Long.MAX_VALUE;
+        }
+
+        return subBucket << (exponent - SUB_BUCKET_BITS);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return Mean duration in nanoseconds
+     */
+    public long getMean() {
+
+        return count > 0 ? sum / count : 0L;
+    }
+
+    public long getMax() {
+        return max;
+    }
+}
@@ -0,0 +1,138 @@
+package shafou.xospiel.Simulation;
+
+import shafou.xospiel.GameLogic.Player;
+
+/**
+ *
+ * This class holds the results of the games of two players on one board
+ * size. X always starts the game.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+public final class MatchResult {
+
+    private final int columns;
+
+    private final int rows;
+
+    private final int tokensToWin;
+
+    private final PlayerType x;
+
+    private final PlayerType o;
+
+    private int games;
+
+    private int xWins;
+
+    private int oWins;
+
+    private int draws;
+
+    /** Wall clock time of the match in nanoseconds */
+    private long duration;
+
+    /** Duration of the moves of both players */
+    private final LatencyHistogram xLatency = new LatencyHistogram();
+
+    private final LatencyHistogram oLatency = new LatencyHistogram();
+
+    MatchResult(int columns, int rows, int tokensToWin, PlayerType x, PlayerType o) {
+
+        this.columns = columns;
+        this.rows = rows;
+        this.tokensToWin = tokensToWin;
+        this.x = x;
+        this.o = o;
+    }
+
+    /**
+     * Adds the results of another thread of the same match.
+     */
+    void add(MatchResult other) {
+
+        games += other.games;
+        xWins += other.xWins;
+        oWins += other.oWins;
+        draws += other.draws;
+        xLatency.add(other.xLatency);
+        oLatency.add(other.oLatency);
+    }
+
+    void addGame(Player winner) {
+
+        games++;
+
+        if(winner == null) {
+
+            draws++;
+        } else if(winner == Player.X) {
+
+            xWins++;
+        } else {
+
+            oWins++;
+        }
+    }
+
+    void setDuration(long duration) {
+        this.duration = duration;
+    }
+
+    /**
+     * @return Played games per second of all threads together
+     */
+    public double getGamesPerSecond() {
+
+        return duration > 0 ? games * 1e9 / duration : 0.0;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getTokensToWin() {
+        return tokensToWin;
+    }
+
+    public PlayerType getX() {
+        return x;
+    }
+
+    public PlayerType getO() {
+        return o;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getXWins() {
+        return xWins;
+    }
+
+    public int getOWins() {
+        return oWins;
+    }
+
+    public int getDraws() {
+        return draws;
+    }
+
+    public LatencyHistogram getXLatency() {
+        return xLatency;
+    }
+
+    public LatencyHistogram getOLatency() {
+        return oLatency;
+    }
+}
@@ -0,0 +1,79 @@
+package shafou.xospiel.Simulation;
+
+import shafou.xospiel.GameLogic.ComputerPlayer;
+import shafou.xospiel.GameLogic.MonteCarloPlayer;
+import shafou.xospiel.GameLogic.NegamaxPlayer;
+
+/**
+ *
+ * The computer players of a simulation. Every thread of a simulation creates
+ * its own players, because the players are not thread safe.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Enum created.
+ */
+
+public enum PlayerType {
+
+    RANDOM("random"),
+    GREEDY("greedy"),
+    NEGAMAX("negamax"),
+    MCTS("mcts");
+
+    /** Smaller tree than in the app, every thread holds two of them */
+    private static final int MCTS_NODE_CAPACITY = 1 << 16;
+
+    private final String name;
+
+    PlayerType(String name) {
+
+        this.name = name;
+    }
+
+    /**
+     * Creates a new player of this type.
+     *
+     * @param timeBudget Time budget of a move in milliseconds, only used by
+     *                   searching players
+     * @param seed Start value of random moves
+     * @return A new player
+     */
+    public ComputerPlayer create(long timeBudget, long seed) {
+
+        switch(this) {
+
+            case RANDOM:
+                return new RandomPlayer(seed);
+            case GREEDY:
+                return new GreedyPlayer(seed);
+            case NEGAMAX:
+                return new NegamaxPlayer(timeBudget);
+            default:
+                return new MonteCarloPlayer(timeBudget, Integer.MAX_VALUE, MCTS_NODE_CAPACITY, seed);
+        }
+    }
+
+    /**
+     * @param name Name of a player type as used on the command line
+     * @return The player type
+     */
+    public static PlayerType fromName(String name) {
+
+        for(PlayerType type : values()) {
+
+            if(type.name.equalsIgnoreCase(name)) {
+
+                return type;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown player " + name);
+    }
+
+    public String getName() {
+        return name;
+    }
+}
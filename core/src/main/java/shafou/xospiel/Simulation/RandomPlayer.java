@@ -0,0 +1,46 @@
+package shafou.xospiel.Simulation;
+
+import java.util.Random;
+
+import shafou.xospiel.GameLogic.Board;
+import shafou.xospiel.GameLogic.ComputerPlayer;
+import shafou.xospiel.GameLogic.GameState;
+
+/**
+ *
+ * This computer player plays a random empty cell.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+public final class RandomPlayer implements ComputerPlayer {
+
+    private final Random random;
+
+    /**
+     * @param seed Start value of the random moves
+     */
+    public RandomPlayer(long seed) {
+
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public int chooseMove(GameState state) {
+
+        Board board = state.getBoard();
+        int index = random.nextInt(board.getCells() - board.getStoneCount());
+
+        for(int cell = 0; ; cell++) {
+
+            if(!board.isOccupied(cell) && index-- == 0) {
+
+                return cell;
+            }
+        }
+    }
+}
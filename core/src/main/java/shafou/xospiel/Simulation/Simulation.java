@@ -0,0 +1,398 @@
+package shafou.xospiel.Simulation;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import shafou.xospiel.GameLogic.ComputerPlayer;
+import shafou.xospiel.GameLogic.GameState;
+import shafou.xospiel.GameLogic.NegamaxPlayer;
+import shafou.xospiel.GameLogic.Player;
+
+/**
+ *
+ * This class lets computer players play against each other without the app.
+ *
+ * <p>Every pair of players plays on every board size, both players of a
+ * pair take the side of X once. The games of a pair are divided between the
+ * threads, every thread has its own players. The result of a pair holds the
+ * wins, the draws, the played games per second and the duration of the
+ * moves of both players.
+ *
+ * <p>Without sizes the simulation plays the modes of the app: 3 x 3, 4 x 4,
+ * 5 x 5, 7 x 6, 9 x 9, 15 x 15 and 19 x 19 with 3 up to as many tokens in a
+ * row as the longer side of the board.
+ *
+ * java shafou.xospiel.Simulation.Simulation [--players random,greedy,negamax,mcts]
+ *      [--sizes 3x3:3,5x5:4] [--games 1000] [--threads 8] [--time 10]
+ *      [--seed 1] [--csv results.csv]
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ * 2) 17.10.2026 ELF All modes of the app are played, illegal moves fail.
+ */
+
+public final class Simulation {
+
+    /**
+     * Columns and rows of the modes of the XOGame in the app, which can not
+     * be used by the core
+     */
+    private static final int[][] MODES = {{3, 3}, {4, 4}, {5, 5}, {7, 6}, {9, 9},
+            {15, 15}, {19, 19}};
+
+    /** Smallest amount of tokens to win of every mode */
+    private static final int MINIMUM_TOKENS_TO_WIN = 3;
+
+    private static final String CSV_HEADER = "columns,rows,tokens_to_win,x,o,games,x_wins,"
+            + "o_wins,draws,x_win_rate,o_win_rate,draw_rate,games_per_second,"
+            + "x_mean_us,x_p50_us,x_p90_us,x_p99_us,x_max_us,"
+            + "o_mean_us,o_p50_us,o_p90_us,o_p99_us,o_max_us";
+
+    /** Columns, rows and tokens to win of every board size */
+    private final List<int[]> sizes;
+
+    private final List<PlayerType> players;
+
+    /** Games of every pair of players on every size */
+    private final int games;
+
+    private final int threads;
+
+    /** Time budget of a move of the searching players in milliseconds */
+    private final long timeBudget;
+
+    private final long seed;
+
+    /**
+     * @param sizes Columns, rows and tokens to win of every board size
+     * @param players Players of the simulation
+     * @param games Games of every pair of players on every size
+     * @param threads Amount of threads
+     * @param timeBudget Time budget of a move of the searching players in milliseconds
+     * @param seed Start value of the random moves
+     */
+    public Simulation(List<int[]> sizes, List<PlayerType> players, int games, int threads,
+                      long timeBudget, long seed) {
+
+        if(sizes.isEmpty() || players.isEmpty()) {
+
+            throw new IllegalArgumentException("At least one size and one player are required");
+        }
+
+        if(games <= 0 || threads <= 0 || timeBudget <= 0) {
+
+            throw new IllegalArgumentException("Games, threads and time budget must be positiv");
+        }
+
+        this.sizes = new ArrayList<>(sizes);
+        this.players = new ArrayList<>(players);
+        this.games = games;
+        this.threads = threads;
+        this.timeBudget = timeBudget;
+        this.seed = seed;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+
+        List<int[]> sizes = defaultSizes();
+        List<PlayerType> players = new ArrayList<>();
+        Collections.addAll(players, PlayerType.RANDOM, PlayerType.GREEDY);
+        int games = 1000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long timeBudget = 10L;
+        long seed = System.nanoTime();
+        String csv = null;
+
+        for(int i = 0; i + 1 < args.length; i += 2) {
+
+            String value = args[i + 1];
+
+            switch(args[i]) {
+
+                case "--players":
+                    players.clear();
+
+                    for(String name : value.split(",")) {
+
+                        players.add(PlayerType.fromName(name));
+                    }
+                    break;
+                case "--sizes":
+                    sizes.clear();
+
+                    for(String size : value.split(",")) {
+
+                        sizes.add(parseSize(size));
+                    }
+                    break;
+                case "--games":
+                    games = Integer.parseInt(value);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(value);
+                    break;
+                case "--time":
+                    timeBudget = Long.parseLong(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                case "--csv":
+                    csv = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        Simulation simulation = new Simulation(sizes, players, games, threads, timeBudget, seed);
+        List<MatchResult> results = simulation.run(System.out);
+
+        if(csv != null) {
+
+            try(Writer writer = new FileWriter(csv)) {
+
+                writeCsv(results, writer);
+            }
+        }
+    }
+
+    /**
+     * Plays all games.
+     *
+     * @param progress Receives a line after every pair of players or <code>null</code>
+     * @return Results of every pair of players on every size
+     * @throws InterruptedException If the calling thread is interrupted
+     */
+    public List<MatchResult> run(PrintStream progress) throws InterruptedException {
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<MatchResult> results = new ArrayList<>();
+
+        try {
+
+            for(int[] size : sizes) {
+                for(PlayerType x : players) {
+                    for(PlayerType o : players) {
+
+                        MatchResult result = play(executor, size[0], size[1], size[2], x, o);
+                        results.add(result);
+
+                        if(progress != null) {
+
+                            progress.println(format(result));
+                        }
+                    }
+                }
+            }
+        } finally {
+
+            executor.shutdownNow();
+        }
+
+        return results;
+    }
+
+    /**
+     * Plays the games of a pair of players on all threads.
+     */
+    private MatchResult play(ExecutorService executor, final int columns, final int rows,
+                             final int tokensToWin, final PlayerType x, final PlayerType o)
+            throws InterruptedException {
+
+        List<Future<MatchResult>> parts = new ArrayList<>();
+        long start = System.nanoTime();
+
+        for(int thread = 0; thread < threads; thread++) {
+
+            final int threadGames = games / threads + (thread < games % threads ? 1 : 0);
+            final long threadSeed = seed + thread * 2L;
+
+            if(threadGames == 0) {
+
+                continue;
+            }
+
+            parts.add(executor.submit(new Callable<MatchResult>() {
+                @Override
+                public MatchResult call() {
+                    return play(columns, rows, tokensToWin, x, o, threadGames, threadSeed);
+                }
+            }));
+        }
+
+        MatchResult result = new MatchResult(columns, rows, tokensToWin, x, o);
+
+        for(Future<MatchResult> part : parts) {
+
+            try {
+
+                result.add(part.get());
+            } catch(ExecutionException e) {
+
+                throw new IllegalStateException("A simulation thread failed", e.getCause());
+            }
+        }
+
+        result.setDuration(System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Plays games on the calling thread.
+     */
+    private MatchResult play(int columns, int rows, int tokensToWin, PlayerType x, PlayerType o,
+                             int count, long threadSeed) {
+
+        MatchResult result = new MatchResult(columns, rows, tokensToWin, x, o);
+        ComputerPlayer xPlayer = x.create(timeBudget, threadSeed);
+        ComputerPlayer oPlayer = o.create(timeBudget, threadSeed + 1);
+        GameState state = new GameState(columns, rows, tokensToWin, Player.X);
+
+        try {
+
+            for(int game = 0; game < count; game++) {
+
+                state.reset(Player.X);
+
+                while(!state.isOver()) {
+
+                    boolean xToMove = state.getCurrentPlayer() == Player.X;
+                    long start = System.nanoTime();
+                    int move = (xToMove ? xPlayer : oPlayer).chooseMove(state);
+                    long duration = System.nanoTime() - start;
+
+                    (xToMove ? result.getXLatency() : result.getOLatency()).record(duration);
+
+                    if(move < 0 || move >= state.getBoard().getCells() || !state.play(move)) {
+
+                        throw new IllegalStateException((xToMove ? x : o) + " played the illegal"
+                                + " move " + move + " in game " + game + " on " + columns + "x"
+                                + rows + ":" + tokensToWin);
+                    }
+                }
+
+                result.addGame(state.getWinner());
+            }
+        } finally {
+
+            shutdown(xPlayer);
+            shutdown(oPlayer);
+        }
+
+        return result;
+    }
+
+    private static void shutdown(ComputerPlayer player) {
+
+        if(player instanceof NegamaxPlayer) {
+
+            ((NegamaxPlayer) player).shutdown();
+        }
+    }
+
+    /**
+     * @return The board sizes of the app with every amount of tokens to win
+     */
+    public static List<int[]> defaultSizes() {
+
+        List<int[]> sizes = new ArrayList<>();
+
+        for(int[] mode : MODES) {
+
+            int longerSide = Math.max(mode[0], mode[1]);
+
+            for(int tokensToWin = MINIMUM_TOKENS_TO_WIN; tokensToWin <= longerSide;
+                    tokensToWin++) {
+
+                sizes.add(new int[] {mode[0], mode[1], tokensToWin});
+            }
+        }
+
+        return sizes;
+    }
+
+    /**
+     * @param size Board size like 5x4:3 with columns, rows and tokens to win
+     * @return Columns, rows and tokens to win
+     */
+    static int[] parseSize(String size) {
+
+        int x = size.indexOf('x');
+        int colon = size.indexOf(':');
+
+        if(x < 0 || colon < x) {
+
+            throw new IllegalArgumentException("Size " + size + " is not like 5x4:3");
+        }
+
+        return new int[] {Integer.parseInt(size.substring(0, x)),
+                Integer.parseInt(size.substring(x + 1, colon)),
+                Integer.parseInt(size.substring(colon + 1))};
+    }
+
+    /**
+     * Writes the results with one line per pair of players and size.
+     *
+     * @param results Results of a simulation
+     * @param writer Receives the lines
+     * @throws IOException If the lines can not be written
+     */
+    public static void writeCsv(List<MatchResult> results, Writer writer) throws IOException {
+
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        for(MatchResult result : results) {
+
+            double games = result.getGames();
+
+            writer.write(String.format(Locale.ROOT, "%d,%d,%d,%s,%s,%d,%d,%d,%d,%.4f,%.4f,%.4f,%.1f,%s,%s\n",
+                    result.getColumns(), result.getRows(), result.getTokensToWin(),
+                    result.getX().getName(), result.getO().getName(), result.getGames(),
+                    result.getXWins(), result.getOWins(), result.getDraws(),
+                    result.getXWins() / games, result.getOWins() / games,
+                    result.getDraws() / games, result.getGamesPerSecond(),
+                    latencies(result.getXLatency()), latencies(result.getOLatency())));
+        }
+    }
+
+    private static String latencies(LatencyHistogram histogram) {
+
+        return String.format(Locale.ROOT, "%.1f,%.1f,%.1f,%.1f,%.1f",
+                histogram.getMean() / 1000.0, histogram.getPercentile(50) / 1000.0,
+                histogram.getPercentile(90) / 1000.0, histogram.getPercentile(99) / 1000.0,
+                histogram.getMax() / 1000.0);
+    }
+
+    private static String format(MatchResult result) {
+
+        double games = result.getGames();
+
+        return String.format(Locale.ROOT,
+                "%dx%d:%d %-7s vs %-7s %7d games %10.0f games/s  X %5.1f%%  O %5.1f%%  draw %5.1f%%"
+                        + "  X p50/p99 %.1f/%.1f us  O p50/p99 %.1f/%.1f us",
+                result.getColumns(), result.getRows(), result.getTokensToWin(),
+                result.getX().getName(), result.getO().getName(), result.getGames(),
+                result.getGamesPerSecond(), 100 * result.getXWins() / games,
+                100 * result.getOWins() / games, 100 * result.getDraws() / games,
+                result.getXLatency().getPercentile(50) / 1000.0,
+                result.getXLatency().getPercentile(99) / 1000.0,
+                result.getOLatency().getPercentile(50) / 1000.0,
+                result.getOLatency().getPercentile(99) / 1000.0);
+    }
+}
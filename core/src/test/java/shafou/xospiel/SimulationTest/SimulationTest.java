@@ -0,0 +1,114 @@
+package shafou.xospiel.SimulationTest;
+
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import shafou.xospiel.Simulation.LatencyHistogram;
+import shafou.xospiel.Simulation.MatchResult;
+import shafou.xospiel.Simulation.PlayerType;
+import shafou.xospiel.Simulation.Simulation;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ *
+ * Diese Klasse testet die Simulation und das LatencyHistogram.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ */
+
+public class SimulationTest {
+
+    @Test public void Simulation_3x3_AlleSpieleGezaehlt() throws Exception {
+
+        Simulation simulation = new Simulation(Collections.singletonList(new int[] {3, 3, 3}),
+                Arrays.asList(PlayerType.RANDOM, PlayerType.GREEDY), 101, 4, 10, 1);
+
+        List<MatchResult> ergebnisse = simulation.run(null);
+
+        /** Jedes Paar spielt einmal mit X */
+        assertThat(ergebnisse).hasSize(4);
+
+        for(MatchResult ergebnis : ergebnisse) {
+
+            assertThat(ergebnis.getGames()).isEqualTo(101);
+            assertThat(ergebnis.getXWins() + ergebnis.getOWins() + ergebnis.getDraws())
+                    .isEqualTo(101);
+            assertThat(ergebnis.getXLatency().getCount() + ergebnis.getOLatency().getCount())
+                    .isAtLeast(101L * 5);
+        }
+
+        /** Greedy gewinnt oder verhindert jede Reihe, gegen sich selbst nur Unentschieden */
+        assertThat(ergebnisse.get(3).getDraws()).isEqualTo(101);
+    }
+
+    @Test public void StandardGroessen_AlleSpielarten() {
+
+        List<int[]> groessen = Simulation.defaultSizes();
+
+        /** 1 + 2 + 3 + 5 + 7 + 13 + 17 Anzahlen zum Gewinn */
+        assertThat(groessen).hasSize(48);
+        assertThat(groessen.get(6)).isEqualTo(new int[] {7, 6, 3});
+        assertThat(groessen.get(groessen.size() - 1)).isEqualTo(new int[] {19, 19, 19});
+    }
+
+    @Test public void Csv_KopfzeileUndZeilen() throws Exception {
+
+        Simulation simulation = new Simulation(Collections.singletonList(new int[] {4, 4, 3}),
+                Collections.singletonList(PlayerType.RANDOM), 10, 1, 10, 1);
+
+        StringWriter csv = new StringWriter();
+        Simulation.writeCsv(simulation.run(null), csv);
+        String[] zeilen = csv.toString().split("\n");
+
+        assertThat(zeilen).hasLength(2);
+        assertThat(zeilen[0]).startsWith("columns,rows,tokens_to_win,x,o,games");
+        assertThat(zeilen[1]).startsWith("4,4,3,random,random,10,");
+    }
+
+    @Test public void Histogramm_Perzentile_UngefaehrGenau() {
+
+        LatencyHistogram histogramm = new LatencyHistogram();
+
+        for(long i = 1; i <= 100000; i++) {
+
+            histogramm.record(i * 1000);
+        }
+
+        /** Die Eimer sind etwa 3 Prozent breit */
+        assertThat((double) histogramm.getPercentile(50)).isWithin(50000000 * 0.04).of(50000000);
+        assertThat((double) histogramm.getPercentile(99)).isWithin(99000000 * 0.04).of(99000000);
+        assertThat(histogramm.getPercentile(100)).isEqualTo(100000000L);
+        assertThat(histogramm.getMax()).isEqualTo(100000000L);
+        assertThat(histogramm.getCount()).isEqualTo(100000L);
+    }
+
+    @Test public void Histogramm_Zusammengefasst() {
+
+        LatencyHistogram a = new LatencyHistogram();
+        LatencyHistogram b = new LatencyHistogram();
+        a.record(10);
+        b.record(20);
+        b.record(30);
+
+        a.add(b);
+
+        assertThat(a.getCount()).isEqualTo(3L);
+        assertThat(a.getMean()).isEqualTo(20L);
+        assertThat(a.getPercentile(0)).isEqualTo(10L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Histogramm_NegativeDauer_Fehler() {
+
+        new LatencyHistogram().record(-1);
+    }
+}
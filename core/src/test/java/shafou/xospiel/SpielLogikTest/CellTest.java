@@ -0,0 +1,42 @@
+package shafou.xospiel.SpielLogikTest;
+
+import org.junit.Test;
+
+import shafou.xospiel.GameLogic.Cell;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ *
+ * Diese Klasse testet die Cell Klasse.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ */
+
+public class CellTest {
+
+    @Test public void Index_5x5_Berechnet() {
+
+        assertThat(Cell.index(0, 0, 5)).isEqualTo(0);
+        assertThat(Cell.index(4, 0, 5)).isEqualTo(4);
+        assertThat(Cell.index(0, 1, 5)).isEqualTo(5);
+        assertThat(Cell.index(3, 2, 5)).isEqualTo(13);
+    }
+
+    @Test public void SpalteUndReihe_5x5_Berechnet() {
+
+        assertThat(Cell.column(13, 5)).isEqualTo(3);
+        assertThat(Cell.row(13, 5)).isEqualTo(2);
+    }
+
+    @Test public void IstAufFeld_AusserhalbDesFeldes_False() {
+
+        assertThat(Cell.isOnField(3, 0, 3, 3)).isFalse();
+        assertThat(Cell.isOnField(-1, 0, 3, 3)).isFalse();
+        assertThat(Cell.isOnField(2, 2, 3, 3)).isTrue();
+    }
+}
@@ -0,0 +1,192 @@
+package shafou.xospiel.SpielLogikTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import shafou.xospiel.GameLogic.GameArchive;
+import shafou.xospiel.GameLogic.GameRecordReader;
+import shafou.xospiel.GameLogic.GameRecordWriter;
+import shafou.xospiel.GameLogic.GameState;
+import shafou.xospiel.GameLogic.Player;
+import shafou.xospiel.GameLogic.WinningLines;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ *
+ * Diese Klasse testet das GameArchive.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ */
+
+public class GameArchiveTest {
+
+    @Rule public TemporaryFolder ordner = new TemporaryFolder();
+
+    private File spiele;
+
+    private File index;
+
+    @Before public void dateienErstellen() {
+
+        spiele = new File(ordner.getRoot(), "spiele.xogr");
+        index = new File(ordner.getRoot(), "spiele.xogi");
+    }
+
+    /** Spielt die Züge eines Spiels */
+    private static GameState spielen(Player anfaenger, int... zuege) {
+
+        GameState spiel = new GameState(3, 3, 3, anfaenger);
+
+        for(int zug : zuege) {
+
+            spiel.play(zug);
+        }
+
+        return spiel;
+    }
+
+    /** Zwei Gewinne des Anfängers in der Diagonalen und ein Unentschieden */
+    private void dreiSpieleAnhaengen(GameArchive archiv) throws IOException {
+
+        archiv.append(spielen(Player.X, 0, 1, 4, 2, 8));
+        archiv.append(spielen(Player.O, 0, 1, 4, 2, 8));
+        archiv.append(spielen(Player.X, 0, 1, 2, 4, 3, 5, 7, 6, 8));
+    }
+
+    private static void statistikPruefen(GameArchive.Stats statistik) {
+
+        assertThat(statistik.getGames()).isEqualTo(3);
+        assertThat(statistik.getFirstPlayerWins()).isEqualTo(2);
+        assertThat(statistik.getDraws()).isEqualTo(1);
+        assertThat(statistik.getAverageLength()).isWithin(1e-9).of(19.0 / 3);
+
+        WinningLines reihen = WinningLines.get(3, 3, 3);
+        int reihe = statistik.getTopLine(0);
+        assertThat(reihen.getFirstCell(reihe)).isEqualTo(0);
+        assertThat(reihen.getStep(reihe)).isEqualTo(4);
+        assertThat(statistik.getLineWins(reihe)).isEqualTo(2);
+        assertThat(statistik.getTopLine(1)).isEqualTo(-1);
+    }
+
+    @Test public void Anhaengen_Spiele_Statistik() throws IOException {
+
+        try(GameArchive archiv = GameArchive.open(spiele, index)) {
+
+            dreiSpieleAnhaengen(archiv);
+
+            statistikPruefen(archiv.getStats(3, 3, 3));
+            assertThat(archiv.getStats(4, 4, 3)).isNull();
+        }
+
+        try(GameArchive archiv = GameArchive.open(spiele, index)) {
+
+            statistikPruefen(archiv.getStats(3, 3, 3));
+        }
+    }
+
+    @Test public void Statistik_Kopie_NichtVeraendert() throws IOException {
+
+        try(GameArchive archiv = GameArchive.open(spiele, index)) {
+
+            dreiSpieleAnhaengen(archiv);
+            GameArchive.Stats statistik = archiv.getStats(3, 3, 3);
+
+            archiv.append(spielen(Player.X, 0, 1, 4, 2, 8));
+
+            statistikPruefen(statistik);
+            assertThat(archiv.getStats(3, 3, 3).getGames()).isEqualTo(4);
+        }
+    }
+
+    @Test public void Oeffnen_IndexAbgeschnitten_NeuAufgebaut() throws IOException {
+
+        try(GameArchive archiv = GameArchive.open(spiele, index)) {
+
+            dreiSpieleAnhaengen(archiv);
+        }
+
+        try(RandomAccessFile zugriff = new RandomAccessFile(index, "rw")) {
+
+            zugriff.setLength(zugriff.length() - 3);
+        }
+
+        try(GameArchive archiv = GameArchive.open(spiele, index)) {
+
+            statistikPruefen(archiv.getStats(3, 3, 3));
+        }
+    }
+
+    @Test public void Oeffnen_IndexVeraltet_SpieleNachgetragen() throws IOException {
+
+        try(GameArchive archiv = GameArchive.open(spiele, index)) {
+
+            archiv.append(spielen(Player.X, 0, 1, 4, 2, 8));
+            archiv.append(spielen(Player.O, 0, 1, 4, 2, 8));
+        }
+
+        /** Das Spiel wird ohne Index aufgezeichnet */
+        try(GameRecordWriter schreiber = GameRecordWriter.open(spiele)) {
+
+            schreiber.append(spielen(Player.X, 0, 1, 2, 4, 3, 5, 7, 6, 8));
+        }
+
+        try(GameArchive archiv = GameArchive.open(spiele, index)) {
+
+            statistikPruefen(archiv.getStats(3, 3, 3));
+        }
+    }
+
+    @Test public void Oeffnen_SpieleMitNullenAufgefuellt_Geoeffnet() throws IOException {
+
+        try(GameArchive archiv = GameArchive.open(spiele, index)) {
+
+            dreiSpieleAnhaengen(archiv);
+        }
+
+        /** Ohne Index werden alle Spiele bis zu den Nullen nachgespielt */
+        try(RandomAccessFile zugriff = new RandomAccessFile(spiele, "rw")) {
+
+            zugriff.setLength(zugriff.length() + 64);
+        }
+
+        assertThat(index.delete()).isTrue();
+
+        try(GameArchive archiv = GameArchive.open(spiele, index)) {
+
+            statistikPruefen(archiv.getStats(3, 3, 3));
+        }
+    }
+
+    @Test public void Oeffnen_UngueltigerZug_SpielUebersprungen() throws IOException {
+
+        try(GameArchive archiv = GameArchive.open(spiele, index)) {
+
+            dreiSpieleAnhaengen(archiv);
+        }
+
+        /** Der zweite Zug des ersten Spiels besetzt das Feld des ersten */
+        try(RandomAccessFile zugriff = new RandomAccessFile(spiele, "rw")) {
+
+            zugriff.seek(GameRecordReader.HEADER_SIZE + 6);
+            zugriff.write(0);
+        }
+
+        assertThat(index.delete()).isTrue();
+
+        try(GameArchive archiv = GameArchive.open(spiele, index)) {
+
+            assertThat(archiv.getStats(3, 3, 3).getGames()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package shafou.xospiel.SpielLogikTest;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+
+import shafou.xospiel.GameLogic.GameRecordReader;
+import shafou.xospiel.GameLogic.GameRecordWriter;
+import shafou.xospiel.GameLogic.GameState;
+import shafou.xospiel.GameLogic.Player;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ *
+ * Diese Klasse testet den GameRecordWriter und den GameRecordReader.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ */
+
+public class GameRecordTest {
+
+    @Rule public TemporaryFolder ordner = new TemporaryFolder();
+
+    /** Spielt die Züge eines Spiels */
+    private static GameState spielen(int spalten, int reihen, int steine, Player anfaenger,
+                                     int... zuege) {
+
+        GameState spiel = new GameState(spalten, reihen, steine, anfaenger);
+
+        for(int zug : zuege) {
+
+            spiel.play(zug);
+        }
+
+        return spiel;
+    }
+
+    @Test public void Schreiben_Lesen_GleicheSpiele() throws IOException {
+
+        File datei = ordner.newFile();
+
+        /** X gewinnt in der Diagonalen */
+        GameState klein = spielen(3, 3, 3, Player.X, 0, 1, 4, 2, 8);
+
+        /** Auf 19 x 19 brauchen Zellen ab 128 zwei Bytes */
+        GameState gross = spielen(19, 19, 5, Player.O, 360, 0, 180, 127, 128);
+
+        try(GameRecordWriter schreiber = GameRecordWriter.open(datei)) {
+
+            schreiber.append(klein);
+            schreiber.append(gross);
+        }
+
+        GameRecordReader leser = GameRecordReader.map(datei);
+
+        assertThat(leser.next()).isTrue();
+        GameState gelesen = leser.replay();
+        assertThat(gelesen.getMoveCount()).isEqualTo(5);
+        assertThat(gelesen.getWinner()).isEqualTo(Player.X);
+        assertThat(gelesen.getHash()).isEqualTo(klein.getHash());
+
+        assertThat(leser.next()).isTrue();
+        assertThat(leser.getColumns()).isEqualTo(19);
+        assertThat(leser.getStartingPlayer()).isEqualTo(Player.O);
+        gelesen = leser.replay();
+        assertThat(gelesen.getMove(4)).isEqualTo(128);
+        assertThat(gelesen.getHash()).isEqualTo(gross.getHash());
+
+        assertThat(leser.next()).isFalse();
+    }
+
+    @Test public void Oeffnen_AbgeschnittenerEintrag_WirdEntfernt() throws IOException {
+
+        File datei = ordner.newFile();
+
+        try(GameRecordWriter schreiber = GameRecordWriter.open(datei)) {
+
+            schreiber.append(spielen(3, 3, 3, Player.X, 0, 1, 4, 2, 8));
+            schreiber.append(spielen(3, 3, 3, Player.O, 4, 0, 8));
+        }
+
+        /** Dem zweiten Spiel fehlt der letzte Zug */
+        try(RandomAccessFile zugriff = new RandomAccessFile(datei, "rw")) {
+
+            zugriff.setLength(zugriff.length() - 1);
+        }
+
+        GameRecordReader leser = GameRecordReader.map(datei);
+        assertThat(leser.next()).isTrue();
+        assertThat(leser.next()).isFalse();
+
+        try(GameRecordWriter schreiber = GameRecordWriter.open(datei)) {
+
+            schreiber.append(spielen(4, 4, 3, Player.X, 5));
+        }
+
+        leser = GameRecordReader.map(datei);
+        assertThat(leser.next()).isTrue();
+        assertThat(leser.next()).isTrue();
+        assertThat(leser.getColumns()).isEqualTo(4);
+        assertThat(leser.replay().getMove(0)).isEqualTo(5);
+        assertThat(leser.next()).isFalse();
+    }
+
+    @Test public void Oeffnen_MitNullenAufgefuellt_WirdEntfernt() throws IOException {
+
+        File datei = ordner.newFile();
+        long laenge;
+
+        try(GameRecordWriter schreiber = GameRecordWriter.open(datei)) {
+
+            schreiber.append(spielen(3, 3, 3, Player.X, 0, 1, 4, 2, 8));
+            laenge = schreiber.getLength();
+        }
+
+        /** Die Länge der Datei wurde geschrieben, aber nicht ihre Daten */
+        try(RandomAccessFile zugriff = new RandomAccessFile(datei, "rw")) {
+
+            zugriff.setLength(laenge + 64);
+        }
+
+        try(GameRecordWriter schreiber = GameRecordWriter.open(datei)) {
+
+            assertThat(schreiber.getLength()).isEqualTo(laenge);
+            schreiber.append(spielen(3, 3, 3, Player.O, 4));
+        }
+
+        GameRecordReader leser = GameRecordReader.map(datei);
+        assertThat(leser.next()).isTrue();
+        assertThat(leser.next()).isTrue();
+        assertThat(leser.replay().getMove(0)).isEqualTo(4);
+        assertThat(leser.next()).isFalse();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Lesen_FalscheDaten_Fehler() {
+
+        GameRecordReader.wrap(ByteBuffer.wrap(new byte[] {'X', 'O', 'S', 'T', 0, 1}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void Nachspielen_BesetztesFeld_Fehler() {
+
+        ByteBuffer daten = ByteBuffer.allocate(16);
+        daten.putInt(GameRecordReader.MAGIC).putShort((short) GameRecordReader.VERSION);
+        daten.put(new byte[] {3, 3, 3, 0, 2, 4, 4});
+        daten.flip();
+
+        GameRecordReader leser = GameRecordReader.wrap(daten);
+        leser.next();
+        leser.replay();
+    }
+}
@@ -0,0 +1,145 @@
+package shafou.xospiel.SpielLogikTest;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import shafou.xospiel.GameLogic.ComputerPlayer;
+import shafou.xospiel.GameLogic.GameSession;
+import shafou.xospiel.GameLogic.GameSessionRegistry;
+import shafou.xospiel.GameLogic.GameState;
+import shafou.xospiel.GameLogic.Player;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ *
+ * Diese Klasse testet die GameSessionRegistry und GameSession Klassen.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ */
+
+public class GameSessionRegistryTest {
+
+    /** Spielt immer das erste freie Feld */
+    private static final GameSessionRegistry.PlayerFactory ERSTES_FREIES_FELD
+            = new GameSessionRegistry.PlayerFactory() {
+        @Override
+        public ComputerPlayer create() {
+            return new ComputerPlayer() {
+                @Override
+                public int chooseMove(GameState state) {
+
+                    int zelle = 0;
+
+                    while(state.getBoard().isOccupied(zelle)) {
+
+                        zelle++;
+                    }
+
+                    return zelle;
+                }
+            };
+        }
+    };
+
+    @Test public void Sitzungen_Unabhaengig_EigeneSpielstaende() {
+
+        GameSessionRegistry sitzungen = new GameSessionRegistry();
+        GameSession klein = sitzungen.create(3, 3, 3, Player.X);
+        GameSession gross = sitzungen.create(9, 9, 5, Player.O);
+
+        klein.play(4);
+
+        assertThat(klein.getId()).isNotEqualTo(gross.getId());
+        assertThat(gross.getMoveCount()).isEqualTo(0);
+        assertThat(gross.getColumns()).isEqualTo(9);
+        assertThat(sitzungen.get(klein.getId())).isSameAs(klein);
+        assertThat(sitzungen.size()).isEqualTo(2);
+    }
+
+    @Test public void Schliessen_Sitzung_Entfernt() {
+
+        GameSessionRegistry sitzungen = new GameSessionRegistry();
+        GameSession sitzung = sitzungen.create(3, 3, 3, Player.X);
+
+        assertThat(sitzungen.close(sitzung.getId())).isTrue();
+        assertThat(sitzungen.close(sitzung.getId())).isFalse();
+        assertThat(sitzungen.get(sitzung.getId())).isNull();
+    }
+
+    @Test public void Schliessen_Inaktiv_Entfernt() {
+
+        /** Die Uhr läuft nur im Test weiter */
+        final long[] zeit = {1000};
+        GameSessionRegistry sitzungen = new GameSessionRegistry(new GameSessionRegistry.Clock() {
+            @Override
+            public long millis() {
+                return zeit[0];
+            }
+        });
+        sitzungen.create(3, 3, 3, Player.X);
+        zeit[0] += 20;
+        GameSession aktiv = sitzungen.create(3, 3, 3, Player.X);
+
+        assertThat(sitzungen.closeIdle(10)).isEqualTo(1);
+        assertThat(sitzungen.get(aktiv.getId())).isSameAs(aktiv);
+    }
+
+    @Test public void Zug_Veraendert_NichtGespielt() {
+
+        GameSessionRegistry sitzungen = new GameSessionRegistry();
+        GameSession sitzung = sitzungen.create(3, 3, 3, Player.X);
+        long hash = sitzung.snapshot().getHash();
+
+        sitzung.play(0);
+
+        assertThat(sitzung.play(1, hash)).isFalse();
+        assertThat(sitzung.getMoveCount()).isEqualTo(1);
+    }
+
+    @Test public void ComputerZug_VieleSitzungen_AufGeteiltemExecutorGespielt() throws Exception {
+
+        GameSessionRegistry sitzungen = new GameSessionRegistry(4, ERSTES_FREIES_FELD);
+        List<Future<Integer>> zuege = new ArrayList<>();
+
+        try {
+
+            for(int i = 0; i < 1000; i++) {
+
+                GameSession sitzung = sitzungen.create(3, 3, 3, Player.X);
+                sitzung.play(0);
+                zuege.add(sitzungen.playComputerMove(sitzung.getId()));
+            }
+
+            for(Future<Integer> zug : zuege) {
+
+                assertThat(zug.get()).isEqualTo(1);
+            }
+
+            assertThat(sitzungen.get(1).getMoveCount()).isEqualTo(2);
+        } finally {
+
+            sitzungen.shutdown();
+        }
+    }
+
+    @Test public void Sitzungen_100000_Gehalten() {
+
+        GameSessionRegistry sitzungen = new GameSessionRegistry();
+
+        for(int i = 0; i < 100000; i++) {
+
+            sitzungen.create(3, 3, 3, Player.X).play(i % 9);
+        }
+
+        assertThat(sitzungen.size()).isEqualTo(100000);
+        assertThat(sitzungen.get(100000).getState().getLastMove()).isEqualTo(99999 % 9);
+    }
+}
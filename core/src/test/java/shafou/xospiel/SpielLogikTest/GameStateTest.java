@@ -0,0 +1,158 @@
+package shafou.xospiel.SpielLogikTest;
+
+import org.junit.Test;
+
+import shafou.xospiel.GameLogic.GameState;
+import shafou.xospiel.GameLogic.Player;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ *
+ * Diese Klasse testet die GameState Klasse.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ * 2) 17.10.2026 ELF Tests für Rückgängig und Wiederholen hinzugefügt.
+ */
+
+public class GameStateTest {
+
+    @Test public void Spielen_Abwechselnd_SpielerGewechselt() {
+
+        GameState spielstand = new GameState(3, 3, 3, Player.O);
+
+        assertThat(spielstand.getCurrentPlayer()).isEqualTo(Player.O);
+        assertThat(spielstand.play(4)).isTrue();
+        assertThat(spielstand.getCurrentPlayer()).isEqualTo(Player.X);
+        assertThat(spielstand.getLastMove()).isEqualTo(4);
+    }
+
+    @Test public void Spielen_BesetztesFeld_NichtAkzeptiert() {
+
+        GameState spielstand = new GameState(3, 3, 3, Player.X);
+
+        spielstand.play(4);
+
+        assertThat(spielstand.play(4)).isFalse();
+        assertThat(spielstand.getMoveCount()).isEqualTo(1);
+    }
+
+    @Test public void Spielen_Reihe_3ZumSieg_Gewonnen() {
+
+        GameState spielstand = new GameState(3, 3, 3, Player.X);
+
+        /** X: 0, 1, 2  O: 3, 4 */
+        int[] zuege = {0, 3, 1, 4, 2};
+        for(int zug : zuege) {
+
+            spielstand.play(zug);
+        }
+
+        assertThat(spielstand.isWon()).isTrue();
+        assertThat(spielstand.getWinner()).isEqualTo(Player.X);
+        assertThat(spielstand.play(5)).isFalse();
+    }
+
+    @Test public void Spielen_VollesFeld_Unentschieden() {
+
+        GameState spielstand = new GameState(3, 3, 3, Player.X);
+
+        /**
+         * X O X
+         * X O O
+         * O X X
+         */
+        int[] zuege = {0, 1, 2, 4, 3, 5, 7, 6, 8};
+        for(int zug : zuege) {
+
+            spielstand.play(zug);
+        }
+
+        assertThat(spielstand.isDraw()).isTrue();
+        assertThat(spielstand.isOver()).isTrue();
+    }
+
+    @Test public void Zuruecksetzen_NachSpiel_Leer() {
+
+        GameState spielstand = new GameState(3, 3, 3, Player.X);
+
+        spielstand.play(0);
+        spielstand.reset(Player.O);
+
+        assertThat(spielstand.getMoveCount()).isEqualTo(0);
+        assertThat(spielstand.getBoard().isOccupied(0)).isFalse();
+        assertThat(spielstand.getCurrentPlayer()).isEqualTo(Player.O);
+    }
+
+    @Test public void Rueckgaengig_Gewinn_SpielLaeuftWeiter() {
+
+        GameState spielstand = new GameState(3, 3, 3, Player.X);
+        long leer = spielstand.getHash();
+
+        /**
+         * X X X
+         * O O .
+         * . . .
+         */
+        int[] zuege = {0, 3, 1, 4, 2};
+        for(int zug : zuege) {
+
+            spielstand.play(zug);
+        }
+
+        assertThat(spielstand.getWinner()).isEqualTo(Player.X);
+        assertThat(spielstand.undo()).isEqualTo(2);
+        assertThat(spielstand.isOver()).isFalse();
+        assertThat(spielstand.getCurrentPlayer()).isEqualTo(Player.X);
+        assertThat(spielstand.getBoard().isOccupied(2)).isFalse();
+
+        while(spielstand.canUndo()) {
+
+            spielstand.undo();
+        }
+
+        assertThat(spielstand.getHash()).isEqualTo(leer);
+        assertThat(spielstand.undo()).isEqualTo(-1);
+    }
+
+    @Test public void Wiederholen_NachRueckgaengig_GleicherSpielstand() {
+
+        GameState spielstand = new GameState(3, 3, 3, Player.X);
+        int[] zuege = {4, 0, 8, 2, 1};
+        for(int zug : zuege) {
+
+            spielstand.play(zug);
+        }
+
+        long hash = spielstand.getHash();
+
+        spielstand.undo();
+        spielstand.undo();
+        spielstand.undo();
+
+        assertThat(spielstand.redo()).isEqualTo(8);
+        assertThat(spielstand.redo()).isEqualTo(2);
+        assertThat(spielstand.redo()).isEqualTo(1);
+        assertThat(spielstand.canRedo()).isFalse();
+        assertThat(spielstand.getHash()).isEqualTo(hash);
+        assertThat(spielstand.getMoveCount()).isEqualTo(5);
+    }
+
+    @Test public void Wiederholen_NachNeuemZug_Verworfen() {
+
+        GameState spielstand = new GameState(3, 3, 3, Player.X);
+
+        spielstand.play(4);
+        spielstand.play(0);
+        spielstand.undo();
+        spielstand.play(8);
+
+        assertThat(spielstand.canRedo()).isFalse();
+        assertThat(spielstand.redo()).isEqualTo(-1);
+        assertThat(spielstand.getLastMove()).isEqualTo(8);
+    }
+}
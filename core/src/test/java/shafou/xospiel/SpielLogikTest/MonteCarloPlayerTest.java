@@ -0,0 +1,105 @@
+package shafou.xospiel.SpielLogikTest;
+
+import org.junit.Test;
+
+import shafou.xospiel.GameLogic.GameState;
+import shafou.xospiel.GameLogic.MonteCarloPlayer;
+import shafou.xospiel.GameLogic.Player;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ *
+ * Diese Klasse testet die MonteCarloPlayer Klasse.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ */
+
+public class MonteCarloPlayerTest {
+
+    /** Genug Spiele für 3 x 3, die Bedenkzeit wird nicht erreicht */
+    private static final int SPIELE = 20000;
+
+    @Test public void Zug_3x3_GewinnGespielt() {
+
+        /**
+         * X X .
+         * O O .
+         * . . .
+         */
+        GameState spielstand = spiele(new GameState(3, 3, 3, Player.X), 0, 3, 1, 4);
+
+        assertThat(spieler(1).chooseMove(spielstand)).isEqualTo(2);
+    }
+
+    @Test public void Zug_3x3_GewinnVerhindert() {
+
+        /**
+         * X X .
+         * . O .
+         * . . .
+         */
+        GameState spielstand = spiele(new GameState(3, 3, 3, Player.X), 0, 4, 1);
+
+        assertThat(spieler(1).chooseMove(spielstand)).isEqualTo(2);
+    }
+
+    @Test public void Spiel_3x3_GegenSichSelbst_Unentschieden() {
+
+        GameState spielstand = new GameState(3, 3, 3, Player.X);
+        MonteCarloPlayer x = spieler(1);
+        MonteCarloPlayer o = spieler(2);
+
+        while(!spielstand.isOver()) {
+
+            MonteCarloPlayer spieler = spielstand.getCurrentPlayer() == Player.X ? x : o;
+            spielstand.play(spieler.chooseMove(spielstand));
+        }
+
+        assertThat(spielstand.isDraw()).isTrue();
+    }
+
+    @Test public void Zug_NachAntwort_BaumWiederverwendet() {
+
+        GameState spielstand = new GameState(4, 4, 3, Player.X);
+        MonteCarloPlayer spieler = spieler(1);
+
+        spielstand.play(spieler.chooseMove(spielstand));
+        spielstand.play(spielstand.getBoard().isOccupied(0) ? 15 : 0);
+        spieler.chooseMove(spielstand);
+
+        assertThat(spieler.getLastReusedPlayouts()).isGreaterThan(0);
+        assertThat(spieler.getLastPlayouts()).isEqualTo(SPIELE);
+    }
+
+    @Test public void Zug_15x15_FreiesFeld() {
+
+        /** Größer als alle Spielarten der App */
+        GameState spielstand = spiele(new GameState(15, 15, 5, Player.X), 112, 113);
+        MonteCarloPlayer spieler = new MonteCarloPlayer(200);
+
+        int zug = spieler.chooseMove(spielstand);
+
+        assertThat(spielstand.getBoard().isOccupied(zug)).isFalse();
+        assertThat(spieler.getLastPlayouts()).isGreaterThan(0);
+    }
+
+    private static MonteCarloPlayer spieler(long zufall) {
+
+        return new MonteCarloPlayer(60000, SPIELE, 1 << 18, zufall);
+    }
+
+    private static GameState spiele(GameState spielstand, int... zuege) {
+
+        for(int zug : zuege) {
+
+            spielstand.play(zug);
+        }
+
+        return spielstand;
+    }
+}
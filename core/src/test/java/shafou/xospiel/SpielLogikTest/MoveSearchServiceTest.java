@@ -0,0 +1,146 @@
+package shafou.xospiel.SpielLogikTest;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import shafou.xospiel.GameLogic.GameState;
+import shafou.xospiel.GameLogic.MoveSearchService;
+import shafou.xospiel.GameLogic.NegamaxPlayer;
+import shafou.xospiel.GameLogic.Player;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ *
+ * Diese Klasse testet die MoveSearchService Klasse.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ * 2) 18.10.2026 ELF Abbruch einer einzelnen Suche getestet.
+ */
+
+public class MoveSearchServiceTest {
+
+    /** Führt die Ergebnisse direkt auf dem Such Thread aus */
+    private static final Executor DIREKT = new Executor() {
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    @Test public void Suche_3x3_ZugGeliefert() throws InterruptedException {
+
+        /**
+         * X X .
+         * O O .
+         * . . .
+         */
+        GameState spielstand = new GameState(3, 3, 3, Player.X);
+        spielstand.play(0);
+        spielstand.play(3);
+        spielstand.play(1);
+        spielstand.play(4);
+
+        final CountDownLatch fertig = new CountDownLatch(1);
+        final AtomicInteger zug = new AtomicInteger(-1);
+
+        MoveSearchService suche = new MoveSearchService(new NegamaxPlayer(), DIREKT);
+        suche.search(spielstand, new MoveSearchService.Callback() {
+            @Override
+            public void onBestMove(int move, int depth, int value) {
+            }
+
+            @Override
+            public void onFinished(int move) {
+                zug.set(move);
+                fertig.countDown();
+            }
+        });
+
+        assertThat(fertig.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(zug.get()).isEqualTo(2);
+        suche.shutdown();
+    }
+
+    @Test public void Suche_Abgebrochen_KeinZugGeliefert() throws InterruptedException {
+
+        GameState spielstand = new GameState(5, 5, 5, Player.X);
+        final CountDownLatch fertig = new CountDownLatch(1);
+
+        MoveSearchService suche = new MoveSearchService(new NegamaxPlayer(60000L), DIREKT);
+        suche.search(spielstand, new MoveSearchService.Callback() {
+            @Override
+            public void onBestMove(int move, int depth, int value) {
+            }
+
+            @Override
+            public void onFinished(int move) {
+                fertig.countDown();
+            }
+        });
+        suche.cancel();
+
+        assertThat(fertig.await(500, TimeUnit.MILLISECONDS)).isFalse();
+        suche.shutdown();
+    }
+
+    @Test public void Suche_AnderesSpielAbgebrochen_ZugGeliefert() throws InterruptedException {
+
+        final CountDownLatch spielA = new CountDownLatch(1);
+        final CountDownLatch spielB = new CountDownLatch(1);
+        final AtomicInteger zugB = new AtomicInteger(-1);
+
+        MoveSearchService suche = new MoveSearchService(new NegamaxPlayer(60000L), DIREKT);
+        MoveSearchService.Search sucheA = suche.search(new GameState(5, 5, 5, Player.X),
+                new MoveSearchService.Callback() {
+                    @Override
+                    public void onBestMove(int move, int depth, int value) {
+                    }
+
+                    @Override
+                    public void onFinished(int move) {
+                        spielA.countDown();
+                    }
+                });
+
+        /**
+         * X X .
+         * O O .
+         * . . .
+         */
+        GameState spielstandB = new GameState(3, 3, 3, Player.X);
+        spielstandB.play(0);
+        spielstandB.play(3);
+        spielstandB.play(1);
+        spielstandB.play(4);
+
+        MoveSearchService.Search sucheB = suche.search(spielstandB, new MoveSearchService.Callback() {
+            @Override
+            public void onBestMove(int move, int depth, int value) {
+            }
+
+            @Override
+            public void onFinished(int move) {
+                zugB.set(move);
+                spielB.countDown();
+            }
+        });
+
+        /** Spiel A wird beendet, die Suche von Spiel B läuft weiter */
+        sucheA.cancel();
+
+        assertThat(spielB.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(zugB.get()).isEqualTo(2);
+        assertThat(sucheB.isCancelled()).isFalse();
+        assertThat(spielA.getCount()).isEqualTo(1L);
+        suche.shutdown();
+    }
+}
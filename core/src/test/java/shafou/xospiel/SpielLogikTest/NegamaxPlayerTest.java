@@ -0,0 +1,127 @@
+package shafou.xospiel.SpielLogikTest;
+
+import org.junit.Test;
+
+import shafou.xospiel.GameLogic.GameState;
+import shafou.xospiel.GameLogic.NegamaxPlayer;
+import shafou.xospiel.GameLogic.Player;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ *
+ * Diese Klasse testet die NegamaxPlayer Klasse.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ * 2) 17.10.2026 ELF Parallele Suche getestet.
+ * 3) 18.10.2026 ELF Wechsel der Spielfeldgröße getestet.
+ */
+
+public class NegamaxPlayerTest {
+
+    @Test public void Zug_3x3_GewinnGespielt() {
+
+        /**
+         * X X .
+         * O O .
+         * . . .
+         */
+        GameState spielstand = spiele(new GameState(3, 3, 3, Player.X), 0, 3, 1, 4);
+
+        assertThat(new NegamaxPlayer().chooseMove(spielstand)).isEqualTo(2);
+    }
+
+    @Test public void Zug_3x3_GewinnVerhindert() {
+
+        /**
+         * X X .
+         * O . .
+         * . . .
+         */
+        GameState spielstand = spiele(new GameState(3, 3, 3, Player.X), 0, 3, 1);
+
+        assertThat(new NegamaxPlayer().chooseMove(spielstand)).isEqualTo(2);
+    }
+
+    @Test public void Spiel_3x3_GegenSichSelbst_Unentschieden() {
+
+        GameState spielstand = new GameState(3, 3, 3, Player.X);
+        NegamaxPlayer spieler = new NegamaxPlayer();
+
+        while(!spielstand.isOver()) {
+
+            spielstand.play(spieler.chooseMove(spielstand));
+        }
+
+        assertThat(spielstand.isDraw()).isTrue();
+    }
+
+    @Test public void Spiel_3x3_Parallel_Unentschieden() {
+
+        GameState spielstand = new GameState(3, 3, 3, Player.X);
+        NegamaxPlayer spieler = new NegamaxPlayer(NegamaxPlayer.DEFAULT_TIME_BUDGET,
+                NegamaxPlayer.DEFAULT_TABLE_BITS, 4);
+
+        while(!spielstand.isOver()) {
+
+            spielstand.play(spieler.chooseMove(spielstand));
+        }
+
+        spieler.shutdown();
+
+        assertThat(spielstand.isDraw()).isTrue();
+        assertThat(spieler.getLastNodes()).isAtLeast(spieler.getLastNodes(0));
+    }
+
+    @Test public void Zug_5x5_4ZumSieg_InZeitBudget() {
+
+        GameState spielstand = new GameState(5, 5, 4, Player.X);
+        NegamaxPlayer spieler = new NegamaxPlayer(200);
+
+        long start = System.currentTimeMillis();
+        int zug = spieler.chooseMove(spielstand);
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(1000L);
+        assertThat(spielstand.getBoard().isOccupied(zug)).isFalse();
+    }
+
+    @Test public void Zug_9x9_5ZumSieg_GewinnGespielt() {
+
+        /** X X X X . in der ersten Reihe, O verstreut */
+        GameState spielstand = spiele(new GameState(9, 9, 5, Player.X),
+                0, 40, 1, 60, 2, 80, 3, 44);
+
+        assertThat(new NegamaxPlayer(200).chooseMove(spielstand)).isEqualTo(4);
+    }
+
+    @Test public void Zug_AndereGroesse_GewinnGespielt() {
+
+        NegamaxPlayer spieler = new NegamaxPlayer(200);
+
+        /** Die Suche des 9 x 9 Spiels darf das 3 x 3 Spiel nicht stören */
+        GameState gross = spiele(new GameState(9, 9, 5, Player.X), 0, 40, 1, 60, 2, 80, 3, 44);
+        GameState klein = spiele(new GameState(3, 3, 3, Player.X), 0, 3, 1, 4);
+
+        assertThat(spieler.chooseMove(gross)).isEqualTo(4);
+        assertThat(spieler.chooseMove(klein)).isEqualTo(2);
+
+        /** O muss die Reihe von X schließen */
+        assertThat(spieler.chooseMove(spiele(new GameState(3, 3, 3, Player.X), 0, 3, 1)))
+                .isEqualTo(2);
+        assertThat(spieler.chooseMove(gross)).isEqualTo(4);
+    }
+
+    private static GameState spiele(GameState spielstand, int... zuege) {
+
+        for(int zug : zuege) {
+
+            spielstand.play(zug);
+        }
+
+        return spielstand;
+    }
+}
@@ -0,0 +1,115 @@
+package shafou.xospiel.SpielLogikTest;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import shafou.xospiel.GameLogic.GameState;
+import shafou.xospiel.GameLogic.NegamaxPlayer;
+import shafou.xospiel.GameLogic.OpeningBookGenerator;
+import shafou.xospiel.GameLogic.Player;
+import shafou.xospiel.GameLogic.SolvedTable;
+import shafou.xospiel.GameLogic.SolvedTableGenerator;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ *
+ * Diese Klasse testet die SolvedTable, den SolvedTableGenerator und den
+ * OpeningBookGenerator.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ * 2) 17.10.2026 ELF Eröffnungsbuch.
+ */
+
+public class SolvedTableTest {
+
+    private static SolvedTable tabelle;
+
+    @BeforeClass public static void tabelleErstellen() throws IOException {
+
+        ByteArrayOutputStream daten = new ByteArrayOutputStream();
+        SolvedTableGenerator.generate(3, 3, 3, daten);
+        tabelle = SolvedTable.wrap(ByteBuffer.wrap(daten.toByteArray()));
+    }
+
+    @Test public void Erstellen_3x3_AllePositionen() {
+
+        /** 765 Positionen ohne Symmetrien, davon 138 nach dem Ende des Spiels */
+        assertThat(tabelle.getCount()).isEqualTo(627);
+    }
+
+    @Test public void Wert_LeeresFeld_Unentschieden() {
+
+        assertThat(tabelle.getValue(new GameState(3, 3, 3, Player.O))).isEqualTo(0);
+    }
+
+    @Test public void Zug_GedrehteStellung_GewinnGespielt() {
+
+        /**
+         * . . X
+         * . . X
+         * O O .
+         */
+        GameState spielstand = new GameState(3, 3, 3, Player.X);
+        spielstand.play(2);
+        spielstand.play(6);
+        spielstand.play(5);
+        spielstand.play(7);
+
+        assertThat(tabelle.getValue(spielstand)).isEqualTo(1);
+        assertThat(tabelle.getBestMove(spielstand)).isEqualTo(8);
+    }
+
+    @Test public void Zug_AndereGroesse_NichtBeantwortet() {
+
+        assertThat(tabelle.getBestMove(new GameState(4, 4, 3, Player.X))).isEqualTo(-1);
+    }
+
+    @Test public void Computer_MitTabelle_OhneSuche() {
+
+        NegamaxPlayer spieler = new NegamaxPlayer();
+        spieler.addSolvedTable(tabelle);
+
+        GameState spielstand = new GameState(3, 3, 3, Player.X);
+
+        while(!spielstand.isOver()) {
+
+            spielstand.play(spieler.chooseMove(spielstand));
+        }
+
+        assertThat(spielstand.isDraw()).isTrue();
+        assertThat(spieler.getLastNodes()).isEqualTo(0L);
+    }
+
+    @Test public void Buch_3x3_ErsteZuege() throws IOException {
+
+        ByteArrayOutputStream daten = new ByteArrayOutputStream();
+        int anzahl = OpeningBookGenerator.generate(3, 3, 3, 3, 50, 1, daten);
+        SolvedTable buch = SolvedTable.wrap(ByteBuffer.wrap(daten.toByteArray()));
+
+        /**
+         * Anziehend: leeres Feld und zwei Antworten auf die Mitte,
+         * Nachziehend: Ecke, Kante und Mitte
+         */
+        assertThat(anzahl).isEqualTo(6);
+        assertThat(buch.getCount()).isEqualTo(6);
+        assertThat(buch.isExact()).isFalse();
+
+        GameState spielstand = new GameState(3, 3, 3, Player.X);
+        spielstand.play(buch.getBestMove(spielstand));
+        spielstand.play(buch.getBestMove(spielstand));
+        assertThat(buch.getValue(spielstand)).isEqualTo(0);
+
+        /** Nach drei Steinen wird gesucht */
+        spielstand.play(spielstand.getBoard().isOccupied(0) ? 8 : 0);
+        assertThat(buch.getBestMove(spielstand)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,123 @@
+package shafou.xospiel.SpielLogikTest;
+
+import org.junit.Test;
+
+import shafou.xospiel.GameLogic.Player;
+import shafou.xospiel.GameLogic.SparseBoard;
+import shafou.xospiel.GameLogic.SparseGameState;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ *
+ * Diese Klasse testet die SparseBoard und SparseGameState Klassen.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ */
+
+public class SparseBoardTest {
+
+    @Test public void Koordinaten_Negativ_GepacktUndEntpackt() {
+
+        long koordinaten = SparseBoard.pack(-7, Integer.MIN_VALUE);
+
+        assertThat(SparseBoard.column(koordinaten)).isEqualTo(-7);
+        assertThat(SparseBoard.row(koordinaten)).isEqualTo(Integer.MIN_VALUE);
+    }
+
+    @Test public void Setzen_VieleSteine_AlleGefunden() {
+
+        SparseBoard brett = new SparseBoard();
+
+        for(int i = -500; i < 500; i++) {
+
+            brett.place(i, i * 3, i % 2 == 0 ? Player.X : Player.O);
+        }
+
+        assertThat(brett.getStoneCount()).isEqualTo(1000);
+        assertThat(brett.getOccupant(-500, -1500)).isEqualTo(Player.X);
+        assertThat(brett.getOccupant(499, 1497)).isEqualTo(Player.O);
+        assertThat(brett.isOccupied(0, 1)).isFalse();
+        assertThat(brett.getMinColumn()).isEqualTo(-500);
+        assertThat(brett.getMaxRow()).isEqualTo(1497);
+    }
+
+    @Test public void Entfernen_VieleSteine_RestGefunden() {
+
+        SparseBoard brett = new SparseBoard();
+
+        for(int i = 0; i < 1000; i++) {
+
+            brett.place(i % 40, i / 40, Player.X);
+        }
+
+        for(int i = 0; i < 1000; i += 2) {
+
+            brett.remove(i % 40, i / 40);
+        }
+
+        assertThat(brett.getStoneCount()).isEqualTo(500);
+
+        for(int i = 0; i < 1000; i++) {
+
+            assertThat(brett.isOccupied(i % 40, i / 40)).isEqualTo(i % 2 == 1);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void Setzen_BelegtesFeld_Exception() {
+
+        SparseBoard brett = new SparseBoard();
+        brett.place(3, -3, Player.X);
+        brett.place(3, -3, Player.O);
+    }
+
+    @Test public void Gewinn_Diagonale_NurMitGenugSteinen() {
+
+        SparseBoard brett = new SparseBoard();
+
+        for(int i = 0; i < 4; i++) {
+
+            brett.place(-i, i, Player.O);
+        }
+
+        assertThat(brett.hasWonAt(0, 0, 5)).isFalse();
+
+        brett.place(-4, 4, Player.O);
+
+        assertThat(brett.hasWonAt(-2, 2, 5)).isTrue();
+        assertThat(brett.hasWonAt(1, 1, 5)).isFalse();
+    }
+
+    @Test public void Spiel_FuenfInEinerReihe_Gewonnen() {
+
+        SparseGameState spielstand = new SparseGameState(5, Player.X);
+
+        for(int i = 0; i < 4; i++) {
+
+            assertThat(spielstand.play(i, 0)).isFalse();
+            assertThat(spielstand.play(i, 100)).isFalse();
+        }
+
+        assertThat(spielstand.play(-1, 0)).isTrue();
+        assertThat(spielstand.getWinner()).isEqualTo(Player.X);
+        assertThat(spielstand.getMoveCount()).isEqualTo(9);
+        assertThat(spielstand.getPlayerOfMove(1)).isEqualTo(Player.O);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void Spiel_NachGewinn_Exception() {
+
+        SparseGameState spielstand = new SparseGameState(3, Player.X);
+        spielstand.play(0, 0);
+        spielstand.play(0, 1);
+        spielstand.play(1, 0);
+        spielstand.play(1, 1);
+        spielstand.play(2, 0);
+        spielstand.play(2, 1);
+    }
+}
@@ -5,10 +5,13 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.List;
 
+import shafou.xospiel.GameLogic.Board;
+import shafou.xospiel.GameLogic.Player;
 import shafou.xospiel.GameLogic.Position;
 
 import static com.google.common.truth.Truth.assertThat;
 import static shafou.xospiel.GameLogic.Standings.hasWon;
+import static shafou.xospiel.GameLogic.Standings.hasWonWith;
 
 /**
  *
@@ -19,6 +22,7 @@ import static shafou.xospiel.GameLogic.Standings.hasWon;
  *
  * Change log:
  * 1) 10.06.2017 ELF Klasse erstellt.
+ * 2) 17.10.2026 ELF Tests der Auswertung des letzten Zuges hinzugefügt.
  */
 
 public class StandingsTest {
@@ -155,4 +159,88 @@ public class StandingsTest {
 
         assertThat(hasWon(zuege, 4)).isFalse();
     }
+
+    @Test public void HatGewonnenMit_Reihe_3ZumSieg_Gewonnen() {
+
+        List<Position> zuege = new ArrayList<>();
+        zuege.add(new Position(0, 0));
+        zuege.add(new Position(0, 2));
+        zuege.add(new Position(0, 1));
+
+        assertThat(hasWonWithLastMove(zuege, 3)).isTrue();
+        assertThat(hasWonWithLastMove(zuege, 3)).isEqualTo(hasWon(zuege, 3));
+    }
+
+    @Test public void HatGewonnenMit_DiagonaleLinks_3ZumSieg_Gewonnen() {
+
+        List<Position> zuege = new ArrayList<>();
+        zuege.add(new Position(14, 12));
+        zuege.add(new Position(12, 14));
+        zuege.add(new Position(13, 13));
+
+        assertThat(hasWonWithLastMove(zuege, 3)).isTrue();
+        assertThat(hasWonWithLastMove(zuege, 3)).isEqualTo(hasWon(zuege, 3));
+    }
+
+    @Test public void HatGewonnenMit_Spalte_6ZumSieg_NichtGewonnen() {
+
+        List<Position> zuege = new ArrayList<>();
+        zuege.add(new Position(1, 0));
+        zuege.add(new Position(2, 0));
+        zuege.add(new Position(3, 0));
+
+        assertThat(hasWonWithLastMove(zuege, 6)).isFalse();
+        assertThat(hasWonWithLastMove(zuege, 6)).isEqualTo(hasWon(zuege, 6));
+    }
+
+    @Test public void HatGewonnenMit_Reihe_4ZumSieg_Gewonnen() {
+
+        List<Position> zuege = new ArrayList<>();
+        zuege.add(new Position(0, 0));
+        zuege.add(new Position(3, 3));
+        zuege.add(new Position(2, 1));
+        zuege.add(new Position(1, 0));
+        zuege.add(new Position(0, 1));
+        zuege.add(new Position(0, 2));
+        zuege.add(new Position(0, 3));
+
+        assertThat(hasWonWithLastMove(zuege, 4)).isTrue();
+        assertThat(hasWonWithLastMove(zuege, 4)).isEqualTo(hasWon(zuege, 4));
+    }
+
+    @Test public void HatGewonnenMit_DiagonaleLinks_4ZumSieg_NichtGewonnen() {
+
+        List<Position> zuege = new ArrayList<>();
+        zuege.add(new Position(14, 12));
+        zuege.add(new Position(13, 13));
+        zuege.add(new Position(0, 1));
+        zuege.add(new Position(1, 1));
+        zuege.add(new Position(12, 14));
+        zuege.add(new Position(2, 1));
+
+        assertThat(hasWonWithLastMove(zuege, 4)).isFalse();
+        assertThat(hasWonWithLastMove(zuege, 4)).isEqualTo(hasWon(zuege, 4));
+    }
+
+    /**
+     * Setzt die Züge auf ein Spielbrett und wertet den letzten Zug aus.
+     *
+     * @param zuege Gespielte Positionen, die letzte Position ist der letzte Zug
+     * @param tokensToWin Anzahl der Steine zum Gewinn
+     * @return Ergebnis von {@link shafou.xospiel.GameLogic.Standings#hasWonWith}
+     */
+    private static boolean hasWonWithLastMove(List<Position> zuege, int tokensToWin) {
+
+        Board board = Board.create(15, 15);
+        int letztesFeld = 0;
+
+        for(Position position : zuege) {
+
+            letztesFeld = (int) position.getYPosition() * board.getColumns()
+                    + (int) position.getXPosition();
+            board.place(letztesFeld, Player.X);
+        }
+
+        return hasWonWith(board, letztesFeld, tokensToWin);
+    }
 }
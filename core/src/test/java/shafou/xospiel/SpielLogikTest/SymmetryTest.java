@@ -0,0 +1,89 @@
+package shafou.xospiel.SpielLogikTest;
+
+import org.junit.Test;
+
+import shafou.xospiel.GameLogic.Board;
+import shafou.xospiel.GameLogic.Player;
+import shafou.xospiel.GameLogic.Symmetry;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ *
+ * Diese Klasse testet die Symmetry Klasse.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ */
+
+public class SymmetryTest {
+
+    @Test public void Anzahl_QuadratUndRechteck_Bestimmt() {
+
+        assertThat(Symmetry.get(3, 3).getCount()).isEqualTo(8);
+        assertThat(Symmetry.get(4, 3).getCount()).isEqualTo(4);
+    }
+
+    @Test public void Abbilden_AlleSymmetrien_Umkehrbar() {
+
+        Symmetry symmetrie = Symmetry.get(5, 5);
+
+        for(int s = 0; s < symmetrie.getCount(); s++) {
+            for(int zelle = 0; zelle < symmetrie.getCells(); zelle++) {
+
+                assertThat(symmetrie.unmap(s, symmetrie.map(s, zelle))).isEqualTo(zelle);
+            }
+        }
+    }
+
+    @Test public void Abbilden_3x3_EckenBleibenEcken() {
+
+        Symmetry symmetrie = Symmetry.get(3, 3);
+
+        for(int s = 0; s < symmetrie.getCount(); s++) {
+
+            assertThat(symmetrie.map(s, 4)).isEqualTo(4);
+            assertThat(symmetrie.map(s, 0)).isAnyOf(0, 2, 6, 8);
+        }
+    }
+
+    @Test public void Kanonisch_GedrehteStellung_GleicherSchluessel() {
+
+        Symmetry symmetrie = Symmetry.get(3, 3);
+
+        /**
+         * X X .      . . X
+         * . O .  ->  . O X
+         * . . .      . . .
+         */
+        long x = (1L << 0) | (1L << 1);
+        long o = 1L << 4;
+        long gedrehtX = (1L << 2) | (1L << 5);
+
+        assertThat(symmetrie.canonicalKey(gedrehtX, o)).isEqualTo(symmetrie.canonicalKey(x, o));
+    }
+
+    @Test public void Hash_GespiegelteStellung_GleicherKleinsterHash() {
+
+        Board brett = Board.create(4, 4);
+        brett.place(0, Player.X);
+        brett.place(6, Player.O);
+
+        /** Spiegelung an der senkrechten Mittellinie */
+        Board gespiegelt = Board.create(4, 4);
+        gespiegelt.place(3, Player.X);
+        gespiegelt.place(5, Player.O);
+
+        Symmetry symmetrie = Symmetry.get(4, 4);
+        long[] hashes = new long[symmetrie.getCount()];
+        long[] gespiegelteHashes = new long[symmetrie.getCount()];
+        symmetrie.hashes(brett, hashes);
+        symmetrie.hashes(gespiegelt, gespiegelteHashes);
+
+        assertThat(hashes[Symmetry.smallest(hashes)])
+                .isEqualTo(gespiegelteHashes[Symmetry.smallest(gespiegelteHashes)]);
+    }
+}
@@ -0,0 +1,71 @@
+package shafou.xospiel.SpielLogikTest;
+
+import org.junit.Test;
+
+import shafou.xospiel.GameLogic.Board;
+import shafou.xospiel.GameLogic.Player;
+import shafou.xospiel.GameLogic.TranspositionTable;
+import shafou.xospiel.GameLogic.Zobrist;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ *
+ * Diese Klasse testet die TranspositionTable und den Zobrist Hash.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ */
+
+public class TranspositionTableTest {
+
+    @Test public void Speichern_Eintrag_Gefunden() {
+
+        TranspositionTable tabelle = new TranspositionTable(4);
+        tabelle.store(12345L, 7, TranspositionTable.LOWER_BOUND, -42, 13);
+
+        long eintrag = tabelle.probe(12345L);
+
+        assertThat(TranspositionTable.getDepth(eintrag)).isEqualTo(7);
+        assertThat(TranspositionTable.getBound(eintrag)).isEqualTo(TranspositionTable.LOWER_BOUND);
+        assertThat(TranspositionTable.getValue(eintrag)).isEqualTo(-42);
+        assertThat(TranspositionTable.getMove(eintrag)).isEqualTo(13);
+    }
+
+    @Test public void Suchen_AndererHash_NichtGefunden() {
+
+        TranspositionTable tabelle = new TranspositionTable(4);
+        tabelle.store(1L, 1, TranspositionTable.EXACT, 0, 0);
+
+        assertThat(tabelle.probe(17L)).isEqualTo(TranspositionTable.MISS);
+    }
+
+    @Test public void Hash_ZugUndZuruecknehmen_Gleich() {
+
+        Board brett = Board.create(3, 3);
+        brett.place(4, Player.X);
+        long hash = brett.getHash();
+
+        brett.place(0, Player.O);
+        brett.undo(0);
+
+        assertThat(brett.getHash()).isEqualTo(hash);
+        assertThat(hash).isEqualTo(Zobrist.key(Player.X, 4));
+    }
+
+    @Test public void Hash_GleicheSteineAndereReihenfolge_Gleich() {
+
+        Board erstes = Board.create(9, 9);
+        erstes.place(3, Player.X);
+        erstes.place(70, Player.O);
+
+        Board zweites = Board.create(9, 9);
+        zweites.place(70, Player.O);
+        zweites.place(3, Player.X);
+
+        assertThat(erstes.getHash()).isEqualTo(zweites.getHash());
+    }
+}
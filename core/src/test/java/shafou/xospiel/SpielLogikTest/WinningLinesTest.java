@@ -0,0 +1,68 @@
+package shafou.xospiel.SpielLogikTest;
+
+import org.junit.Test;
+
+import shafou.xospiel.GameLogic.WinningLines;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ *
+ * Diese Klasse testet die WinningLines Klasse.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ */
+
+public class WinningLinesTest {
+
+    @Test public void Linien_3x3_3ZumSieg_8Linien() {
+
+        WinningLines lines = WinningLines.get(3, 3, 3);
+
+        assertThat(lines.getLineCount()).isEqualTo(8);
+        assertThat(lines.getLinesThroughCell(4).length).isEqualTo(4);
+        assertThat(lines.getLinesThroughCell(1).length).isEqualTo(2);
+    }
+
+    @Test public void Linien_4x4_3ZumSieg_24Linien() {
+
+        assertThat(WinningLines.get(4, 4, 3).getLineCount()).isEqualTo(24);
+    }
+
+    @Test public void Linien_5x5_4ZumSieg_28Linien() {
+
+        assertThat(WinningLines.get(5, 5, 4).getLineCount()).isEqualTo(28);
+    }
+
+    @Test public void Linien_GleicheGroesse_AusDemCache() {
+
+        assertThat(WinningLines.get(5, 5, 3)).isSameAs(WinningLines.get(5, 5, 3));
+    }
+
+    @Test public void Linien_GrossesFeld_AusDemCache() {
+
+        assertThat(WinningLines.get(20, 16, 5)).isSameAs(WinningLines.get(20, 16, 5));
+    }
+
+    @Test public void IstGewonnen_Diagonale_Gewonnen() {
+
+        WinningLines lines = WinningLines.get(3, 3, 3);
+        long steine = (1L << 2) | (1L << 4) | (1L << 6);
+
+        assertThat(lines.isWonAt(steine, 4)).isTrue();
+        assertThat(lines.isWon(steine)).isTrue();
+    }
+
+    @Test public void IstGewonnen_ReiheUeberZeilenende_NichtGewonnen() {
+
+        WinningLines lines = WinningLines.get(3, 3, 3);
+        long steine = (1L << 1) | (1L << 2) | (1L << 3);
+
+        assertThat(lines.isWonAt(steine, 2)).isFalse();
+        assertThat(lines.isWon(steine)).isFalse();
+    }
+}
@@ -3,11 +3,14 @@ package shafou.xospiel.SpielfeldTests;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import shafou.xospiel.GameLogic.Cell;
 import shafou.xospiel.PlayingField.Field;
 import shafou.xospiel.GameLogic.Position;
 import shafou.xospiel.PlayingField.FieldsCalculator;
+import shafou.xospiel.PlayingField.Viewport;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertEquals;
@@ -31,6 +34,9 @@ import static org.junit.Assert.assertEquals;
  *
  * Change log:
  * 1) 03.05.2017 ELF Klasse erstellt.
+ * 2) 17.10.2026 ELF Test der Feld Indizes hinzugefügt.
+ * 3) 17.10.2026 ELF Test der sichtbaren Felder hinzugefügt.
+ * 4) 18.10.2026 ELF Positionen der Felder als Zellen getestet.
  */
 
 public class FieldRechnerTest {
@@ -461,63 +467,85 @@ public class FieldRechnerTest {
 
     @Test public void FelderPositionen_2x2_Bestimmt() {
 
-        Position position1_1 = new Position(1, 1);
-        Position position2_1 = new Position(2, 1);
-        Position position1_2 = new Position(1, 2);
-        Position position2_2 = new Position(2, 2);
-
         List<Field> felder;
         felder = FieldsCalculator.getFields(120, 120, 2, 2);
 
-        assertThat(felder.get(0).getPositionOnPlayingField()).isEqualTo(position1_1);
-        assertThat(felder.get(1).getPositionOnPlayingField()).isEqualTo(position2_1);
-        assertThat(felder.get(2).getPositionOnPlayingField()).isEqualTo(position1_2);
-        assertThat(felder.get(3).getPositionOnPlayingField()).isEqualTo(position2_2);
+        assertThat(felder.get(0).getCell()).isEqualTo(Cell.index(0, 0, 2));
+        assertThat(felder.get(1).getCell()).isEqualTo(Cell.index(1, 0, 2));
+        assertThat(felder.get(2).getCell()).isEqualTo(Cell.index(0, 1, 2));
+        assertThat(felder.get(3).getCell()).isEqualTo(Cell.index(1, 1, 2));
     }
 
     @Test public void FelderPositionen_2x3_Bestimmt() {
 
-        Position position1_1 = new Position(1, 1);
-        Position position2_1 = new Position(2, 1);
-        Position position1_2 = new Position(1, 2);
-        Position position2_2 = new Position(2, 2);
-        Position position1_3 = new Position(1, 3);
-        Position position3_3 = new Position(2, 3);
-
         List<Field> felder;
         felder = FieldsCalculator.getFields(120, 120, 2, 3);
 
-        assertThat(felder.get(0).getPositionOnPlayingField()).isEqualTo(position1_1);
-        assertThat(felder.get(1).getPositionOnPlayingField()).isEqualTo(position2_1);
-        assertThat(felder.get(2).getPositionOnPlayingField()).isEqualTo(position1_2);
-        assertThat(felder.get(3).getPositionOnPlayingField()).isEqualTo(position2_2);
-        assertThat(felder.get(4).getPositionOnPlayingField()).isEqualTo(position1_3);
-        assertThat(felder.get(5).getPositionOnPlayingField()).isEqualTo(position3_3);
+        assertThat(felder.get(0).getCell()).isEqualTo(Cell.index(0, 0, 2));
+        assertThat(felder.get(1).getCell()).isEqualTo(Cell.index(1, 0, 2));
+        assertThat(felder.get(2).getCell()).isEqualTo(Cell.index(0, 1, 2));
+        assertThat(felder.get(3).getCell()).isEqualTo(Cell.index(1, 1, 2));
+        assertThat(felder.get(4).getCell()).isEqualTo(Cell.index(0, 2, 2));
+        assertThat(felder.get(5).getCell()).isEqualTo(Cell.index(1, 2, 2));
     }
 
     @Test public void FelderPositionen_3x3_Bestimmt() {
 
-        Position position1_1 = new Position(1, 1);
-        Position position2_1 = new Position(2, 1);
-        Position position3_1 = new Position(3, 1);
-        Position position1_2 = new Position(1, 2);
-        Position position2_2 = new Position(2, 2);
-        Position position3_2 = new Position(3, 2);
-        Position position1_3 = new Position(1, 3);
-        Position position2_3 = new Position(2, 3);
-        Position position3_3 = new Position(3, 3);
-
         List<Field> felder;
         felder = FieldsCalculator.getFields(120, 120, 3, 3);
 
-        assertThat(felder.get(0).getPositionOnPlayingField()).isEqualTo(position1_1);
-        assertThat(felder.get(1).getPositionOnPlayingField()).isEqualTo(position2_1);
-        assertThat(felder.get(2).getPositionOnPlayingField()).isEqualTo(position3_1);
-        assertThat(felder.get(3).getPositionOnPlayingField()).isEqualTo(position1_2);
-        assertThat(felder.get(4).getPositionOnPlayingField()).isEqualTo(position2_2);
-        assertThat(felder.get(5).getPositionOnPlayingField()).isEqualTo(position3_2);
-        assertThat(felder.get(6).getPositionOnPlayingField()).isEqualTo(position1_3);
-        assertThat(felder.get(7).getPositionOnPlayingField()).isEqualTo(position2_3);
-        assertThat(felder.get(8).getPositionOnPlayingField()).isEqualTo(position3_3);
+        assertThat(felder.get(0).getCell()).isEqualTo(Cell.index(0, 0, 3));
+        assertThat(felder.get(1).getCell()).isEqualTo(Cell.index(1, 0, 3));
+        assertThat(felder.get(2).getCell()).isEqualTo(Cell.index(2, 0, 3));
+        assertThat(felder.get(3).getCell()).isEqualTo(Cell.index(0, 1, 3));
+        assertThat(felder.get(4).getCell()).isEqualTo(Cell.index(1, 1, 3));
+        assertThat(felder.get(5).getCell()).isEqualTo(Cell.index(2, 1, 3));
+        assertThat(felder.get(6).getCell()).isEqualTo(Cell.index(0, 2, 3));
+        assertThat(felder.get(7).getCell()).isEqualTo(Cell.index(1, 2, 3));
+        assertThat(felder.get(8).getCell()).isEqualTo(Cell.index(2, 2, 3));
+    }
+
+    @Test public void FelderZellen_2x3_Bestimmt() {
+
+        List<Field> felder = FieldsCalculator.getFields(120, 120, 2, 3);
+
+        for(int i = 0; i < felder.size(); i++) {
+
+            assertThat(felder.get(i).getCell()).isEqualTo(i);
+        }
+
+        assertThat(felder.get(5).getColumn()).isEqualTo(1);
+        assertThat(felder.get(5).getRow()).isEqualTo(2);
+    }
+
+    @Test public void SichtbareFelder_Ausschnitt_NurSichtbareBerechnet() {
+
+        /** 100 Pixel pro Feld, die Spalten und Reihen -1 bis 1 sind sichtbar */
+        Viewport ausschnitt = new Viewport(100, 50, 200);
+        ausschnitt.setSize(300, 300);
+        ausschnitt.centerOn(0.5, 0.5);
+
+        List<Field> felder = FieldsCalculator.getVisibleFields(ausschnitt);
+
+        assertThat(felder).hasSize(9);
+        assertThat(felder.get(0).getColumn()).isEqualTo(-1);
+        assertThat(felder.get(0).getRow()).isEqualTo(-1);
+        assertThat(felder.get(0).getX1()).isEqualTo(new Position(0, 0));
+        assertThat(felder.get(4).getX3()).isEqualTo(new Position(200, 200));
+        assertThat(FieldsCalculator.getVisibleLinePoints(ausschnitt)).hasLength(4 * 4);
+    }
+
+    @Test public void SichtbareLinien_WiederverwendetesArray_GleichePunkte() {
+
+        Viewport ausschnitt = new Viewport(100, 50, 200);
+        ausschnitt.setSize(300, 300);
+        ausschnitt.centerOn(0.5, 0.5);
+
+        float[] punkte = new float[64];
+        int anzahl = FieldsCalculator.getVisibleLinePoints(ausschnitt, punkte);
+
+        assertThat(anzahl).isEqualTo(FieldsCalculator.getVisibleLinePointCount(ausschnitt));
+        assertThat(Arrays.copyOf(punkte, anzahl))
+                .isEqualTo(FieldsCalculator.getVisibleLinePoints(ausschnitt));
     }
 }
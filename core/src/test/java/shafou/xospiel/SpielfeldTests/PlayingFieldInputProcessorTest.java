@@ -7,10 +7,13 @@ import java.util.List;
 import shafou.xospiel.PlayingField.Field;
 import shafou.xospiel.GameLogic.PlayingFieldInputProcessor;
 import shafou.xospiel.GameLogic.Position;
+import shafou.xospiel.GameLogic.SparseBoard;
 import shafou.xospiel.PlayingField.FieldsCalculator;
+import shafou.xospiel.PlayingField.Viewport;
 import shafou.xospiel.PlayingField.XOPlayingFieldGenerator;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 /**
  *
@@ -21,6 +24,8 @@ import static org.junit.Assert.assertEquals;
  *
  * Change log:
  * 1) 05.06.2017 ELF Klasse erstellt.
+ * 2) 17.10.2026 ELF Tests mit Koordinaten hinzugefügt.
+ * 3) 17.10.2026 ELF Test eines Spielfeldes ohne Ränder hinzugefügt.
  */
 
 public class PlayingFieldInputProcessorTest {
@@ -109,4 +114,51 @@ public class PlayingFieldInputProcessorTest {
         assertEquals(spielfelder.get(4), spielfeld);
     }
 
+    @Test
+    public void BestimmeSpielfeld_Koordinaten_50_100_Bestimmt() {
+
+        XOPlayingFieldGenerator xOG = new XOPlayingFieldGenerator(120, 120, 3);
+        PlayingFieldInputProcessor<XOPlayingFieldGenerator> sIV = new PlayingFieldInputProcessor<>(xOG);
+        Field spielfeld = sIV.getField(50f, 100f);
+
+        List<Field> spielfelder = FieldsCalculator.getFields(120, 120, 3, 3);
+
+        assertEquals(spielfelder.get(7), spielfeld);
+    }
+
+    @Test
+    public void BestimmeSpielfeld_KoordinatenAufRand_Bestimmt() {
+
+        XOPlayingFieldGenerator xOG = new XOPlayingFieldGenerator(120, 120, 3);
+        PlayingFieldInputProcessor<XOPlayingFieldGenerator> sIV = new PlayingFieldInputProcessor<>(xOG);
+
+        List<Field> spielfelder = FieldsCalculator.getFields(120, 120, 3, 3);
+
+        assertEquals(spielfelder.get(0), sIV.getField(0f, 0f));
+        assertEquals(spielfelder.get(0), sIV.getField(40f, 40f));
+        assertEquals(spielfelder.get(8), sIV.getField(120f, 120f));
+    }
+
+    @Test
+    public void BestimmeSpielfeld_KoordinatenNichtAufFeld_Null() {
+
+        XOPlayingFieldGenerator xOG = new XOPlayingFieldGenerator(120, 120, 3);
+        PlayingFieldInputProcessor<XOPlayingFieldGenerator> sIV = new PlayingFieldInputProcessor<>(xOG);
+
+        assertNull(sIV.getField(140f, 20f));
+        assertNull(sIV.getField(-2f, 85f));
+    }
+
+    @Test
+    public void BestimmeKoordinaten_Ausschnitt_NegativeSpalteUndReihe() {
+
+        Viewport ausschnitt = new Viewport(100, 50, 200);
+        ausschnitt.setSize(300, 300);
+        ausschnitt.centerOn(0, 0);
+
+        long koordinaten = PlayingFieldInputProcessor.getCoordinates(ausschnitt, 10f, 290f);
+
+        assertEquals(-2, SparseBoard.column(koordinaten));
+        assertEquals(1, SparseBoard.row(koordinaten));
+    }
 }
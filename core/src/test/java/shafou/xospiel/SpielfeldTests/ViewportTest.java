@@ -0,0 +1,69 @@
+package shafou.xospiel.SpielfeldTests;
+
+import org.junit.Test;
+
+import shafou.xospiel.PlayingField.Viewport;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ *
+ * Diese Klasse testet die Viewport Klasse.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ */
+
+public class ViewportTest {
+
+    @Test public void Groesse_Gesetzt_NullpunktInDerMitte() {
+
+        Viewport ausschnitt = new Viewport(100, 50, 200);
+        ausschnitt.setSize(1000, 800);
+
+        assertThat(ausschnitt.getColumn(500)).isEqualTo(0);
+        assertThat(ausschnitt.getColumn(499)).isEqualTo(-1);
+        assertThat(ausschnitt.getRow(400)).isEqualTo(0);
+        assertThat(ausschnitt.getFirstVisibleColumn()).isEqualTo(-5);
+        assertThat(ausschnitt.getLastVisibleColumn()).isEqualTo(4);
+    }
+
+    @Test public void Verschieben_NachRechts_InhaltFolgt() {
+
+        Viewport ausschnitt = new Viewport(100, 50, 200);
+        ausschnitt.setSize(1000, 800);
+        ausschnitt.pan(300, 0);
+
+        assertThat(ausschnitt.getColumn(850)).isEqualTo(0);
+        assertThat(ausschnitt.getCellLeft(0)).isWithin(0.001f).of(800f);
+    }
+
+    @Test public void Zoomen_Fokus_BleibtAufDemSelbenFeld() {
+
+        Viewport ausschnitt = new Viewport(100, 50, 200);
+        ausschnitt.setSize(1000, 800);
+        int spalte = ausschnitt.getColumn(130);
+        int reihe = ausschnitt.getRow(710);
+
+        ausschnitt.zoom(1.5f, 130, 710);
+
+        assertThat(ausschnitt.getCellSize()).isWithin(0.001f).of(150f);
+        assertThat(ausschnitt.getColumn(130)).isEqualTo(spalte);
+        assertThat(ausschnitt.getRow(710)).isEqualTo(reihe);
+    }
+
+    @Test public void Zoomen_UeberGrenze_Begrenzt() {
+
+        Viewport ausschnitt = new Viewport(100, 50, 200);
+        ausschnitt.zoom(10f, 0, 0);
+
+        assertThat(ausschnitt.getCellSize()).isWithin(0.001f).of(200f);
+
+        ausschnitt.zoom(0.01f, 0, 0);
+
+        assertThat(ausschnitt.getCellSize()).isWithin(0.001f).of(50f);
+    }
+}
@@ -8,6 +8,7 @@ import shafou.xospiel.PlayingField.Line;
 import shafou.xospiel.GameLogic.Position;
 import shafou.xospiel.PlayingField.XOPlayingFieldGenerator;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 
 /**
@@ -19,6 +20,8 @@ import static org.junit.Assert.assertEquals;
  *
  * Change log:
  * 1) 01.06.2017 ELF Klasse erstellt.
+ * 2) 17.10.2026 ELF Test der Linien Punkte hinzugefügt.
+ * 3) 17.10.2026 ELF Rechteckige Spielfelder getestet.
  */
 
 public class XOPlayingFieldGeneratorTest {
@@ -75,6 +78,39 @@ public class XOPlayingFieldGeneratorTest {
         assertEquals(xOFeldLinienTest, xOFeldLinienGeneriert);
     }
 
+    @Test
+    public void XOFeldlinienBerechnen_4x3_Berechnet(){
+
+        ArrayList<Line> xOFeldLinienTest = new ArrayList<>();
+        xOFeldLinienTest.add(new Line(new Position(30, 0), new Position(30, 90)));
+        xOFeldLinienTest.add(new Line(new Position(60, 0), new Position(60, 90)));
+        xOFeldLinienTest.add(new Line(new Position(90, 0), new Position(90, 90)));
+        xOFeldLinienTest.add(new Line(new Position(0, 30), new Position(120, 30)));
+        xOFeldLinienTest.add(new Line(new Position(0, 60), new Position(120, 60)));
+
+        XOPlayingFieldGenerator sG = new XOPlayingFieldGenerator(120, 90, 4, 3);
+
+        assertEquals(xOFeldLinienTest, sG.calculatesLines());
+        assertEquals(4, sG.getColumns());
+        assertEquals(3, sG.getRows());
+    }
+
+    @Test
+    public void Felder_19x19_ZellenBerechnet(){
+
+        XOPlayingFieldGenerator sG = new XOPlayingFieldGenerator(190, 190, 19, 19);
+
+        assertEquals(361, sG.getPlayingFields().size());
+        assertEquals(360, sG.getPlayingFields().get(360).getCell());
+        assertEquals(36, sG.calculatesLines().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void XOSpielfeldGeneratorInitialisieren_2x3_Exception(){
+
+        new XOPlayingFieldGenerator(120, 120, 2, 3);
+    }
+
 //    @Test(expected = IllegalArgumentException.class)
 //    public void XOFeldlinienBerechnen_2x3_Exception(){
 //
@@ -116,6 +152,20 @@ public class XOPlayingFieldGeneratorTest {
         assertEquals(xOFeldLinienTest, xOFeldLinienGeneriert);
     }
 
+    @Test
+    public void LinienPunkte_10_Prozent_Berechnet() {
+
+        XOPlayingFieldGenerator sG = new XOPlayingFieldGenerator(120, 120, 3);
+
+        float[] xOFeldLinienPunkteTest = {
+                40, 12, 40, 108,
+                80, 12, 80, 108,
+                12, 40, 108, 40,
+                12, 80, 108, 80};
+
+        assertArrayEquals(xOFeldLinienPunkteTest, sG.calculatesLinePoints(10), 0f);
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void ProzentBerechnen_0_ProzentParameter_Exception() {
 
@@ -0,0 +1,53 @@
+package shafou.xospiel.Benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import shafou.xospiel.GameLogic.Position;
+import shafou.xospiel.PlayingField.Field;
+import shafou.xospiel.PlayingField.FieldsCalculator;
+
+/**
+ *
+ * Measures the calculation of the positions and fields of a playing field
+ * with the size of a typical phone screen.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class FieldsCalculatorBenchmark {
+
+    @Param({"3", "4", "5", "15"})
+    public int columnsAndRows;
+
+    public float width = 1080F;
+
+    public float height = 1080F;
+
+    @Benchmark
+    public List<Position> getPositions() {
+
+        return FieldsCalculator.getPositions(width, height, columnsAndRows, columnsAndRows);
+    }
+
+    @Benchmark
+    public List<Field> getFields() {
+
+        return FieldsCalculator.getFields(width, height, columnsAndRows, columnsAndRows);
+    }
+}
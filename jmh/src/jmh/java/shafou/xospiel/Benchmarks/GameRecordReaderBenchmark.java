@@ -0,0 +1,98 @@
+package shafou.xospiel.Benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import shafou.xospiel.GameLogic.GameRecordReader;
+import shafou.xospiel.GameLogic.GameRecordWriter;
+import shafou.xospiel.GameLogic.GameState;
+import shafou.xospiel.GameLogic.Player;
+
+/**
+ *
+ * Measures the replay of recorded games from a memory mapped file. Every
+ * invocation reads and replays all games of a file of randomly played games.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class GameRecordReaderBenchmark {
+
+    private static final int GAMES = 100000;
+
+    /** Board size and tokens to win as "columns x rows : tokens" */
+    @Param({"3x3:3", "5x5:4", "15x15:5"})
+    public String mode;
+
+    private File file;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        int columns = Integer.parseInt(mode.substring(0, mode.indexOf('x')));
+        int rows = Integer.parseInt(mode.substring(mode.indexOf('x') + 1, mode.indexOf(':')));
+        int tokensToWin = Integer.parseInt(mode.substring(mode.indexOf(':') + 1));
+
+        file = File.createTempFile("games", ".xogr");
+        GameState state = new GameState(columns, rows, tokensToWin, Player.X);
+        Random random = new Random(42);
+
+        try(GameRecordWriter writer = GameRecordWriter.open(file)) {
+
+            for(int g = 0; g < GAMES; g++) {
+
+                state.reset(g % 2 == 0 ? Player.X : Player.O);
+
+                while(!state.isOver()) {
+
+                    state.play(random.nextInt(columns * rows));
+                }
+
+                writer.append(state);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        file.delete();
+    }
+
+    /** Replays all games and counts the wins of X */
+    @Benchmark
+    public int replay() throws IOException {
+
+        GameRecordReader reader = GameRecordReader.map(file);
+        int wins = 0;
+
+        while(reader.next()) {
+
+            if(reader.replay().getWinner() == Player.X) {
+
+                wins++;
+            }
+        }
+
+        return wins;
+    }
+}
@@ -0,0 +1,81 @@
+package shafou.xospiel.Benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+import shafou.xospiel.GameLogic.GameState;
+import shafou.xospiel.GameLogic.NegamaxPlayer;
+import shafou.xospiel.GameLogic.Player;
+
+/**
+ *
+ * Measures how the searched positions per second scale with the threads of
+ * the parallel search. Every invocation searches the first move of a 5x5
+ * game with 4 tokens to win for 100 milliseconds.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class NegamaxPlayerBenchmark {
+
+    private static final long TIME_BUDGET = 100L;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private NegamaxPlayer player;
+
+    private GameState state;
+
+    /** Searched positions, reported per second next to the moves */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Nodes {
+
+        /** Positions of all threads */
+        public long nodes;
+
+        /** Positions of the main search */
+        public long mainNodes;
+    }
+
+    @Setup
+    public void setUp() {
+
+        player = new NegamaxPlayer(TIME_BUDGET, NegamaxPlayer.DEFAULT_TABLE_BITS, threads);
+        state = new GameState(5, 5, 4, Player.X);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        player.shutdown();
+    }
+
+    @Benchmark
+    public int chooseMove(Nodes counters) {
+
+        int move = player.chooseMove(state);
+        counters.nodes += player.getLastNodes();
+        counters.mainNodes += player.getLastNodes(0);
+        return move;
+    }
+}
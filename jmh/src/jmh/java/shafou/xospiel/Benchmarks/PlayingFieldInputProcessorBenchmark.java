@@ -0,0 +1,75 @@
+package shafou.xospiel.Benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import shafou.xospiel.GameLogic.PlayingFieldInputProcessor;
+import shafou.xospiel.PlayingField.Field;
+import shafou.xospiel.PlayingField.XOPlayingFieldGenerator;
+
+/**
+ *
+ * Measures the lookup of the touched field. The touches are spread over the
+ * playing field and a small border around it.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class PlayingFieldInputProcessorBenchmark {
+
+    /** Amount of prepared touches, must be a power of two */
+    private static final int TOUCHES = 256;
+
+    private static final float SIZE = 1080F;
+
+    @Param({"3", "4", "5", "15"})
+    public int columnsAndRows;
+
+    private PlayingFieldInputProcessor<XOPlayingFieldGenerator> inputProcessor;
+
+    private float[] xs;
+
+    private float[] ys;
+
+    private int touch;
+
+    @Setup
+    public void setUp() {
+
+        inputProcessor = new PlayingFieldInputProcessor<>(
+                new XOPlayingFieldGenerator(SIZE, SIZE, columnsAndRows));
+
+        xs = new float[TOUCHES];
+        ys = new float[TOUCHES];
+
+        Random random = new Random(42);
+        for(int i = 0; i < TOUCHES; i++) {
+
+            xs[i] = random.nextFloat() * SIZE * 1.1F - SIZE * 0.05F;
+            ys[i] = random.nextFloat() * SIZE * 1.1F - SIZE * 0.05F;
+        }
+    }
+
+    @Benchmark
+    public Field getField() {
+
+        touch = (touch + 1) & (TOUCHES - 1);
+        return inputProcessor.getField(xs[touch], ys[touch]);
+    }
+}
@@ -0,0 +1,143 @@
+package shafou.xospiel.Benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import shafou.xospiel.GameLogic.Board;
+import shafou.xospiel.GameLogic.Cell;
+import shafou.xospiel.GameLogic.Player;
+import shafou.xospiel.GameLogic.Position;
+import shafou.xospiel.GameLogic.Standings;
+
+/**
+ *
+ * Measures the evaluation of a game for every board size and amount of
+ * tokens to win. Every invocation evaluates the next one of a fixed set of
+ * randomly played games, so won and open games are mixed.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class StandingsBenchmark {
+
+    /** Amount of prepared games, must be a power of two */
+    private static final int GAMES = 64;
+
+    /** Board size and tokens to win as "columns x rows : tokens" */
+    @Param({"3x3:3", "4x4:3", "4x4:4", "5x5:3", "5x5:4", "5x5:5", "15x15:5"})
+    public String mode;
+
+    private int tokensToWin;
+
+    private Board[] boards;
+
+    /** Cell of the last move of every game */
+    private int[] lastCells;
+
+    /** Player of the last move of every game */
+    private Player[] lastPlayers;
+
+    /** Positions of the last player of every game, starting with 1 */
+    private List<List<Position>> playedPositions;
+
+    private int game;
+
+    @Setup
+    public void setUp() {
+
+        int columns = Integer.parseInt(mode.substring(0, mode.indexOf('x')));
+        int rows = Integer.parseInt(mode.substring(mode.indexOf('x') + 1, mode.indexOf(':')));
+        tokensToWin = Integer.parseInt(mode.substring(mode.indexOf(':') + 1));
+
+        boards = new Board[GAMES];
+        lastCells = new int[GAMES];
+        lastPlayers = new Player[GAMES];
+        playedPositions = new ArrayList<>(GAMES);
+
+        Random random = new Random(42);
+        for(int g = 0; g < GAMES; g++) {
+
+            Board board = Board.create(columns, rows);
+            int moves = 1 + random.nextInt(board.getCells());
+            Player player = Player.X;
+            int cell = Cell.NONE;
+
+            /** Random moves until the game is won or the amount is played */
+            for(int m = 0; m < moves; m++) {
+
+                player = m % 2 == 0 ? Player.X : Player.O;
+                do {
+                    cell = random.nextInt(board.getCells());
+                } while(board.isOccupied(cell));
+
+                board.place(cell, player);
+
+                if(Standings.hasWonWith(board, cell, tokensToWin)) {
+                    break;
+                }
+            }
+
+            List<Position> positions = new ArrayList<>();
+            for(int c = 0; c < board.getCells(); c++) {
+
+                if(board.getOccupant(c) == player) {
+
+                    positions.add(new Position(Cell.column(c, columns) + 1,
+                            Cell.row(c, columns) + 1));
+                }
+            }
+
+            boards[g] = board;
+            lastCells[g] = cell;
+            lastPlayers[g] = player;
+            playedPositions.add(positions);
+        }
+    }
+
+    private int nextGame() {
+
+        game = (game + 1) & (GAMES - 1);
+        return game;
+    }
+
+    /** Evaluation of the played positions of one player */
+    @Benchmark
+    public boolean hasWonPositions() {
+
+        return Standings.hasWon(playedPositions.get(nextGame()), tokensToWin);
+    }
+
+    /** Evaluation of the whole board for one player */
+    @Benchmark
+    public boolean hasWonBoard() {
+
+        int g = nextGame();
+        return Standings.hasWon(boards[g], lastPlayers[g], tokensToWin);
+    }
+
+    /** Evaluation of the lines through the last move */
+    @Benchmark
+    public boolean hasWonWith() {
+
+        int g = nextGame();
+        return Standings.hasWonWith(boards[g], lastCells[g], tokensToWin);
+    }
+}
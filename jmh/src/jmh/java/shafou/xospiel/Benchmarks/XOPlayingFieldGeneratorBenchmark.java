@@ -0,0 +1,65 @@
+package shafou.xospiel.Benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import shafou.xospiel.PlayingField.Line;
+import shafou.xospiel.PlayingField.XOPlayingFieldGenerator;
+
+/**
+ *
+ * Measures the calculation of the lines of a playing field.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class XOPlayingFieldGeneratorBenchmark {
+
+    /** Shortening of the lines as used by the playing field view */
+    private static final int PROZENT = 5;
+
+    @Param({"3", "4", "5", "15"})
+    public int columnsAndRows;
+
+    private XOPlayingFieldGenerator generator;
+
+    @Setup
+    public void setUp() {
+
+        generator = new XOPlayingFieldGenerator(1080F, 1080F, columnsAndRows);
+    }
+
+    @Benchmark
+    public List<Line> calculatesLines() {
+
+        return generator.calculatesLines();
+    }
+
+    @Benchmark
+    public List<Line> calculatesShortenedLines() {
+
+        return generator.calculatesLines(PROZENT);
+    }
+
+    @Benchmark
+    public float[] calculatesLinePoints() {
+
+        return generator.calculatesLinePoints(PROZENT);
+    }
+}
@@ -0,0 +1,249 @@
+package shafou.xospiel.Server;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+import shafou.xospiel.GameLogic.Player;
+
+/**
+ *
+ * This class is a blocking client of the {@link GameServer}, e.g. for tests
+ * and tournaments in the same process.
+ *
+ * <p>The messages of the server are read one by one with
+ * {@link #receive()}. The last received message is reused, it is only valid
+ * until the next call.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+public final class GameClient implements Closeable {
+
+    private final SocketChannel channel;
+
+    private final ByteBuffer in = ByteBuffer.allocate(2 * (Protocol.MAX_PAYLOAD + 1));
+
+    private final ByteBuffer out = ByteBuffer.allocate(Protocol.MAX_PAYLOAD + 1);
+
+    private final Message message = new Message();
+
+    /** Cells of the board of the running match */
+    private int cells;
+
+    private GameClient(SocketChannel channel) {
+
+        this.channel = channel;
+        this.in.flip();
+    }
+
+    /**
+     * Connects to a server.
+     *
+     * @param address Address of the server
+     * @return Connected client
+     * @throws IOException If the server can not be reached
+     */
+    public static GameClient connect(InetSocketAddress address) throws IOException {
+
+        SocketChannel channel = SocketChannel.open(address);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        return new GameClient(channel);
+    }
+
+    /**
+     * Waits for an opponent with the same board size.
+     *
+     * @param columns Columns of the board
+     * @param rows Rows of the board
+     * @param tokensToWin Tokens to win the match
+     * @throws IOException If the message can not be sent
+     */
+    public void join(int columns, int rows, int tokensToWin) throws IOException {
+
+        int start = Protocol.startFrame(out, Protocol.JOIN);
+        out.put((byte) columns);
+        out.put((byte) rows);
+        out.put((byte) tokensToWin);
+        Protocol.endFrame(out, start);
+        send();
+    }
+
+    /**
+     * Plays a move in the running match.
+     *
+     * @param cell Index of the cell
+     * @throws IOException If the message can not be sent
+     */
+    public void move(int cell) throws IOException {
+
+        if(cells == 0) {
+
+            throw new IllegalStateException("The client has not joined a match");
+        }
+
+        int start = Protocol.startFrame(out, Protocol.MOVE);
+        Protocol.putCell(out, cell, cells);
+        Protocol.endFrame(out, start);
+        send();
+    }
+
+    /**
+     * Gives up the running match or stops waiting for an opponent.
+     *
+     * @throws IOException If the message can not be sent
+     */
+    public void leave() throws IOException {
+
+        int start = Protocol.startFrame(out, Protocol.LEAVE);
+        Protocol.endFrame(out, start);
+        send();
+    }
+
+    /**
+     * Waits for the next message of the server.
+     *
+     * @return The message, only valid until the next call
+     * @throws IOException If the connection is closed
+     */
+    public Message receive() throws IOException {
+
+        while(in.remaining() == 0 || in.remaining() < (in.get(in.position()) & 0xFF) + 1) {
+
+            in.compact();
+
+            if(channel.read(in) < 0) {
+
+                throw new EOFException("The server closed the connection");
+            }
+
+            in.flip();
+        }
+
+        int end = in.position() + (in.get() & 0xFF);
+
+        message.type = in.get();
+
+        switch(message.type) {
+
+            case Protocol.JOINED:
+                message.sessionId = in.getLong();
+                message.player = Player.values()[in.get()];
+                message.startingPlayer = Player.values()[in.get()];
+                message.columns = in.get();
+                message.rows = in.get();
+                message.tokensToWin = in.get();
+                cells = message.columns * message.rows;
+                break;
+            case Protocol.MOVED:
+                message.player = Player.values()[in.get()];
+                message.cell = Protocol.getCell(in, cells);
+                break;
+            case Protocol.RESULT:
+                message.result = in.get();
+                break;
+            case Protocol.ERROR:
+                message.error = in.get();
+                break;
+            default:
+                throw new IOException("Unknown message type " + message.type);
+        }
+
+        in.position(end + 1);
+        return message;
+    }
+
+    private void send() throws IOException {
+
+        out.flip();
+
+        while(out.hasRemaining()) {
+
+            channel.write(out);
+        }
+
+        out.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        channel.close();
+    }
+
+    /**
+     * One message of the server. Only the values of the type of the message
+     * are set.
+     */
+    public static final class Message {
+
+        private byte type;
+
+        private long sessionId;
+
+        private Player player;
+
+        private Player startingPlayer;
+
+        private int columns;
+
+        private int rows;
+
+        private int tokensToWin;
+
+        private int cell;
+
+        private byte result;
+
+        private byte error;
+
+        public byte getType() {
+            return type;
+        }
+
+        public long getSessionId() {
+            return sessionId;
+        }
+
+        /** Returns the own player after JOINED or the moving player after MOVED */
+        public Player getPlayer() {
+            return player;
+        }
+
+        public Player getStartingPlayer() {
+            return startingPlayer;
+        }
+
+        public int getColumns() {
+            return columns;
+        }
+
+        public int getRows() {
+            return rows;
+        }
+
+        public int getTokensToWin() {
+            return tokensToWin;
+        }
+
+        public int getCell() {
+            return cell;
+        }
+
+        public byte getResult() {
+            return result;
+        }
+
+        public byte getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,614 @@
+package shafou.xospiel.Server;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import shafou.xospiel.GameLogic.GameSession;
+import shafou.xospiel.GameLogic.GameSessionRegistry;
+import shafou.xospiel.GameLogic.GameState;
+import shafou.xospiel.GameLogic.Player;
+
+/**
+ *
+ * This class hosts matches between remote players.
+ *
+ * <p>One thread serves all connections with a NIO selector. A client joins
+ * with a board size and is paired with the next client that joins with the
+ * same size. The client whose JOIN is handled first plays X and starts, the
+ * JOINs of different clients may be handled in any order. Every accepted
+ * move is sent to both players of the match, the end of the match is sent
+ * as a result. The messages are described in {@link Protocol}.
+ *
+ * <p>The buffers of a connection are allocated once, reading and answering
+ * a move does not allocate any objects. Nagle's algorithm is disabled, so a
+ * move is sent at once.
+ *
+ * java shafou.xospiel.Server.GameServer [port]
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+public final class GameServer {
+
+    /** Port of the server if no port is given */
+    public static final int DEFAULT_PORT = 4711;
+
+    /** Smallest and largest columns and rows of a board */
+    private static final int MIN_SIZE = 3;
+    private static final int MAX_SIZE = 19;
+
+    /** Size of the buffers of a connection */
+    private static final int READ_BUFFER = 2 * (Protocol.MAX_PAYLOAD + 1);
+    private static final int WRITE_BUFFER = 4096;
+
+    private final InetSocketAddress address;
+
+    /** Sessions of the running matches */
+    private final GameSessionRegistry sessions = new GameSessionRegistry();
+
+    /** Client waiting for an opponent per board size, only used by the server thread */
+    private final Map<Integer, Connection> waiting = new HashMap<>();
+
+    /** Amount of waiting clients, written by the server thread */
+    private volatile int waitingCount;
+
+    private Selector selector;
+
+    private ServerSocketChannel serverChannel;
+
+    private Thread thread;
+
+    private volatile boolean running;
+
+    /**
+     * @param port Port of the server, 0 for any free port
+     */
+    public GameServer(int port) {
+
+        this(new InetSocketAddress(port));
+    }
+
+    /**
+     * @param address Address of the server
+     */
+    public GameServer(InetSocketAddress address) {
+
+        this.address = address;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        GameServer server = new GameServer(port);
+
+        System.out.println("Game server listening on " + server.start());
+        server.thread.join();
+    }
+
+    /**
+     * Opens the server socket and starts the server thread.
+     *
+     * @return Address the server is listening on
+     * @throws IOException If the socket can not be opened
+     */
+    public synchronized InetSocketAddress start() throws IOException {
+
+        if(running) {
+
+            throw new IllegalStateException("The server is already running");
+        }
+
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        serverChannel.bind(address);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        running = true;
+        thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                serve();
+            }
+        }, "GameServer");
+        thread.start();
+
+        return (InetSocketAddress) serverChannel.getLocalAddress();
+    }
+
+    /**
+     * Stops the server thread and closes all connections.
+     *
+     * @throws InterruptedException If the calling thread is interrupted
+     */
+    public synchronized void stop() throws InterruptedException {
+
+        if(!running) {
+
+            return;
+        }
+
+        running = false;
+        selector.wakeup();
+        thread.join();
+    }
+
+    /**
+     * @return Amount of running matches
+     */
+    public int getMatchCount() {
+
+        return sessions.size();
+    }
+
+    /**
+     * @return Amount of clients waiting for an opponent
+     */
+    public int getWaitingCount() {
+
+        return waitingCount;
+    }
+
+    /**
+     * Loop of the server thread.
+     */
+    private void serve() {
+
+        try {
+
+            while(running) {
+
+                selector.select();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+
+                while(keys.hasNext()) {
+
+                    SelectionKey key = keys.next();
+                    keys.remove();
+
+                    if(!key.isValid()) {
+
+                        continue;
+                    }
+
+                    if(key.isAcceptable()) {
+
+                        accept();
+                        continue;
+                    }
+
+                    Connection connection = (Connection) key.attachment();
+
+                    try {
+
+                        if(key.isReadable()) {
+
+                            read(connection);
+                        }
+
+                        if(key.isValid() && key.isWritable()) {
+
+                            flush(connection);
+                        }
+                    } catch(IOException e) {
+
+                        close(connection);
+                    }
+                }
+            }
+        } catch(IOException e) {
+
+            throw new IllegalStateException("The selector of the game server failed", e);
+        } finally {
+
+            for(SelectionKey key : selector.keys()) {
+
+                if(key.attachment() instanceof Connection) {
+
+                    close((Connection) key.attachment());
+                }
+            }
+
+            closeQuietly(serverChannel);
+            closeQuietly(selector);
+        }
+    }
+
+    private void accept() throws IOException {
+
+        SocketChannel channel = serverChannel.accept();
+
+        if(channel == null) {
+
+            return;
+        }
+
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+
+        Connection connection = new Connection(channel);
+        connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+    }
+
+    /**
+     * Reads the available bytes and handles all complete frames.
+     */
+    private void read(Connection connection) throws IOException {
+
+        ByteBuffer in = connection.in;
+
+        if(connection.channel.read(in) < 0) {
+
+            close(connection);
+            return;
+        }
+
+        in.flip();
+
+        while(in.remaining() > 0 && !connection.closed) {
+
+            int length = in.get(in.position()) & 0xFF;
+
+            if(in.remaining() < length + 1) {
+
+                break;
+            }
+
+            int end = in.position() + length + 1;
+            int limit = in.limit();
+
+            in.position(in.position() + 1);
+            in.limit(end);
+
+            try {
+
+                handle(connection, in);
+            } catch(BufferUnderflowException e) {
+
+                sendError(connection, Protocol.ERROR_BAD_MESSAGE);
+            }
+
+            in.limit(limit);
+            in.position(end);
+        }
+
+        in.compact();
+    }
+
+    /**
+     * Handles one message of a client.
+     *
+     * @param connection Connection of the client
+     * @param message Payload of the frame, starting with the type
+     */
+    private void handle(Connection connection, ByteBuffer message) {
+
+        switch(message.get()) {
+
+            case Protocol.JOIN:
+                join(connection, message.get() & 0xFF, message.get() & 0xFF, message.get() & 0xFF);
+                break;
+            case Protocol.MOVE:
+                move(connection, message);
+                break;
+            case Protocol.LEAVE:
+                leave(connection);
+                break;
+            default:
+                sendError(connection, Protocol.ERROR_BAD_MESSAGE);
+        }
+    }
+
+    /**
+     * Pairs a client with a waiting client of the same board size or lets it
+     * wait for an opponent.
+     */
+    private void join(Connection connection, int columns, int rows, int tokensToWin) {
+
+        if(connection.match != null || connection.waitingFor != null
+                || columns < MIN_SIZE || columns > MAX_SIZE || rows < MIN_SIZE || rows > MAX_SIZE
+                || tokensToWin < MIN_SIZE || tokensToWin > Math.max(columns, rows)) {
+
+            sendError(connection, Protocol.ERROR_BAD_MESSAGE);
+            return;
+        }
+
+        Integer size = (columns << 16) | (rows << 8) | tokensToWin;
+        Connection opponent = waiting.remove(size);
+
+        if(opponent == null) {
+
+            connection.waitingFor = size;
+            waiting.put(size, connection);
+            waitingCount = waiting.size();
+            return;
+        }
+
+        waitingCount = waiting.size();
+
+        opponent.waitingFor = null;
+
+        Match match = new Match(sessions.create(columns, rows, tokensToWin, Player.X), opponent, connection);
+        opponent.match = match;
+        opponent.player = Player.X;
+        connection.match = match;
+        connection.player = Player.O;
+
+        sendJoined(opponent);
+        sendJoined(connection);
+    }
+
+    /**
+     * Plays the move of a client and sends it to both players.
+     */
+    private void move(Connection connection, ByteBuffer message) {
+
+        Match match = connection.match;
+
+        if(match == null) {
+
+            sendError(connection, Protocol.ERROR_NOT_IN_MATCH);
+            return;
+        }
+
+        GameState state = match.session.getState();
+        int cell = Protocol.getCell(message, state.getBoard().getCells());
+
+        if(state.getCurrentPlayer() != connection.player) {
+
+            sendError(connection, Protocol.ERROR_NOT_YOUR_TURN);
+            return;
+        }
+
+        if(cell >= state.getBoard().getCells() || !match.session.play(cell)) {
+
+            sendError(connection, Protocol.ERROR_INVALID_MOVE);
+            return;
+        }
+
+        sendMoved(match.x, connection.player, cell, state.getBoard().getCells());
+        sendMoved(match.o, connection.player, cell, state.getBoard().getCells());
+
+        if(state.isOver()) {
+
+            byte result = state.getWinner() == null ? Protocol.RESULT_DRAW
+                    : state.getWinner() == Player.X ? Protocol.RESULT_X : Protocol.RESULT_O;
+
+            endMatch(match, result);
+        }
+    }
+
+    /**
+     * Ends the match or stops waiting for an opponent. The opponent wins.
+     */
+    private void leave(Connection connection) {
+
+        if(connection.waitingFor != null) {
+
+            waiting.remove(connection.waitingFor);
+            waitingCount = waiting.size();
+            connection.waitingFor = null;
+        }
+
+        if(connection.match != null) {
+
+            endMatch(connection.match, Protocol.RESULT_ABORTED);
+        }
+    }
+
+    /**
+     * Sends the result to both players and removes the session of the match.
+     */
+    private void endMatch(Match match, byte result) {
+
+        sessions.close(match.session.getId());
+        match.x.match = null;
+        match.o.match = null;
+
+        sendResult(match.x, result);
+        sendResult(match.o, result);
+    }
+
+    private void sendJoined(Connection connection) {
+
+        GameSession session = connection.match.session;
+        ByteBuffer out = connection.out;
+
+        try {
+
+            int start = Protocol.startFrame(out, Protocol.JOINED);
+            out.putLong(session.getId());
+            out.put((byte) connection.player.ordinal());
+            out.put((byte) session.getState().getStartingPlayer().ordinal());
+            out.put((byte) session.getColumns());
+            out.put((byte) session.getRows());
+            out.put((byte) session.getTokensToWin());
+            Protocol.endFrame(out, start);
+        } catch(BufferOverflowException e) {
+
+            close(connection);
+            return;
+        }
+
+        send(connection);
+    }
+
+    private void sendMoved(Connection connection, Player player, int cell, int cells) {
+
+        ByteBuffer out = connection.out;
+
+        try {
+
+            int start = Protocol.startFrame(out, Protocol.MOVED);
+            out.put((byte) player.ordinal());
+            Protocol.putCell(out, cell, cells);
+            Protocol.endFrame(out, start);
+        } catch(BufferOverflowException e) {
+
+            close(connection);
+            return;
+        }
+
+        send(connection);
+    }
+
+    private void sendResult(Connection connection, byte result) {
+
+        sendByte(connection, Protocol.RESULT, result);
+    }
+
+    private void sendError(Connection connection, byte error) {
+
+        sendByte(connection, Protocol.ERROR, error);
+    }
+
+    private void sendByte(Connection connection, byte type, byte value) {
+
+        ByteBuffer out = connection.out;
+
+        try {
+
+            int start = Protocol.startFrame(out, type);
+            out.put(value);
+            Protocol.endFrame(out, start);
+        } catch(BufferOverflowException e) {
+
+            close(connection);
+            return;
+        }
+
+        send(connection);
+    }
+
+    /**
+     * Writes the buffered messages of a connection, a client that can not
+     * receive them is closed.
+     */
+    private void send(Connection connection) {
+
+        try {
+
+            flush(connection);
+        } catch(IOException e) {
+
+            close(connection);
+        }
+    }
+
+    /**
+     * Writes as many buffered bytes as possible and waits for the socket to
+     * become writable if bytes are left.
+     */
+    private void flush(Connection connection) throws IOException {
+
+        if(connection.closed) {
+
+            return;
+        }
+
+        ByteBuffer out = connection.out;
+
+        out.flip();
+        connection.channel.write(out);
+        out.compact();
+
+        connection.key.interestOps(out.position() > 0
+                ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+    }
+
+    /**
+     * Closes a connection, the opponent of a running match wins.
+     */
+    private void close(Connection connection) {
+
+        if(connection.closed) {
+
+            return;
+        }
+
+        connection.closed = true;
+        connection.key.cancel();
+        closeQuietly(connection.channel);
+        leave(connection);
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+
+        try {
+
+            if(closeable != null) {
+
+                closeable.close();
+            }
+        } catch(IOException e) {
+
+            /** Nothing left to clean up */
+        }
+    }
+
+    /**
+     * State of one client.
+     */
+    private static final class Connection {
+
+        private final SocketChannel channel;
+
+        private final ByteBuffer in = ByteBuffer.allocate(READ_BUFFER);
+
+        private final ByteBuffer out = ByteBuffer.allocate(WRITE_BUFFER);
+
+        private SelectionKey key;
+
+        /** Running match or <code>null</code> */
+        private Match match;
+
+        /** Player of the client in the running match */
+        private Player player;
+
+        /** Board size the client is waiting for or <code>null</code> */
+        private Integer waitingFor;
+
+        private boolean closed;
+
+        private Connection(SocketChannel channel) {
+
+            this.channel = channel;
+        }
+    }
+
+    /**
+     * Session and players of one match.
+     */
+    private static final class Match {
+
+        private final GameSession session;
+
+        private final Connection x;
+
+        private final Connection o;
+
+        private Match(GameSession session, Connection x, Connection o) {
+
+            this.session = session;
+            this.x = x;
+            this.o = o;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package shafou.xospiel.Server;
+
+import java.nio.ByteBuffer;
+
+/**
+ *
+ * This class defines the binary protocol between the game server and its
+ * clients.
+ *
+ * <p>Every message is a frame of one unsigned length byte followed by the
+ * payload. The first byte of the payload is the type of the message:
+ *
+ * Client to server:
+ *  JOIN    columns, rows, tokens to win
+ *  MOVE    cell
+ *  LEAVE
+ *
+ * Server to client:
+ *  JOINED  session id (8 bytes), own player, starting player, columns, rows,
+ *          tokens to win
+ *  MOVED   player, cell
+ *  RESULT  result
+ *  ERROR   error code
+ *
+ * <p>A cell is one unsigned byte on boards with up to 256 cells and two bytes
+ * on larger boards. Players are sent as {@link shafou.xospiel.GameLogic.Player}
+ * ordinals.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Class created.
+ */
+
+public final class Protocol {
+
+    /** Largest payload of a frame */
+    public static final int MAX_PAYLOAD = 255;
+
+    /** Types of the messages of a client */
+    public static final byte JOIN = 1;
+    public static final byte MOVE = 2;
+    public static final byte LEAVE = 3;
+
+    /** Types of the messages of the server */
+    public static final byte JOINED = 11;
+    public static final byte MOVED = 12;
+    public static final byte RESULT = 13;
+    public static final byte ERROR = 14;
+
+    /** Results of a match */
+    public static final byte RESULT_X = 0;
+    public static final byte RESULT_O = 1;
+    public static final byte RESULT_DRAW = 2;
+    public static final byte RESULT_ABORTED = 3;
+
+    /** Error codes */
+    public static final byte ERROR_NOT_IN_MATCH = 1;
+    public static final byte ERROR_NOT_YOUR_TURN = 2;
+    public static final byte ERROR_INVALID_MOVE = 3;
+    public static final byte ERROR_BAD_MESSAGE = 4;
+
+    /** Boards with more cells send a cell with two bytes */
+    private static final int ONE_BYTE_CELLS = 256;
+
+    private Protocol() {
+    }
+
+    /**
+     * Writes a cell with one or two bytes.
+     *
+     * @param buffer Receives the cell
+     * @param cell Index of the cell
+     * @param cells Amount of cells of the board
+     */
+    public static void putCell(ByteBuffer buffer, int cell, int cells) {
+
+        if(cells <= ONE_BYTE_CELLS) {
+
+            buffer.put((byte) cell);
+        } else {
+
+            buffer.putShort((short) cell);
+        }
+    }
+
+    /**
+     * Reads a cell with one or two bytes.
+     *
+     * @param buffer Holds the cell
+     * @param cells Amount of cells of the board
+     * @return Index of the cell
+     */
+    public static int getCell(ByteBuffer buffer, int cells) {
+
+        return cells <= ONE_BYTE_CELLS ? buffer.get() & 0xFF : buffer.getShort() & 0xFFFF;
+    }
+
+    /**
+     * @param cells Amount of cells of the board
+     * @return Bytes of a cell
+     */
+    public static int cellBytes(int cells) {
+
+        return cells <= ONE_BYTE_CELLS ? 1 : 2;
+    }
+
+    /**
+     * Starts a frame, the length is written by {@link #endFrame(ByteBuffer, int)}.
+     *
+     * @param buffer Receives the frame
+     * @param type Type of the message
+     * @return Position of the length byte
+     */
+    public static int startFrame(ByteBuffer buffer, byte type) {
+
+        int start = buffer.position();
+        buffer.put((byte) 0);
+        buffer.put(type);
+        return start;
+    }
+
+    /**
+     * Writes the length of a frame.
+     *
+     * @param buffer Holds the frame
+     * @param start Position of the length byte
+     */
+    public static void endFrame(ByteBuffer buffer, int start) {
+
+        buffer.put(start, (byte) (buffer.position() - start - 1));
+    }
+}
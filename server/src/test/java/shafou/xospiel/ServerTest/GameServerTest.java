@@ -0,0 +1,229 @@
+package shafou.xospiel.ServerTest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import shafou.xospiel.GameLogic.Player;
+import shafou.xospiel.Server.GameClient;
+import shafou.xospiel.Server.GameServer;
+import shafou.xospiel.Server.Protocol;
+
+import static com.google.common.truth.Truth.assertThat;
+
+/**
+ *
+ * Diese Klasse testet den GameServer mit Clients im selben Prozess.
+ *
+ * @author Sharif Elfouly
+ * @version 1.0
+ *
+ * Change log:
+ * 1) 17.10.2026 ELF Klasse erstellt.
+ */
+
+public class GameServerTest {
+
+    private GameServer server;
+
+    private InetSocketAddress adresse;
+
+    @Before public void starten() throws IOException {
+
+        server = new GameServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        adresse = server.start();
+    }
+
+    @After public void stoppen() throws InterruptedException {
+
+        server.stop();
+    }
+
+    @Test public void Beitreten_ZweiClients_SpielGestartet() throws IOException {
+
+        try(GameClient x = GameClient.connect(adresse); GameClient o = GameClient.connect(adresse)) {
+
+            beitretenNacheinander(x, o, 3, 3, 3);
+
+            GameClient.Message nachricht = x.receive();
+            long sitzung = nachricht.getSessionId();
+
+            assertThat(nachricht.getType()).isEqualTo(Protocol.JOINED);
+            assertThat(nachricht.getPlayer()).isEqualTo(Player.X);
+            assertThat(nachricht.getStartingPlayer()).isEqualTo(Player.X);
+
+            nachricht = o.receive();
+
+            assertThat(nachricht.getPlayer()).isEqualTo(Player.O);
+            assertThat(nachricht.getSessionId()).isEqualTo(sitzung);
+            assertThat(nachricht.getColumns()).isEqualTo(3);
+            assertThat(server.getMatchCount()).isEqualTo(1);
+        }
+    }
+
+    @Test public void Spielen_XGewinnt_ErgebnisAnBeide() throws IOException {
+
+        try(GameClient x = GameClient.connect(adresse); GameClient o = GameClient.connect(adresse)) {
+
+            beitreten(x, o, 3, 3, 3);
+
+            /**
+             * X X X
+             * O O .
+             * . . .
+             */
+            int[] zuege = {0, 3, 1, 4, 2};
+            for(int i = 0; i < zuege.length; i++) {
+
+                (i % 2 == 0 ? x : o).move(zuege[i]);
+
+                for(GameClient client : new GameClient[] {x, o}) {
+
+                    GameClient.Message nachricht = client.receive();
+
+                    assertThat(nachricht.getType()).isEqualTo(Protocol.MOVED);
+                    assertThat(nachricht.getCell()).isEqualTo(zuege[i]);
+                }
+            }
+
+            assertThat(x.receive().getResult()).isEqualTo(Protocol.RESULT_X);
+            assertThat(o.receive().getResult()).isEqualTo(Protocol.RESULT_X);
+        }
+    }
+
+    @Test public void Zug_FalscherSpielerUndBelegt_Fehler() throws IOException {
+
+        try(GameClient x = GameClient.connect(adresse); GameClient o = GameClient.connect(adresse)) {
+
+            beitreten(x, o, 3, 3, 3);
+
+            o.move(4);
+            assertThat(o.receive().getError()).isEqualTo(Protocol.ERROR_NOT_YOUR_TURN);
+
+            x.move(4);
+            x.receive();
+            o.receive();
+
+            o.move(4);
+            assertThat(o.receive().getError()).isEqualTo(Protocol.ERROR_INVALID_MOVE);
+
+            o.move(9);
+            assertThat(o.receive().getError()).isEqualTo(Protocol.ERROR_INVALID_MOVE);
+        }
+    }
+
+    @Test public void Verbindung_Getrennt_GegnerErhaeltAbbruch() throws IOException {
+
+        try(GameClient x = GameClient.connect(adresse)) {
+
+            GameClient o = GameClient.connect(adresse);
+            beitreten(x, o, 4, 4, 3);
+            o.close();
+
+            GameClient.Message nachricht = x.receive();
+
+            assertThat(nachricht.getType()).isEqualTo(Protocol.RESULT);
+            assertThat(nachricht.getResult()).isEqualTo(Protocol.RESULT_ABORTED);
+        }
+    }
+
+    @Test public void Spielen_19x19_ZellenMitZweiBytes() throws IOException {
+
+        try(GameClient x = GameClient.connect(adresse); GameClient o = GameClient.connect(adresse)) {
+
+            beitreten(x, o, 19, 19, 5);
+
+            x.move(360);
+
+            assertThat(x.receive().getCell()).isEqualTo(360);
+            assertThat(o.receive().getCell()).isEqualTo(360);
+        }
+    }
+
+    @Test public void Spielen_VieleSpiele_AlleBeendet() throws IOException {
+
+        GameClient[] clients = new GameClient[200];
+
+        try {
+
+            /** Alle Spiele laufen gleichzeitig */
+            for(int i = 0; i < clients.length; i += 2) {
+
+                clients[i] = GameClient.connect(adresse);
+                clients[i + 1] = GameClient.connect(adresse);
+                beitreten(clients[i], clients[i + 1], 3, 3, 3);
+            }
+
+            for(int i = 0; i < clients.length; i += 2) {
+
+                spielen(clients[i], clients[i + 1], 0, 3, 1, 4, 2);
+            }
+
+            assertThat(server.getMatchCount()).isEqualTo(0);
+        } finally {
+
+            for(GameClient client : clients) {
+
+                if(client != null) {
+
+                    client.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Lässt zwei Clients einem Spiel beitreten und liest die Antworten.
+     */
+    private void beitreten(GameClient x, GameClient o, int spalten, int reihen, int steine)
+            throws IOException {
+
+        beitretenNacheinander(x, o, spalten, reihen, steine);
+        x.receive();
+        o.receive();
+    }
+
+    /**
+     * Der zweite Client tritt erst bei, wenn der Server den ersten Client
+     * bearbeitet hat. Sonst kann der Server die Clients in beliebiger
+     * Reihenfolge bearbeiten und der zweite Client würde X spielen.
+     */
+    private void beitretenNacheinander(GameClient x, GameClient o, int spalten, int reihen,
+                                       int steine) throws IOException {
+
+        int wartend = server.getWaitingCount();
+        x.join(spalten, reihen, steine);
+
+        long ende = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        while(server.getWaitingCount() == wartend) {
+
+            if(System.nanoTime() > ende) {
+
+                throw new AssertionError("Der Server hat den ersten Client nicht bearbeitet");
+            }
+
+            Thread.yield();
+        }
+
+        o.join(spalten, reihen, steine);
+    }
+
+    private static void spielen(GameClient x, GameClient o, int... zuege) throws IOException {
+
+        for(int i = 0; i < zuege.length; i++) {
+
+            (i % 2 == 0 ? x : o).move(zuege[i]);
+            x.receive();
+            o.receive();
+        }
+
+        x.receive();
+        o.receive();
+    }
+}